@@ -39,8 +39,8 @@ public final class Main {
         profiler.start(args);
     }
 
-    public static void incrementBalFunctionCount() {
-        profiler.incrementBalFunctionCount();
+    public static int incrementBalFunctionCount() {
+        return profiler.incrementBalFunctionCount();
     }
 
     public static String getBalJarArgs() {
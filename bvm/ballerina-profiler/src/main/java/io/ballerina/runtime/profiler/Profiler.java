@@ -20,6 +20,7 @@ package io.ballerina.runtime.profiler;
 
 import io.ballerina.runtime.profiler.codegen.ProfilerClassLoader;
 import io.ballerina.runtime.profiler.codegen.ProfilerMethodWrapper;
+import io.ballerina.runtime.profiler.sampling.SampleAnalyzer;
 import io.ballerina.runtime.profiler.ui.HttpServer;
 import io.ballerina.runtime.profiler.ui.JsonParser;
 import io.ballerina.runtime.profiler.util.Constants;
@@ -36,7 +37,9 @@ import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
@@ -55,10 +58,13 @@ import static io.ballerina.runtime.profiler.util.Constants.PERFORMANCE_JSON;
  */
 public class Profiler {
 
+    private static final int SAMPLING_STACK_DEPTH = 2048;
+
     private final long profilerStartTime;
     private String balJarArgs = null;
     private String balJarName = null;
     private String profilerDebugArg = null;
+    private int samplingIntervalMillis = 0;
     private final List<String> instrumentedPaths = new ArrayList<>();
     private final List<String> instrumentedFiles = new ArrayList<>();
     private final List<String> utilInitPaths = new ArrayList<>();
@@ -67,6 +73,9 @@ public class Profiler {
     private int moduleCount = 0;
     private final ProfilerMethodWrapper profilerMethodWrapper;
     private final String currentDir;
+    private Set<String> sampledClasses = null;
+    private Path recordingPath = null;
+    private boolean sampledProfileWritten = false;
 
     public Profiler(long profilerStartTime) {
         this.profilerStartTime = profilerStartTime;
@@ -77,6 +86,17 @@ public class Profiler {
     private void addShutdownHookAndCleanup() {
         // Add a shutdown hook to stop the profiler and parse the output when the program is closed.
         Runtime.getRuntime().addShutdownHook(Thread.ofVirtual().unstarted(() -> {
+            // When the profiler is interrupted, e.g. with Ctrl-C, the hook runs while the executable is still writing
+            // its output, hence wait for it and for the sampled profile before reading the output.
+            try {
+                profilerMethodWrapper.waitForExecutable();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ProfilerException("Interrupted while waiting for the executable to exit", e);
+            }
+            if (samplingIntervalMillis > 0) {
+                writeSampledProfile();
+            }
             try {
                 long profilerTotalTime = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS) -
                         profilerStartTime;
@@ -139,6 +159,10 @@ public class Profiler {
                     this.profilerDebugArg = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingIntervalMillis = extractSamplingIntervalArg(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -151,6 +175,19 @@ public class Profiler {
         return value;
     }
 
+    private int extractSamplingIntervalArg(String value) {
+        int samplingInterval;
+        try {
+            samplingInterval = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ProfilerException("Invalid sampling interval found: " + value, e);
+        }
+        if (samplingInterval <= 0) {
+            throw new ProfilerException("Invalid sampling interval found: " + value);
+        }
+        return samplingInterval;
+    }
+
     private String extractBalJarArgs(String value) {
         if (value == null || !value.startsWith("[") || !value.endsWith("]")) {
             throw new ProfilerException("Invalid JAR arguments found: " + value);
@@ -209,7 +246,7 @@ public class Profiler {
                 if (mainClassPackage == null || className.contains("$gen$")) {
                     continue;
                 }
-                if (className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className)) {
+                if (isProfiledClass(className, mainClassPackage)) {
                     try (InputStream inputStream = jarFile.getInputStream(jarFile.getJarEntry(className))) {
                         String sourceClassName = className.replace(Constants.CLASS_SUFFIX, "");
                         byte[] code = profilerMethodWrapper.modifyMethods(inputStream, sourceClassName);
@@ -229,6 +266,66 @@ public class Profiler {
         }
     }
 
+    private boolean isProfiledClass(String className, String mainClassPackage) {
+        return className.startsWith(mainClassPackage.split("/")[0]) || utilPaths.contains(className);
+    }
+
+    // Runs the executable with JFR execution sampling instead of instrumenting the functions.
+    private void initializeSampling() throws ProfilerException {
+        OUT_STREAM.printf("%s[3/6] Performing analysis...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+        Set<String> profiledClasses = new HashSet<>();
+        try {
+            ArrayList<String> classNames = new ArrayList<>();
+            findAllClassNames(balJarName, classNames);
+            findUtilityClasses(classNames);
+            String mainClassPackage = profilerMethodWrapper.mainClassFinder(new URLClassLoader(new URL[]{
+                    new File(balJarName).toURI().toURL()}));
+            for (String className : classNames) {
+                if (mainClassPackage != null && !className.contains("$gen$") &&
+                        isProfiledClass(className, mainClassPackage)) {
+                    profiledClasses.add(className.replace(Constants.CLASS_SUFFIX, ""));
+                }
+            }
+        } catch (Exception e) {
+            throw new ProfilerException("error occurred while performing analysis", e);
+        }
+        OUT_STREAM.printf("%s[4/6] Sampling functions every %d ms...%s%n", Constants.ANSI_CYAN,
+                samplingIntervalMillis, Constants.ANSI_RESET);
+        setSamplingState(profiledClasses, Path.of(currentDir, Constants.SAMPLING_RECORDING_FILE_NAME));
+        try {
+            profilerMethodWrapper.invokeMethods(profilerDebugArg, List.of(
+                    "-XX:FlightRecorderOptions:stackdepth=" + SAMPLING_STACK_DEPTH,
+                    "-XX:StartFlightRecording:filename=" + recordingPath + ",dumponexit=true," +
+                            "jdk.ExecutionSample#period=" + samplingIntervalMillis + "ms"));
+        } catch (IOException | InterruptedException e) {
+            throw new ProfilerException("error occurred while sampling the executable", e);
+        }
+        writeSampledProfile();
+    }
+
+    private synchronized void setSamplingState(Set<String> profiledClasses, Path recordingPath) {
+        this.sampledClasses = profiledClasses;
+        this.recordingPath = recordingPath;
+    }
+
+    // Called both after the executable exits and from the shutdown hook, which can run first when the profiler is
+    // interrupted. The recording is analyzed only once, and the shutdown hook waits until the profile is written.
+    private synchronized void writeSampledProfile() {
+        if (sampledProfileWritten || recordingPath == null) {
+            return;
+        }
+        sampledProfileWritten = true;
+        try {
+            SampleAnalyzer sampleAnalyzer = new SampleAnalyzer(sampledClasses, samplingIntervalMillis);
+            sampleAnalyzer.analyze(recordingPath);
+            sampleAnalyzer.writeProfile(Path.of(currentDir, CPU_PRE_JSON));
+        } catch (IOException e) {
+            throw new ProfilerException("error occurred while sampling the executable", e);
+        } finally {
+            deleteFileIfExists(recordingPath.toString());
+        }
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
@@ -321,8 +418,9 @@ public class Profiler {
         }
     }
 
-    void incrementBalFunctionCount() {
-        balFunctionCount++;
+    // Returns the count before incrementing, which is used as the id of the instrumented function.
+    int incrementBalFunctionCount() {
+        return balFunctionCount++;
     }
 
     String getBalJarArgs() {
@@ -342,6 +440,12 @@ public class Profiler {
         addShutdownHookAndCleanup();
         printHeader();
         handleProfilerArguments(args);
+        if (samplingIntervalMillis > 0) {
+            OUT_STREAM.printf("%s[1/6] Initializing...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+            createTempJar();
+            initializeSampling();
+            return;
+        }
         extractProfiler();
         createTempJar();
         initializeProfiling();
@@ -43,8 +43,9 @@ public class ProfilerClassVisitor extends ClassVisitor {
     public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
         MethodVisitor methodVisitor = super.visitMethod(access, name, desc, signature, exceptions);
         if (desc.startsWith(STRAND_ARG) && !name.contains("$gen$")) {
-            Main.incrementBalFunctionCount();
-            return new StrandCheckAdapter(className, access, methodVisitor, name, desc, (access & Opcodes.ACC_STATIC));
+            int methodId = Main.incrementBalFunctionCount();
+            return new StrandCheckAdapter(className, access, methodVisitor, name, desc, (access & Opcodes.ACC_STATIC),
+                    methodId);
         }
         return methodVisitor;
     }
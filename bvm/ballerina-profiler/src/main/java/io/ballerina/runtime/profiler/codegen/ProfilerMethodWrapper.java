@@ -54,7 +54,14 @@ public class ProfilerMethodWrapper extends ClassLoader {
 
     public static final String JAVA_OPTS = "JAVA_OPTS";
 
+    // The running executable, which the shutdown hook of the profiler waits for
+    private volatile Process executableProcess;
+
     public void invokeMethods(String debugArg) throws IOException, InterruptedException {
+        invokeMethods(debugArg, List.of());
+    }
+
+    public void invokeMethods(String debugArg, List<String> jvmArgs) throws IOException, InterruptedException {
         String balJarArgs = Main.getBalJarArgs();
         List<String> commands = new ArrayList<>();
         String javaOpts = System.getenv().get(JAVA_OPTS);
@@ -62,6 +69,7 @@ public class ProfilerMethodWrapper extends ClassLoader {
         if (javaOpts != null) {
             commands.add(javaOpts.trim());
         }
+        commands.addAll(jvmArgs);
         commands.add("-jar");
         if (debugArg != null) {
             commands.add(debugArg);
@@ -77,6 +85,7 @@ public class ProfilerMethodWrapper extends ClassLoader {
             processBuilder.environment().put(JAVA_OPTS, javaOpts.trim());
         }
         Process process = processBuilder.start();
+        executableProcess = process;
         OUT_STREAM.printf(Constants.ANSI_CYAN + "[5/6] Running executable..." + Constants.ANSI_RESET + "%n");
         try (InputStreamReader streamReader = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8);
                 BufferedReader reader = new BufferedReader(streamReader)) {
@@ -85,6 +94,18 @@ public class ProfilerMethodWrapper extends ClassLoader {
         process.waitFor();
     }
 
+    /**
+     * Waits for the executable started by the profiler to exit, if it has been started.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void waitForExecutable() throws InterruptedException {
+        Process process = executableProcess;
+        if (process != null) {
+            process.waitFor();
+        }
+    }
+
     public String mainClassFinder(URLClassLoader manifestClassLoader) {
         try {
             URL manifestURL = manifestClassLoader.findResource("META-INF/MANIFEST.MF");
@@ -35,25 +35,25 @@ import static io.ballerina.runtime.profiler.util.Constants.STOP_PROFILE_DESCRIPT
 /**
  * This class is used as the advice adapter for the Ballerina profiler.
  * This will wrap the ballerina methods with
- * {@link io.ballerina.runtime.profiler.runtime.ProfileAnalyzer#start(Strand, String, String)} and
+ * {@link io.ballerina.runtime.profiler.runtime.ProfileAnalyzer#start(Strand, int, String)} and
  * {@link io.ballerina.runtime.profiler.runtime.ProfileAnalyzer#stop(Strand, Data)} methods.
  *
  * @since 2201.8.0
  */
 public class StrandCheckAdapter extends AdviceAdapter {
 
-    private final String className;
-    private final String methodName;
+    private final int methodId;
+    private final String stackElement;
     private final Type dataType;
     Label tryStart = new Label();
     int load;
     int stackKeyIndex;
 
     public StrandCheckAdapter(String className, int access, MethodVisitor mv, String methodName,
-                              String description, int load) {
+                              String description, int load, int methodId) {
         super(Opcodes.ASM9, mv, access, methodName, description);
-        this.className = className;
-        this.methodName = methodName;
+        this.methodId = methodId;
+        this.stackElement = className + "." + methodName;
         if (load == 0) {
             this.load = 1;
         } else {
@@ -69,14 +69,14 @@ public class StrandCheckAdapter extends AdviceAdapter {
         mv.visitLabel(tryStart);
     }
 
-    // It retrieves the profiler instance, gets the strand id and starts the profiling.
+    // It retrieves the profiler instance and starts the profiling with the method id assigned at instrumentation.
     @Override
     protected void onMethodEnter() {
         this.stackKeyIndex = this.newLocal(dataType);
         mv.visitMethodInsn(INVOKESTATIC, PROFILE_ANALYZER, "getInstance", GET_INSTANCE_DESCRIPTOR, false);
         mv.visitVarInsn(ALOAD, load);
-        mv.visitLdcInsn(className);
-        mv.visitLdcInsn(methodName);
+        mv.visitLdcInsn(methodId);
+        mv.visitLdcInsn(stackElement);
         mv.visitMethodInsn(INVOKEVIRTUAL, PROFILE_ANALYZER, "start", START_PROFILE_DESCRIPTOR, false);
         mv.visitVarInsn(ASTORE, this.stackKeyIndex);
     }
@@ -18,42 +18,83 @@
 
 package io.ballerina.runtime.profiler.runtime;
 
-import java.util.concurrent.ConcurrentHashMap;
+import io.ballerina.identifier.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class is used as a custom data type class for the Ballerina profiler.
+ * Each instance is a node of the call stack tree, which keeps the total time spent in the call stack ending at it.
  *
  * @since 2201.8.0
  */
 public class Data {
-    protected final String stackKey;
-    protected final String stackIndex;
-    protected String stackTrace = null;
-    public long totalTime;
-    private final ConcurrentHashMap<String, Long> startTimes = new ConcurrentHashMap<>();
 
-    public Data(String stackIndex, String stackKey) {
-        this.stackIndex = stackIndex;
-        this.stackKey = stackKey;
-        this.totalTime = 0L;
+    private static final Data[] NO_CHILDREN = new Data[0];
+
+    protected final Data parent;
+    private final int methodId;
+    private final String stackElement;
+    private final AtomicLong totalTimeNanos = new AtomicLong();
+    // Call stacks have few callees per caller, hence children are scanned linearly and copied on write.
+    private volatile Data[] children = NO_CHILDREN;
+
+    Data(Data parent, int methodId, String stackElement) {
+        this.parent = parent;
+        this.methodId = methodId;
+        this.stackElement = stackElement;
+    }
+
+    Data getChild(int childMethodId, String childStackElement) {
+        for (Data child : children) {
+            if (child.methodId == childMethodId) {
+                return child;
+            }
+        }
+        return addChild(childMethodId, childStackElement);
+    }
+
+    private synchronized Data addChild(int childMethodId, String childStackElement) {
+        Data[] currentChildren = children;
+        for (Data child : currentChildren) {
+            if (child.methodId == childMethodId) {
+                return child;
+            }
+        }
+        Data child = new Data(this, childMethodId, childStackElement);
+        Data[] newChildren = new Data[currentChildren.length + 1];
+        System.arraycopy(currentChildren, 0, newChildren, 0, currentChildren.length);
+        newChildren[currentChildren.length] = child;
+        children = newChildren;
+        return child;
+    }
+
+    void addTime(long elapsedNanos) {
+        totalTimeNanos.addAndGet(elapsedNanos);
+    }
+
+    Data[] getChildren() {
+        return children;
     }
 
-    public synchronized void start(String strandId) {
-        if (this.startTimes.containsKey(strandId)) {
-            return;
+    private String getCallStackString() {
+        List<String> stackElements = new ArrayList<>();
+        for (Data data = this; data.parent != null; data = data.parent) {
+            stackElements.add(0, "\"" + decodeStackElement(data.stackElement) + "\"");
         }
-        startTimes.put(strandId, TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS));
+        return "[" + String.join(",", stackElements) + "]";
     }
 
-    public synchronized void stop(String strandId) {
-        long elapsed = TimeUnit.MILLISECONDS.convert(System.nanoTime(),
-                TimeUnit.NANOSECONDS) - this.startTimes.remove(strandId);
-        this.totalTime += elapsed;
+    private static String decodeStackElement(String stackElement) {
+        return Utils.decodeIdentifier(stackElement.replace("$value$", ""));
     }
 
     private String getFormattedStats() {
-        return "{" + "\"time\": \"" + this.totalTime + "\", " + "\"stackTrace\": " + this.stackTrace + "}";
+        return "{" + "\"time\": \"" + TimeUnit.NANOSECONDS.toMillis(this.totalTimeNanos.get()) + "\", " +
+                "\"stackTrace\": " + getCallStackString() + "}";
     }
 
     @Override
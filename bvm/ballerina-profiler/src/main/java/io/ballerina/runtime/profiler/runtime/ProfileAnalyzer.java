@@ -25,74 +25,85 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
 
 import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
 import static io.ballerina.runtime.profiler.util.Constants.STRAND_PROFILER_STACK_PROPERTY;
 
 /**
  * This class is used as the main profiler class for the Ballerina profiler.
+ * <p>
+ * The profiled call stacks form a tree of {@link Data} nodes keyed by the method ids assigned at instrumentation
+ * time. The strand keeps its current node as a property, so that new strands continue from the call stack of the
+ * parent strand, and the start times of the calls are kept in a thread local stack since each strand runs on its
+ * own thread.
  *
  * @since 2201.8.0
  */
 public class ProfileAnalyzer {
 
-    private final ConcurrentHashMap<String, Data> profiles = new ConcurrentHashMap<>();
+    private final Data root = new Data(null, -1, null);
+    private final ThreadLocal<StartTimeStack> startTimes = ThreadLocal.withInitial(StartTimeStack::new);
+    private final LongSupplier nanoTime;
 
     private static class ProfilerHolder {
-        private static final ProfileAnalyzer PROFILER_INSTANCE = new ProfileAnalyzer();
+        private static final ProfileAnalyzer PROFILER_INSTANCE = createProfiler();
     }
 
     public static ProfileAnalyzer getInstance() {
         return ProfilerHolder.PROFILER_INSTANCE;
     }
 
-    private ProfileAnalyzer() {
-        addProfilerShutDownHook();
+    private static ProfileAnalyzer createProfiler() {
+        ProfileAnalyzer profiler = new ProfileAnalyzer();
+        profiler.addProfilerShutDownHook();
+        return profiler;
     }
 
-    public Data start(Strand strand, String className, String methodName) {
-        Object stacksObj = strand.getProperty(STRAND_PROFILER_STACK_PROPERTY);
-        String stackIndex = StackTraceMap.getStackIndex(className + "." + methodName) + "$";
-        String stackKey;
-        if (stacksObj != null) {
-            stackKey = stacksObj + stackIndex;
-        } else {
-            stackKey = stackIndex;
-        }
-        Data data;
-        if (this.profiles.containsKey(stackKey)) {
-            data = this.profiles.get(stackKey);
-        } else {
-            data = new Data(stackIndex, stackKey);
-            this.profiles.put(stackKey, data);
-        }
-        data.start(String.valueOf(strand.getId()));
-        strand.setProperty(STRAND_PROFILER_STACK_PROPERTY, stackKey);
+    // Only the shared instance writes the profile on shutdown, other instances are used to test the call tree.
+    ProfileAnalyzer() {
+        this(System::nanoTime);
+    }
+
+    // The time source is given by the tests, so that the recorded times do not depend on the scheduling of threads.
+    ProfileAnalyzer(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+    }
+
+    public Data start(Strand strand, int methodId, String stackElement) {
+        Object currentData = strand.getProperty(STRAND_PROFILER_STACK_PROPERTY);
+        Data parent = currentData != null ? (Data) currentData : root;
+        Data data = parent.getChild(methodId, stackElement);
+        strand.setProperty(STRAND_PROFILER_STACK_PROPERTY, data);
+        startTimes.get().push(nanoTime.getAsLong());
         return data;
     }
 
     public void stop(Strand strand, Data data) {
-        data.stop(String.valueOf(strand.getId()));
-        strand.setProperty(STRAND_PROFILER_STACK_PROPERTY, data.stackKey.substring(0,
-                data.stackKey.length() - data.stackIndex.length()));
+        data.addTime(nanoTime.getAsLong() - startTimes.get().pop());
+        strand.setProperty(STRAND_PROFILER_STACK_PROPERTY, data.parent);
     }
 
     public final String getProfileStackString() {
+        List<Data> dataList = new ArrayList<>();
+        collectData(root, dataList);
         StringBuilder sb = new StringBuilder("[");
-        ArrayList<Data> dataList = new ArrayList<>(this.profiles.values());
-        for (int i = 0; i < (dataList.size() - 1); i++) {
-            Data data = dataList.get(i);
-            data.stackTrace = StackTraceMap.getCallStackString(data.stackKey);
-            sb.append(data).append(",\n");
+        for (int i = 0; i < dataList.size(); i++) {
+            sb.append(dataList.get(i)).append(i < dataList.size() - 1 ? ",\n" : "\n");
         }
-        Data data = dataList.get(dataList.size() - 1);
-        data.stackTrace = StackTraceMap.getCallStackString(data.stackKey);
-        sb.append(data).append("\n");
         sb.append("]");
         return sb.toString();
     }
 
+    private void collectData(Data data, List<Data> dataList) {
+        for (Data child : data.getChildren()) {
+            dataList.add(child);
+            collectData(child, dataList);
+        }
+    }
+
     private void printProfilerOutput(String dataStream) {
         try (Writer myWriter = new FileWriter(CPU_PRE_JSON, StandardCharsets.UTF_8)) {
             myWriter.write(dataStream);
@@ -109,4 +120,21 @@ public class ProfileAnalyzer {
             profiler.printProfilerOutput(profiler.getProfileStackString());
         }));
     }
+
+    private static class StartTimeStack {
+
+        private long[] times = new long[64];
+        private int size = 0;
+
+        void push(long time) {
+            if (size == times.length) {
+                times = Arrays.copyOf(times, size * 2);
+            }
+            times[size++] = time;
+        }
+
+        long pop() {
+            return times[--size];
+        }
+    }
 }
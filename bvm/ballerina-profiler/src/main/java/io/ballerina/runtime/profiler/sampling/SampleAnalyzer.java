@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.profiler.sampling;
+
+import io.ballerina.identifier.Utils;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.profiler.util.Constants.STRAND_ARG;
+
+/**
+ * This class builds the Ballerina call stacks of a profile from the execution samples of a JFR recording.
+ * The output has the same format as the output of the instrumented profiler, where the time of a call stack is
+ * the number of samples taken while the call stack was executing multiplied by the sampling interval.
+ *
+ * @since 2201.11.0
+ */
+public class SampleAnalyzer {
+
+    private static final String EXECUTION_SAMPLE_EVENT = "jdk.ExecutionSample";
+
+    private final Set<String> profiledClasses;
+    private final long samplingIntervalMillis;
+    private final StackNode root = new StackNode(null, null);
+
+    public SampleAnalyzer(Set<String> profiledClasses, long samplingIntervalMillis) {
+        this.profiledClasses = profiledClasses;
+        this.samplingIntervalMillis = samplingIntervalMillis;
+    }
+
+    public void analyze(Path recordingPath) throws IOException {
+        try (RecordingFile recordingFile = new RecordingFile(recordingPath)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                if (!EXECUTION_SAMPLE_EVENT.equals(event.getEventType().getName())) {
+                    continue;
+                }
+                RecordedStackTrace stackTrace = event.getStackTrace();
+                if (stackTrace != null) {
+                    addSample(stackTrace.getFrames());
+                }
+            }
+        }
+    }
+
+    private void addSample(List<RecordedFrame> frames) {
+        String[] stackElements = new String[frames.size()];
+        for (int i = 0; i < stackElements.length; i++) {
+            RecordedFrame frame = frames.get(i);
+            if (frame.isJavaFrame()) {
+                RecordedMethod method = frame.getMethod();
+                stackElements[i] = getStackElement(method.getType().getName(), method.getName(),
+                        method.getDescriptor());
+            }
+        }
+        addSample(stackElements);
+    }
+
+    // Stack elements start from the top of the stack as the frames of a JFR stack trace, null elements are skipped
+    void addSample(String[] stackElements) {
+        StackNode node = root;
+        for (int i = stackElements.length - 1; i >= 0; i--) {
+            String stackElement = stackElements[i];
+            if (stackElement != null) {
+                node = node.getChild(stackElement);
+                node.time += samplingIntervalMillis;
+            }
+        }
+    }
+
+    // Returns the stack element for the frames of the methods instrumented by the instrumenting profiler
+    String getStackElement(String typeName, String methodName, String descriptor) {
+        if (!descriptor.startsWith(STRAND_ARG) || methodName.contains("$gen$")) {
+            return null;
+        }
+        String className = typeName.replace('.', '/');
+        if (!profiledClasses.contains(className)) {
+            return null;
+        }
+        return className + "." + methodName;
+    }
+
+    public void writeProfile(Path outputPath) throws IOException {
+        List<String> profiles = new ArrayList<>();
+        for (StackNode child : root.children.values()) {
+            collectProfiles(child, profiles);
+        }
+        try (Writer writer = Files.newBufferedWriter(outputPath, StandardCharsets.UTF_8)) {
+            writer.write("[" + String.join(",\n", profiles) + "\n]");
+        }
+    }
+
+    private void collectProfiles(StackNode node, List<String> profiles) {
+        profiles.add("{\"time\": \"" + node.time + "\", \"stackTrace\": " + node.getCallStackString() + "}");
+        for (StackNode child : node.children.values()) {
+            collectProfiles(child, profiles);
+        }
+    }
+
+    private static String decodeStackElement(String stackElement) {
+        return Utils.decodeIdentifier(stackElement.replace("$value$", ""));
+    }
+
+    private static class StackNode {
+
+        private final String stackElement;
+        private final StackNode parent;
+        private final Map<String, StackNode> children = new LinkedHashMap<>();
+        private long time;
+
+        StackNode(String stackElement, StackNode parent) {
+            this.stackElement = stackElement;
+            this.parent = parent;
+        }
+
+        StackNode getChild(String childStackElement) {
+            return children.computeIfAbsent(childStackElement, element -> new StackNode(element, this));
+        }
+
+        String getCallStackString() {
+            List<String> stackElements = new ArrayList<>();
+            for (StackNode node = this; node.parent != null; node = node.parent) {
+                stackElements.add(0, "\"" + decodeStackElement(node.stackElement) + "\"");
+            }
+            return "[" + String.join(",", stackElements) + "]";
+        }
+    }
+}
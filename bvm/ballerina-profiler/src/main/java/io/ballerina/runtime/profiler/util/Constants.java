@@ -39,6 +39,7 @@ public final class Constants {
     public static final String CPU_PRE_JSON = "cpu_pre.json";
     public static final String PERFORMANCE_JSON =  "performance_report.json";
     public static final String TEMP_JAR_FILE_NAME = "temp.jar";
+    public static final String SAMPLING_RECORDING_FILE_NAME = "profile.jfr";
     public static final String STRAND_PROFILER_STACK_PROPERTY = "b7a.profile.stack";
 
     public static final String STRAND_CLASS = "io/ballerina/runtime/internal/scheduling/Strand";
@@ -46,7 +47,7 @@ public final class Constants {
     public static final String STRING_CLASS = "java/lang/String";
     public static final String STRAND_ARG = "(L" + STRAND_CLASS;
     public static final String START_PROFILE_DESCRIPTOR =
-            "(L" + STRAND_CLASS + ";L" + STRING_CLASS + ";L" + STRING_CLASS + ";)L" + DATA_CLASS + ";";
+            "(L" + STRAND_CLASS + ";IL" + STRING_CLASS + ";)L" + DATA_CLASS + ";";
     public static final String STOP_PROFILE_DESCRIPTOR =
             "(L" + STRAND_CLASS + ";L" + DATA_CLASS + ";)V";
     public static final String PROFILE_ANALYZER = "io/ballerina/runtime/profiler/runtime/ProfileAnalyzer";
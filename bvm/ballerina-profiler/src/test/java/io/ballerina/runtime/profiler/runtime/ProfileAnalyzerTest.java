@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for building the call stack tree of instrumented calls.
+ *
+ * @since 2201.11.0
+ */
+public class ProfileAnalyzerTest {
+
+    private static final int MAIN_ID = 0;
+    private static final int COMPUTE_ID = 1;
+    private static final int WORKER_ID = 2;
+    private static final Pattern PROFILE_PATTERN =
+            Pattern.compile("\\{\"time\": \"(\\d+)\", \"stackTrace\": (\\[[^]]*])}");
+
+    @Test
+    public void testCallStackTree() {
+        // Each reading of the clock advances it by 10 milliseconds
+        AtomicLong clock = new AtomicLong();
+        ProfileAnalyzer profiler = new ProfileAnalyzer(() -> clock.getAndAdd(TimeUnit.MILLISECONDS.toNanos(10)));
+        Strand strand = new Strand(null, "main", null, true, null, null);
+
+        Data main = profiler.start(strand, MAIN_ID, "main");
+        for (int i = 0; i < 3; i++) {
+            Data compute = profiler.start(strand, COMPUTE_ID, "compute");
+            profiler.stop(strand, compute);
+        }
+        profiler.stop(strand, main);
+
+        Map<String, Long> profiles = getProfiles(profiler);
+        // Repeated calls of the same method from the same caller are aggregated into one node
+        Assert.assertEquals(profiles.keySet().toArray(), new String[]{"[\"main\"]", "[\"main\",\"compute\"]"});
+        Assert.assertEquals(profiles.get("[\"main\",\"compute\"]"), 30L);
+        Assert.assertEquals(profiles.get("[\"main\"]"), 70L);
+    }
+
+    @Test
+    public void testCallStackOfDifferentCallers() {
+        ProfileAnalyzer profiler = new ProfileAnalyzer();
+        Strand strand = new Strand(null, "main", null, true, null, null);
+
+        Data main = profiler.start(strand, MAIN_ID, "main");
+        profiler.stop(strand, profiler.start(strand, COMPUTE_ID, "compute"));
+        Data worker = profiler.start(strand, WORKER_ID, "worker");
+        profiler.stop(strand, profiler.start(strand, COMPUTE_ID, "compute"));
+        profiler.stop(strand, worker);
+        profiler.stop(strand, main);
+
+        Assert.assertEquals(getProfiles(profiler).keySet().toArray(), new String[]{
+                "[\"main\"]", "[\"main\",\"compute\"]", "[\"main\",\"worker\"]", "[\"main\",\"worker\",\"compute\"]"});
+    }
+
+    @Test
+    public void testCallStackOfChildStrand() {
+        ProfileAnalyzer profiler = new ProfileAnalyzer();
+        Strand strand = new Strand(null, "main", null, true, null, null);
+
+        Data main = profiler.start(strand, MAIN_ID, "main");
+        // A new strand continues from the call stack of its parent strand
+        Strand childStrand = new Strand(null, "worker", strand, true, null, null);
+        Data worker = profiler.start(childStrand, WORKER_ID, "worker");
+        profiler.stop(childStrand, worker);
+        profiler.stop(strand, profiler.start(strand, COMPUTE_ID, "compute"));
+        profiler.stop(strand, main);
+
+        Assert.assertEquals(getProfiles(profiler).keySet().toArray(), new String[]{
+                "[\"main\"]", "[\"main\",\"worker\"]", "[\"main\",\"compute\"]"});
+    }
+
+    private static Map<String, Long> getProfiles(ProfileAnalyzer profiler) {
+        Map<String, Long> profiles = new LinkedHashMap<>();
+        Matcher matcher = PROFILE_PATTERN.matcher(profiler.getProfileStackString());
+        while (matcher.find()) {
+            profiles.put(matcher.group(2), Long.parseLong(matcher.group(1)));
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.profiler.sampling;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for building profiles from the execution samples of a JFR recording.
+ *
+ * @since 2201.11.0
+ */
+public class SampleAnalyzerTest {
+
+    private static final long SAMPLING_INTERVAL_MILLIS = 10;
+    private static final String PROGRAM_TYPE = "testorg.program.main";
+    private static final String PROGRAM_CLASS = "testorg/program/main";
+    private static final String STRAND_DESCRIPTOR = "(Lio/ballerina/runtime/internal/scheduling/Strand;)V";
+    private static final String MAIN_FRAME = "\"" + PROGRAM_CLASS + ".main\"";
+    private static final String COMPUTE_FRAME = "\"" + PROGRAM_CLASS + ".compute\"";
+    private static final Pattern PROFILE_PATTERN =
+            Pattern.compile("\\{\"time\": \"(\\d+)\", \"stackTrace\": (\\[[^]]*])}");
+
+    private Path tempDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        tempDir = Files.createTempDirectory("sample-analyzer-test");
+    }
+
+    @Test
+    public void testGetStackElement() {
+        SampleAnalyzer analyzer = new SampleAnalyzer(Set.of(PROGRAM_CLASS), SAMPLING_INTERVAL_MILLIS);
+        Assert.assertEquals(analyzer.getStackElement(PROGRAM_TYPE, "main", STRAND_DESCRIPTOR), PROGRAM_CLASS + ".main");
+        // Only methods that take a strand are part of the call stack
+        Assert.assertNull(analyzer.getStackElement(PROGRAM_TYPE, "hash", "(I)J"));
+        Assert.assertNull(analyzer.getStackElement(PROGRAM_TYPE, "main$gen$lambda", STRAND_DESCRIPTOR));
+        Assert.assertNull(analyzer.getStackElement("testorg.program.other", "main", STRAND_DESCRIPTOR));
+    }
+
+    @Test
+    public void testProfileOfSamples() throws IOException {
+        SampleAnalyzer analyzer = new SampleAnalyzer(Set.of(PROGRAM_CLASS), SAMPLING_INTERVAL_MILLIS);
+        // The frames of a sample start from the top of the stack
+        for (int i = 0; i < 3; i++) {
+            analyzer.addSample(new String[]{null, PROGRAM_CLASS + ".compute", null, PROGRAM_CLASS + ".main", null});
+        }
+        analyzer.addSample(new String[]{PROGRAM_CLASS + ".main"});
+        analyzer.addSample(new String[]{null});
+
+        Map<String, Long> profiles = writeProfile(analyzer);
+        Assert.assertEquals(profiles.keySet().toArray(),
+                new String[]{"[" + MAIN_FRAME + "]", "[" + MAIN_FRAME + "," + COMPUTE_FRAME + "]"});
+        Assert.assertEquals(profiles.get("[" + MAIN_FRAME + "]"), 40L);
+        Assert.assertEquals(profiles.get("[" + MAIN_FRAME + "," + COMPUTE_FRAME + "]"), 30L);
+    }
+
+    @Test
+    public void testProfileWithoutSamples() throws IOException {
+        SampleAnalyzer analyzer = new SampleAnalyzer(Set.of(), SAMPLING_INTERVAL_MILLIS);
+        Assert.assertTrue(writeProfile(analyzer).isEmpty());
+    }
+
+    private Map<String, Long> writeProfile(SampleAnalyzer analyzer) throws IOException {
+        Path outputPath = Files.createTempFile(tempDir, "cpu_pre", ".json");
+        analyzer.writeProfile(outputPath);
+
+        Map<String, Long> profiles = new LinkedHashMap<>();
+        Matcher matcher = PROFILE_PATTERN.matcher(Files.readString(outputPath, StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            profiles.put(matcher.group(2), Long.parseLong(matcher.group(1)));
+        }
+        return profiles;
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+
+/**
+ * Represents a Ballerina function resolved using {@link Runtime#resolveFunction(Module, String)}.
+ * <p>
+ * The function and the default values of its parameters are looked up once when the function is resolved, hence an
+ * invoker should be reused to call the same function repeatedly.
+ *
+ * @since 2201.11.0
+ */
+@FunctionalInterface
+public interface FunctionInvoker {
+
+    /**
+     * Call the resolved Ballerina function.
+     *
+     * @param metadata Meta data of new strand.
+     * @param args     Arguments of the Ballerina function.
+     * @return Return value of the function.
+     */
+    Object call(StrandMetadata metadata, Object... args);
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.api;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.values.BObject;
+
+/**
+ * Represents a method of a Ballerina object type resolved using {@link Runtime#resolveMethod(ObjectType, String)}.
+ * <p>
+ * The method and the default values of its parameters are looked up once when the method is resolved, hence an
+ * invoker should be reused to call the same method repeatedly, e.g. to dispatch each request received by a listener
+ * to a service.
+ *
+ * @since 2201.11.0
+ */
+@FunctionalInterface
+public interface MethodInvoker {
+
+    /**
+     * Call the resolved method on the given object.
+     *
+     * @param object   Object Value, which should belong to the object type the method is resolved from, otherwise
+     *                 an error is thrown.
+     * @param metadata Meta data of new strand.
+     * @param args     Arguments of the Ballerina method.
+     * @return Return value of the method.
+     */
+    Object call(BObject object, StrandMetadata metadata, Object... args);
+}
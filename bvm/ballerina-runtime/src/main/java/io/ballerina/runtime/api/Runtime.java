@@ -18,6 +18,7 @@
 package io.ballerina.runtime.api;
 
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.BalRuntime;
@@ -78,6 +79,25 @@ public abstract class Runtime {
     public abstract Object callMethod(BObject object, String methodName, StrandMetadata metadata,
                                       Object... args);
 
+    /**
+     * Resolve a Ballerina function, so that it can be called repeatedly without looking it up by name on each call.
+     *
+     * @param module         Module of the function.
+     * @param functionName   Name of the function.
+     * @return Invoker of the Ballerina function.
+     */
+    public abstract FunctionInvoker resolveFunction(Module module, String functionName);
+
+    /**
+     * Resolve a Ballerina object method, so that it can be called repeatedly on the objects of the given type without
+     * looking it up by name on each call.
+     *
+     * @param objectType     Object type.
+     * @param methodName     Name of the method.
+     * @return Invoker of the Ballerina object method.
+     */
+    public abstract MethodInvoker resolveMethod(ObjectType objectType, String methodName);
+
     /**
      * Register a Ballerina listener object in runtime.
      * @param listener Ballerina Listener object.
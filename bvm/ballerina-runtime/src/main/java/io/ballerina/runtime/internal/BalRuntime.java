@@ -19,11 +19,18 @@
 package io.ballerina.runtime.internal;
 
 import io.ballerina.identifier.Utils;
+import io.ballerina.runtime.api.FunctionInvoker;
+import io.ballerina.runtime.api.MethodInvoker;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.internal.configurable.providers.ConfigDetails;
@@ -33,7 +40,9 @@ import io.ballerina.runtime.internal.launch.LaunchUtils;
 import io.ballerina.runtime.internal.scheduling.AsyncUtils;
 import io.ballerina.runtime.internal.scheduling.RuntimeRegistry;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Scheduler.ValueCreatorAndFunctionType;
 import io.ballerina.runtime.internal.values.FutureValue;
+import io.ballerina.runtime.internal.values.ValueCreator;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -126,6 +135,43 @@ public class BalRuntime extends Runtime {
         return this.scheduler.callMethod(object, methodName, metadata, args);
     }
 
+    @Override
+    public FunctionInvoker resolveFunction(Module module, String functionName) {
+        this.handleCallBeforeModuleInit(functionName);
+        this.validateArgs(module, functionName);
+        ValueCreatorAndFunctionType function = this.scheduler.getGetValueCreatorAndFunctionType(module,
+                functionName);
+        ValueCreator valueCreator = function.valueCreator();
+        FunctionType functionType = function.functionType();
+        return (metadata, args) -> this.scheduler.callFunction(valueCreator, functionType, functionName, metadata,
+                args);
+    }
+
+    @Override
+    public MethodInvoker resolveMethod(ObjectType objectType, String methodName) {
+        if (objectType == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("object type cannot be null"));
+        }
+        if (methodName == null) {
+            throw ErrorCreator.createError(StringUtils.fromString("method name cannot be null"));
+        }
+        this.handleCallBeforeModuleInit(objectType.getName() + ":" + methodName);
+        ObjectType impliedType = (ObjectType) TypeUtils.getImpliedType(objectType);
+        MethodType methodType = this.scheduler.getObjectMethodType(methodName, impliedType);
+        ValueCreator valueCreator = Scheduler.getValueCreator(impliedType);
+        String strandName = objectType.getName() + ":" + methodName;
+        return (object, metadata, args) -> {
+            this.validateArgs(object, methodName);
+            Type receiverType = TypeUtils.getImpliedType(object.getOriginalType());
+            if (receiverType != impliedType) {
+                throw ErrorCreator.createError(StringUtils.fromString("method '" + methodName + "' of '" +
+                        objectType.getName() + "' cannot be called on an object of type '" +
+                        receiverType.getName() + "'"));
+            }
+            return this.scheduler.callMethod(object, valueCreator, methodType, strandName, metadata, args);
+        };
+    }
+
     @Override
     public void registerListener(BObject listener) {
         this.handleCallBeforeModuleInit("registerListener");
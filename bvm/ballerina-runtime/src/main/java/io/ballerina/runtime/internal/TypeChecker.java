@@ -62,6 +62,7 @@ import io.ballerina.runtime.internal.types.BTypeReferenceType;
 import io.ballerina.runtime.internal.types.BTypedescType;
 import io.ballerina.runtime.internal.types.BUnionType;
 import io.ballerina.runtime.internal.types.BXmlType;
+import io.ballerina.runtime.internal.types.TypeCheckCache;
 import io.ballerina.runtime.internal.utils.ErrorUtils;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
@@ -572,6 +573,30 @@ public final class TypeChecker {
             return true;
         }
 
+        if (!(sourceType instanceof BType source && targetType instanceof BType target)) {
+            return checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+        }
+        // Nested types take part in the checks of the types they belong to, hence every type which is checked is
+        // marked, so that modifying it discards the cached results.
+        source.markTypeChecked();
+        target.markTypeChecked();
+
+        // The result of a check which is not nested in the check of a recursive type only depends on the types, hence
+        // it is cached in the source type until a type is modified.
+        if (unresolvedTypes == null) {
+            TypeCheckCache cache = source.getTypeCheckCache();
+            Boolean cachedResult = cache.get(target);
+            if (cachedResult != null) {
+                return cachedResult;
+            }
+            boolean result = checkIsTypeUncached(sourceType, targetType, null);
+            cache.put(target, result);
+            return result;
+        }
+        return checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+    }
+
+    private static boolean checkIsTypeUncached(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
         if (checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(sourceType)) {
             return true;
         }
@@ -697,6 +722,12 @@ public final class TypeChecker {
             return false;
         }
 
+        // A value belongs to every type its type is a subtype of, which is looked up from the cached results of the
+        // type checks before checking the values of the fields.
+        if (unresolvedTypes == null && checkIsType(sourceType, targetType)) {
+            return true;
+        }
+
         return switch (targetTypeTag) {
             case TypeTags.ANY_TAG -> checkIsAnyType(sourceType);
             case TypeTags.READONLY_TAG -> isInherentlyImmutableType(sourceType) || sourceType.isReadOnly();
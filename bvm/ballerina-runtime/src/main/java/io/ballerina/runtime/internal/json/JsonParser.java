@@ -62,7 +62,6 @@ import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.TupleValueImpl;
 
-import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -120,7 +119,8 @@ public final class JsonParser {
      */
     public static Object parse(InputStream in, String charsetName, Type targetType) throws BError {
         try {
-            return parse(new InputStreamReader(new BufferedInputStream(in), charsetName), targetType);
+            // InputStreamReader buffers the underlying stream while decoding, so no additional buffering is needed
+            return parse(new InputStreamReader(in, charsetName), targetType);
         } catch (IOException e) {
             throw ErrorCreator.createError(StringUtils.fromString(("error in parsing input stream: "
                                                                    + e.getMessage())));
@@ -217,6 +217,8 @@ public final class JsonParser {
         private static final String TUPLE_SIZE_MISMATCH = "tuple size is not enough for the provided values";
         private static final String UNEXPECTED_END_OF_THE_INPUT_STREAM = "unexpected end of the input stream";
         private static final String UNRECOGNIZED_TOKEN = "unrecognized token '";
+        private static final int MAX_SIMPLE_LONG_DIGITS = 18;
+        private static final long NOT_A_SIMPLE_LONG = Long.MIN_VALUE;
 
         // targetTypes list will always have effective referred types because we add only the implied types
         // if the target type is union we put the union type inside targetTypes list and do not add more types,
@@ -932,50 +934,93 @@ public final class JsonParser {
 
         @Override
         void processNonStringValue(ValueType type) throws ParserException {
-            String str = value();
             Type targetType = this.targetTypes.get(this.targetTypes.size() - 1);
             Type referredType = TypeUtils.getImpliedType(targetType);
             switch (referredType.getTag()) {
                 case TypeTags.UNION_TAG, TypeTags.FINITE_TYPE_TAG -> {
-                    processNonStringValueAsJson(str, type);
+                    processNonStringValueAsJson(value(), type);
                     if (this.nodesStackSizeWhenUnionStarts == -1) {
                         this.currentJsonNode = convert(this.currentJsonNode, targetType);
                     }
                 }
                 case TypeTags.ANYDATA_TAG, TypeTags.JSON_TAG, TypeTags.TABLE_TAG ->
-                        processNonStringValueAsJson(str, type);
-                case TypeTags.ARRAY_TAG -> processArrayType(str, (ArrayType) referredType);
-                case TypeTags.TUPLE_TAG -> processTupleType(str, (TupleType) referredType);
-                case TypeTags.MAP_TAG -> processMapType(str, (MapType) referredType);
-                case TypeTags.RECORD_TYPE_TAG -> processRecordType(str, (BRecordType) referredType);
-                default -> this.currentJsonNode = convertValues(referredType, str);
+                        processNonStringValueAsJson(value(), type);
+                case TypeTags.ARRAY_TAG -> processNonStringArrayElement((ArrayType) referredType);
+                case TypeTags.TUPLE_TAG -> processNonStringTupleElement((TupleType) referredType);
+                case TypeTags.MAP_TAG -> processNonStringMapField((MapType) referredType);
+                case TypeTags.RECORD_TYPE_TAG -> processNonStringRecordField((BRecordType) referredType);
+                default -> this.currentJsonNode = convertNonStringValue(referredType);
             }
         }
 
-        private void processRecordType(String str, BRecordType referredType) throws ParserException {
+        /**
+         * Converts the non-string value in the char buffer to the given target type. Integer values are read directly
+         * from the char buffer, other values are converted from their string representation.
+         *
+         * @param targetType target type of the value
+         * @return converted value
+         * @throws ParserException if the value cannot be converted to the target type
+         */
+        private Object convertNonStringValue(Type targetType) throws ParserException {
+            if (TypeTags.isIntegerTypeTag(targetType.getTag())) {
+                long parsedLong = parseLongFromCharBuff();
+                if (parsedLong != NOT_A_SIMPLE_LONG && TypeConverter.isConvertibleToIntRange(targetType, parsedLong)) {
+                    this.charBuffIndex = 0;
+                    return parsedLong;
+                }
+            }
+            return convertValues(targetType, value());
+        }
+
+        /**
+         * Parses the char buffer as an optionally negative sequence of at most 18 decimal digits, which cannot
+         * overflow a long. Any other content is left to the string based conversion, so that the existing conversion
+         * rules and error messages apply.
+         *
+         * @return parsed value or {@code NOT_A_SIMPLE_LONG}
+         */
+        private long parseLongFromCharBuff() {
+            int length = this.charBuffIndex;
+            boolean negative = length > 0 && this.charBuff[0] == '-';
+            int start = negative ? 1 : 0;
+            if (length == start || length - start > MAX_SIMPLE_LONG_DIGITS) {
+                return NOT_A_SIMPLE_LONG;
+            }
+            long result = 0;
+            for (int i = start; i < length; i++) {
+                int digit = this.charBuff[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return NOT_A_SIMPLE_LONG;
+                }
+                result = result * 10 + digit;
+            }
+            return negative ? -result : result;
+        }
+
+        private void processNonStringRecordField(BRecordType referredType) throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
             String fieldName = this.fieldNames.pop();
             Map<String, Field> fields = referredType.getFields();
             Field field = fields.get(fieldName);
             Type fieldType = field == null ? referredType.restFieldType : field.getFieldType();
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(fieldName), convertValues(TypeUtils.getImpliedType(fieldType), str));
+                    StringUtils.fromString(fieldName), convertNonStringValue(TypeUtils.getImpliedType(fieldType)));
         }
 
-        private void processMapType(String str, MapType referredType) throws ParserException {
+        private void processNonStringMapField(MapType referredType) throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
             Type constrainedType = TypeUtils.getImpliedType(referredType.getConstrainedType());
             ((MapValueImpl<BString, Object>) this.currentJsonNode).putForcefully(
-                    StringUtils.fromString(this.fieldNames.pop()), convertValues(constrainedType, str));
+                    StringUtils.fromString(this.fieldNames.pop()), convertNonStringValue(constrainedType));
         }
 
-        private void processTupleType(String str, TupleType referredType) throws ParserException {
+        private void processNonStringTupleElement(TupleType referredType) throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
             int tupleListIndex = this.listIndices.get(this.listIndices.size() - 1);
             List<Type> tupleTypes = referredType.getTupleTypes();
@@ -993,17 +1038,17 @@ public final class JsonParser {
                 tupleElementType = TypeUtils.getImpliedType(tupleTypes.get(tupleListIndex));
             }
             ((TupleValueImpl) this.currentJsonNode).addRefValueForcefully(tupleListIndex,
-                    convertValues(tupleElementType, str));
+                    convertNonStringValue(tupleElementType));
             this.listIndices.set(this.listIndices.size() - 1, tupleListIndex + 1);
         }
 
-        private void processArrayType(String str, ArrayType referredType) throws ParserException {
+        private void processNonStringArrayElement(ArrayType referredType) throws ParserException {
             if (this.currentJsonNode == null) {
-                throw new ParserException(UNRECOGNIZED_TOKEN + str + "'");
+                throw new ParserException(UNRECOGNIZED_TOKEN + value() + "'");
             }
             int listIndex = this.listIndices.get(this.listIndices.size() - 1);
             Type elementType = TypeUtils.getImpliedType(referredType.getElementType());
-            ((ArrayValueImpl) this.currentJsonNode).addRefValue(listIndex, convertValues(elementType, str));
+            ((ArrayValueImpl) this.currentJsonNode).addRefValue(listIndex, convertNonStringValue(elementType));
             this.listIndices.set(this.listIndices.size() - 1, listIndex + 1);
         }
 
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.lock;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A Ballerina global lock. When metrics are enabled, the lock records the number of acquisitions, the time spent
+ * waiting to acquire it and the time it was held. Each wait and hold time is recorded in the statistics of a gauge,
+ * which give the distribution of the times, and added to a counter of the total time, which gives the mean time
+ * together with the number of acquisitions.
+ *
+ * @since 2201.11.0
+ */
+class BLock {
+
+    private static final String METRIC_ACQUISITIONS = "lock_acquisitions_total";
+    private static final String METRIC_WAIT_TIME = "lock_wait_time_nanoseconds";
+    private static final String METRIC_HOLD_TIME = "lock_hold_time_nanoseconds";
+    private static final String METRIC_WAIT_TIME_TOTAL = "lock_wait_time_nanoseconds_total";
+    private static final String METRIC_HOLD_TIME_TOTAL = "lock_hold_time_nanoseconds_total";
+    private static final String TAG_KEY_MODULE = "src.module";
+    private static final String TAG_KEY_LOCK_NAME = "lock.name";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final String moduleName;
+    private final String lockName;
+    // Following fields are only accessed by the strand holding the lock
+    private Counter acquisitions;
+    private Gauge waitTime;
+    private Gauge holdTime;
+    private Counter waitTimeTotal;
+    private Counter holdTimeTotal;
+    private long acquiredTime;
+
+    BLock(String moduleName, String lockName) {
+        this.moduleName = moduleName;
+        this.lockName = lockName;
+    }
+
+    boolean tryLock() {
+        return lock.tryLock();
+    }
+
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    void recordAcquired(long waitStartTime) {
+        if (lock.getHoldCount() != 1) {
+            return;
+        }
+        if (this.acquisitions == null) {
+            registerMetrics();
+        }
+        this.acquiredTime = System.nanoTime();
+        this.acquisitions.increment();
+        long waited = this.acquiredTime - waitStartTime;
+        this.waitTime.setValue(waited);
+        this.waitTimeTotal.increment(waited);
+    }
+
+    void recordReleasing() {
+        if (lock.getHoldCount() != 1 || this.holdTime == null) {
+            return;
+        }
+        long held = System.nanoTime() - this.acquiredTime;
+        this.holdTime.setValue(held);
+        this.holdTimeTotal.increment(held);
+    }
+
+    private void registerMetrics() {
+        this.acquisitions = Counter.builder(METRIC_ACQUISITIONS)
+                .description("Number of times the lock was acquired")
+                .tag(TAG_KEY_MODULE, moduleName).tag(TAG_KEY_LOCK_NAME, lockName).register();
+        this.waitTime = Gauge.builder(METRIC_WAIT_TIME)
+                .description("Time spent waiting to acquire the lock")
+                .tag(TAG_KEY_MODULE, moduleName).tag(TAG_KEY_LOCK_NAME, lockName)
+                .summarize(StatisticConfig.DEFAULT).register();
+        this.holdTime = Gauge.builder(METRIC_HOLD_TIME)
+                .description("Time the lock was held")
+                .tag(TAG_KEY_MODULE, moduleName).tag(TAG_KEY_LOCK_NAME, lockName)
+                .summarize(StatisticConfig.DEFAULT).register();
+        this.waitTimeTotal = Counter.builder(METRIC_WAIT_TIME_TOTAL)
+                .description("Total time spent waiting to acquire the lock")
+                .tag(TAG_KEY_MODULE, moduleName).tag(TAG_KEY_LOCK_NAME, lockName).register();
+        this.holdTimeTotal = Counter.builder(METRIC_HOLD_TIME_TOTAL)
+                .description("Total time the lock was held")
+                .tag(TAG_KEY_MODULE, moduleName).tag(TAG_KEY_LOCK_NAME, lockName).register();
+    }
+}
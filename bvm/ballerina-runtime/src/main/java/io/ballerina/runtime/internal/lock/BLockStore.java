@@ -21,59 +21,72 @@ package io.ballerina.runtime.internal.lock;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.ObserveUtils;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Class that keep Ballerina locks based on lock name.
+ * Class that keep Ballerina locks of a module. Locks referred by the generated code are resolved by the lock id
+ * assigned at compile time against a fixed table, while locks referred by name are kept in a concurrent map.
  *
  * @since 1.2.0
  */
 public class BLockStore {
 
+    private static final String GLOBAL_LOCK_NAME = "lock";
+
+    private final String moduleName;
+
     /**
-     * The map of locks inferred.
+     * The locks identified by the lock id assigned by the compiler.
      */
-    private final Map<String, ReentrantLock> globalLockMap;
+    private final BLock[] locks;
 
-    private final ReentrantReadWriteLock storeLock;
+    /**
+     * The map of locks inferred.
+     */
+    private final Map<String, BLock> globalLockMap;
 
     public BLockStore() {
-        this.globalLockMap = new HashMap<>();
-        this.storeLock = new ReentrantReadWriteLock();
+        this("", 0);
+    }
+
+    /*
+        This is used by the generated code to create the lock store of a module.
+    */
+    public BLockStore(String moduleName, int lockCount) {
+        this.moduleName = moduleName;
+        this.locks = new BLock[lockCount];
+        for (int i = 0; i < lockCount; i++) {
+            this.locks[i] = new BLock(moduleName, GLOBAL_LOCK_NAME + i);
+        }
+        this.globalLockMap = new ConcurrentHashMap<>();
     }
 
     /*
         This is code generated method to get Ballerina lock and lock.
     */
     @SuppressWarnings("unused")
-    public void lock(Strand strand, String lockName) {
-        try {
-            strand.yield();
-            getLockFromMap(lockName).lock();
-            strand.acquiredLockCount++;
-        } finally {
-            strand.resume();
-        }
+    public void lock(Strand strand, int lockId) {
+        lock(strand, getLock(lockId));
     }
 
     /*
         This is code generated method to get Ballerina lock and unlock.
     */
     @SuppressWarnings("unused")
-    public void unlock(Strand strand, String lockName) {
-        try {
-            strand.yield();
-            getLockFromMap(lockName).unlock();
-            strand.acquiredLockCount--;
-        } finally {
-            strand.resume();
-        }
+    public void unlock(Strand strand, int lockId) {
+        unlock(strand, getLock(lockId));
     }
 
+    public void lock(Strand strand, String lockName) {
+        lock(strand, getLockFromMap(lockName));
+    }
+
+    public void unlock(Strand strand, String lockName) {
+        unlock(strand, getLockFromMap(lockName));
+    }
 
     /*
         This is code generated method check and panic before async call if strand is in lock
@@ -85,26 +98,45 @@ public class BLockStore {
         }
     }
 
-    private ReentrantLock getLockFromMap(String lockName) {
-        ReentrantLock lock;
-        try {
-            storeLock.readLock().lock();
-            lock = globalLockMap.get(lockName);
-        } finally {
-            storeLock.readLock().unlock();
+    private void lock(Strand strand, BLock lock) {
+        boolean observed = ObserveUtils.isMetricsEnabled();
+        long waitStartTime = observed ? System.nanoTime() : 0;
+        // Yield the strand only if the lock cannot be acquired right away, so that other strands can run while
+        // this one is waiting for the lock.
+        if (!lock.tryLock()) {
+            try {
+                strand.yield();
+                lock.lock();
+            } finally {
+                strand.resume();
+            }
         }
-        if (lock != null) {
-            return lock;
+        strand.acquiredLockCount++;
+        if (observed) {
+            lock.recordAcquired(waitStartTime);
         }
-        return addLockToMap(lockName);
     }
 
-    private ReentrantLock addLockToMap(String lockName) {
-        try {
-            storeLock.writeLock().lock();
-            return globalLockMap.computeIfAbsent(lockName, k -> new ReentrantLock());
-        } finally {
-            storeLock.writeLock().unlock();
+    private void unlock(Strand strand, BLock lock) {
+        if (ObserveUtils.isMetricsEnabled()) {
+            lock.recordReleasing();
+        }
+        lock.unlock();
+        strand.acquiredLockCount--;
+    }
+
+    BLock getLock(int lockId) {
+        if (lockId >= 0 && lockId < locks.length) {
+            return locks[lockId];
+        }
+        return getLockFromMap(GLOBAL_LOCK_NAME + lockId);
+    }
+
+    BLock getLockFromMap(String lockName) {
+        BLock lock = globalLockMap.get(lockName);
+        if (lock != null) {
+            return lock;
         }
+        return globalLockMap.computeIfAbsent(lockName, k -> new BLock(moduleName, k));
     }
 }
@@ -65,7 +65,8 @@ public final class AsyncUtils {
     }
 
     public static Object handleWait(Strand strand, CompletableFuture<Object> completableFuture) {
-        if (strand.isIsolated) {
+        // No need to yield the strand if the result is already available
+        if (strand.isIsolated || completableFuture.isDone()) {
             return getFutureResult(completableFuture);
         }
         return handleNonIsolatedStrand(strand, () -> getFutureResult(completableFuture));
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.internal.values.FPValue;
+
+/**
+ * Calls a function pointer repeatedly, as done by the higher order langlib functions. The current strand and the
+ * layout of the arguments are bound once, so that each call does not need to look up the function type, resume the
+ * strand or allocate a new argument array.
+ * <p>
+ * Functions with defaultable or rest parameters, and calls made without a current strand, fall back to
+ * {@link Scheduler#callFP(FPValue, StrandMetadata, Object...)}.
+ *
+ * @since 2201.11.0
+ */
+public final class FPInvocation implements AutoCloseable {
+
+    private final Scheduler scheduler;
+    private final FPValue fp;
+    private final Strand strand;
+    private final boolean resumed;
+    private final Object[] argsWithStrand;
+
+    FPInvocation(Scheduler scheduler, FPValue fp, int argCount) {
+        this.scheduler = scheduler;
+        this.fp = fp;
+        this.strand = Scheduler.getStrand();
+        this.resumed = strand != null && !strand.isRunnable();
+        if (resumed) {
+            strand.resume();
+        }
+        if (strand != null && hasOnlyRequiredParams(fp, argCount)) {
+            this.argsWithStrand = new Object[argCount + 1];
+            this.argsWithStrand[0] = strand;
+        } else {
+            this.argsWithStrand = null;
+        }
+    }
+
+    public Object call(Object arg) {
+        Object[] args = argsWithStrand;
+        if (args == null) {
+            return scheduler.callFP(fp, null, arg);
+        }
+        args[1] = arg;
+        return fp.function.apply(args);
+    }
+
+    public Object call(Object arg1, Object arg2) {
+        Object[] args = argsWithStrand;
+        if (args == null) {
+            return scheduler.callFP(fp, null, arg1, arg2);
+        }
+        args[1] = arg1;
+        args[2] = arg2;
+        return fp.function.apply(args);
+    }
+
+    public boolean callBoolean(Object arg) {
+        return (boolean) call(arg);
+    }
+
+    @Override
+    public void close() {
+        if (resumed) {
+            strand.yield();
+        }
+    }
+
+    private static boolean hasOnlyRequiredParams(FPValue fp, int argCount) {
+        FunctionType functionType = (FunctionType) TypeUtils.getImpliedType(TypeUtils.getType(fp));
+        return functionType.getRestType() == null && functionType.getParameters().length == argCount;
+    }
+}
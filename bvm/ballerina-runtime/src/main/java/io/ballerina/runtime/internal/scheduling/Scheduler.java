@@ -91,6 +91,39 @@ public class Scheduler {
                 .completableFuture);
     }
 
+    /**
+     * Calls a function which is already resolved from its value creator.
+     *
+     * @param valueCreator value creator of the module of the function
+     * @param functionType type of the function
+     * @param functionName name of the function
+     * @param metadata     metadata of the new strand
+     * @param args         arguments of the function
+     * @return return value of the function
+     */
+    public Object callFunction(ValueCreator valueCreator, FunctionType functionType, String functionName,
+                               StrandMetadata metadata, Object... args) {
+        Strand parentStrand = Scheduler.getStrand();
+        if (parentStrand != null) {
+            boolean runnable = parentStrand.isRunnable();
+            if (!runnable) {
+                parentStrand.resume();
+            }
+            Object[] argsWithDefaultValues = getArgsWithDefaultValues(valueCreator, functionType, parentStrand, args);
+            Object result = valueCreator.call(parentStrand, functionName, argsWithDefaultValues);
+            if (!runnable) {
+                parentStrand.yield();
+            }
+            return result;
+        }
+        if (metadata != null && metadata.isConcurrentSafe()) {
+            return AsyncUtils.getFutureResult(startIsolatedFunction(valueCreator, functionType, functionName,
+                    metadata, args).completableFuture);
+        }
+        return AsyncUtils.getFutureResult(startNonIsolatedFunction(valueCreator, functionType, functionName,
+                metadata, args).completableFuture);
+    }
+
     public Object callMethod(BObject object, String methodName, StrandMetadata metadata, Object... args) {
         Strand parentStrand = Scheduler.getStrand();
         if (parentStrand != null) {
@@ -115,6 +148,37 @@ public class Scheduler {
                 .completableFuture);
     }
 
+    /**
+     * Calls an object method which is already resolved from the type of the object.
+     *
+     * @param object       object to call the method on
+     * @param valueCreator value creator of the module of the object type
+     * @param methodType   type of the method
+     * @param strandName   name of the new strand
+     * @param metadata     metadata of the new strand
+     * @param args         arguments of the method
+     * @return return value of the method
+     */
+    public Object callMethod(BObject object, ValueCreator valueCreator, MethodType methodType, String strandName,
+                             StrandMetadata metadata, Object... args) {
+        Strand parentStrand = Scheduler.getStrand();
+        if (parentStrand != null) {
+            boolean runnable = parentStrand.isRunnable();
+            if (!runnable) {
+                parentStrand.resume();
+            }
+            Object[] argsWithDefaultValues = getArgsWithDefaultValues(valueCreator, methodType, parentStrand, args);
+            Object result = ((ObjectValue) object).call(parentStrand, methodType.getName(), argsWithDefaultValues);
+            if (!runnable) {
+                parentStrand.yield();
+            }
+            return result;
+        }
+        boolean isIsolated = metadata != null && metadata.isConcurrentSafe();
+        return AsyncUtils.getFutureResult(startMethod(object, valueCreator, methodType, strandName, isIsolated,
+                metadata, args).completableFuture);
+    }
+
     public Object callFP(FPValue fp, StrandMetadata metadata, Object... args) {
         Strand parentStrand = Scheduler.getStrand();
         if (parentStrand != null) {
@@ -137,6 +201,17 @@ public class Scheduler {
         return AsyncUtils.getFutureResult(startNonIsolatedFP(fp, metadata, args).completableFuture);
     }
 
+    /**
+     * Binds a function pointer to the current strand, to be called repeatedly with the given number of arguments.
+     *
+     * @param fp       function pointer to call
+     * @param argCount number of arguments passed to each call
+     * @return function pointer invocation, which must be closed after the calls
+     */
+    public FPInvocation bindFP(FPValue fp, int argCount) {
+        return new FPInvocation(this, fp, argCount);
+    }
+
     @SuppressWarnings("unused")
     /*
      * Used for codegen isolated function pointer start call
@@ -186,6 +261,11 @@ public class Scheduler {
         ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module.getOrg(),
                 module.getName(), module.getMajorVersion(), module.isTestPkg()));
         FunctionType functionType = valueCreator.getFunctionType(functionName);
+        return startIsolatedFunction(valueCreator, functionType, functionName, metadata, args);
+    }
+
+    private FutureValue startIsolatedFunction(ValueCreator valueCreator, FunctionType functionType,
+                                              String functionName, StrandMetadata metadata, Object[] args) {
         FutureValue future = createFutureWithMetadata(null, functionName, true, functionType.getReturnType(),
                 metadata, null);
         Object[] argsWithDefaultValues = getArgsWithDefaultValues(valueCreator, functionType, future.strand, args);
@@ -203,22 +283,10 @@ public class Scheduler {
 
     private FutureValue startIsolatedMethod(BObject object, String methodName, StrandMetadata metadata,
                                             Object... args) {
-        String strandName = getStrandName(object, methodName);
         ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
         MethodType methodType = getObjectMethodType(methodName, objectType);
-        FutureValue future = createFutureWithMetadata(null, strandName, true, methodType.getReturnType(), metadata,
-                null);
-        Object[] argsWithDefaultValues = getArgsWithDefaultValues(objectType, methodType, future.strand, args);
-        Thread.startVirtualThread(() -> {
-            try {
-                strandHolder.get().strand = future.strand;
-                Object result = ((ObjectValue) object).call(future.strand, methodName, argsWithDefaultValues);
-                future.completableFuture.complete(result);
-            } catch (Throwable t) {
-                future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
-            }
-        }).setName(future.strand.name);
-        return future;
+        return startMethod(object, getValueCreator(objectType), methodType, getStrandName(object, methodName), true,
+                metadata, args);
     }
 
     private FutureValue startIsolatedFP(FPValue fp, StrandMetadata metadata, Object... args) {
@@ -245,6 +313,11 @@ public class Scheduler {
                                                  Object... args) {
         ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
         FunctionType functionType = valueCreator.getFunctionType(functionName);
+        return startNonIsolatedFunction(valueCreator, functionType, functionName, metadata, args);
+    }
+
+    private FutureValue startNonIsolatedFunction(ValueCreator valueCreator, FunctionType functionType,
+                                                 String functionName, StrandMetadata metadata, Object[] args) {
         FutureValue future =
                 createFutureWithMetadata(null, functionName, false, functionType.getReturnType(), metadata, null);
         Object[] argsWithDefaultValues = getArgsWithDefaultValues(valueCreator, functionType, future.strand, args);
@@ -265,22 +338,32 @@ public class Scheduler {
 
     private FutureValue startNonIsolatedMethod(BObject object, String methodName, StrandMetadata metadata,
                                               Object... args) {
-        String strandName = getStrandName(object, methodName);
         ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
         MethodType methodType = getObjectMethodType(methodName, objectType);
-        FutureValue future = createFutureWithMetadata(null, strandName, false, methodType.getReturnType(), metadata,
-                null);
-        Object[] argsWithDefaultValues = getArgsWithDefaultValues(objectType, methodType, future.strand, args);
+        return startMethod(object, getValueCreator(objectType), methodType, getStrandName(object, methodName), false,
+                metadata, args);
+    }
+
+    private FutureValue startMethod(BObject object, ValueCreator valueCreator, MethodType methodType,
+                                    String strandName, boolean isIsolated, StrandMetadata metadata, Object[] args) {
+        FutureValue future = createFutureWithMetadata(null, strandName, isIsolated, methodType.getReturnType(),
+                metadata, null);
+        Object[] argsWithDefaultValues = getArgsWithDefaultValues(valueCreator, methodType, future.strand, args);
         Thread.startVirtualThread(() -> {
             try {
-                future.strand.resume();
+                if (!isIsolated) {
+                    future.strand.resume();
+                }
                 strandHolder.get().strand = future.strand;
-                Object result = ((ObjectValue) object).call(future.strand, methodName, argsWithDefaultValues);
+                Object result = ((ObjectValue) object).call(future.strand, methodType.getName(),
+                        argsWithDefaultValues);
                 future.completableFuture.complete(result);
             } catch (Throwable t) {
                 future.completableFuture.completeExceptionally(ErrorUtils.createErrorFromThrowable(t));
             } finally {
-               future.strand.done();
+                if (!isIsolated) {
+                    future.strand.done();
+                }
             }
         }).setName(future.strand.name);
         return future;
@@ -339,7 +422,15 @@ public class Scheduler {
         return future;
     }
 
-    private ValueCreatorAndFunctionType getGetValueCreatorAndFunctionType(Module module, String functionName) {
+    /**
+     * Looks up a function and the value creator of its module. The functions which are not found in the module are
+     * looked up in the test module, since the functions in the test sources are called the same way.
+     *
+     * @param module       module of the function
+     * @param functionName name of the function
+     * @return value creator of the module and the type of the function
+     */
+    public ValueCreatorAndFunctionType getGetValueCreatorAndFunctionType(Module module, String functionName) {
 
         ValueCreator valueCreator;
         FunctionType functionType;
@@ -355,16 +446,17 @@ public class Scheduler {
         return new ValueCreatorAndFunctionType(valueCreator, functionType);
     }
 
-    private record ValueCreatorAndFunctionType(ValueCreator valueCreator, FunctionType functionType) {
+    public record ValueCreatorAndFunctionType(ValueCreator valueCreator, FunctionType functionType) {
 
     }
 
     private Object[] getArgsWithDefaultValues(ObjectType objectType, MethodType methodType, Strand strand,
                                               Object... args) {
+        return getArgsWithDefaultValues(getValueCreator(objectType), methodType, strand, args);
+    }
 
-        Module module = objectType.getPackage();
-        ValueCreator valueCreator = ValueCreator.getValueCreator(ValueCreator.getLookupKey(module));
-        return getArgsWithDefaultValues(valueCreator, methodType, strand, args);
+    public static ValueCreator getValueCreator(ObjectType objectType) {
+        return ValueCreator.getValueCreator(ValueCreator.getLookupKey(objectType.getPackage()));
     }
 
     private Object[] getArgsWithDefaultValues(ValueCreator valueCreator, FunctionType functionType, Strand strand,
@@ -38,6 +38,8 @@ public class Strand {
 
     private final int id;
     private static final AtomicInteger nextStrandId = new AtomicInteger(0);
+    // Lazily created on the first write. A child strand copies the properties of its parent when it is created,
+    // since the parent may run on another thread.
     private Map<String, Object> globalProps;
 
     public final String name;
@@ -45,6 +47,7 @@ public class Strand {
     public boolean cancelled;
     public Scheduler scheduler;
     public TransactionLocalContext currentTrxContext;
+    // Lazily created when a transaction context is pushed
     public Stack<TransactionLocalContext> trxContexts;
     public WorkerChannelMap workerChannelMap;
     public int acquiredLockCount;
@@ -54,14 +57,11 @@ public class Strand {
         this.id = nextStrandId.incrementAndGet();
         this.name = Objects.requireNonNullElse(strandName, "$anon");
         this.scheduler = scheduler;
-        this.trxContexts = new Stack<>();
         this.isIsolated = isIsolated;
         if (properties != null) {
             this.globalProps = properties;
         } else if (parent != null && parent.globalProps != null) {
             this.globalProps = new HashMap<>(parent.globalProps);
-        } else {
-            this.globalProps = new HashMap<>();
         }
         this.workerChannelMap = workerChannelMap;
     }
@@ -71,6 +71,9 @@ public class Strand {
                   TransactionLocalContext currentTrxContext) {
         this(scheduler, strandName, parent, isIsolated, properties, workerChannelMap);
         if (currentTrxContext != null) {
+            if (parent.trxContexts == null) {
+                parent.trxContexts = new Stack<>();
+            }
             this.trxContexts = parent.trxContexts;
             this.trxContexts.push(currentTrxContext);
             this.currentTrxContext = currentTrxContext;
@@ -126,11 +129,21 @@ public class Strand {
     }
 
     public Object getProperty(String key) {
+        if (this.globalProps == null) {
+            return null;
+        }
         return this.globalProps.get(key);
     }
 
     public void setProperty(String key, Object value) {
-        this.globalProps.put(key, value);
+        getWritableGlobalProps().put(key, value);
+    }
+
+    private Map<String, Object> getWritableGlobalProps() {
+        if (this.globalProps == null) {
+            this.globalProps = new HashMap<>();
+        }
+        return this.globalProps;
     }
 
     public boolean isInTransaction() {
@@ -138,21 +151,26 @@ public class Strand {
     }
 
     public void removeCurrentTrxContext() {
-        if (!this.trxContexts.isEmpty()) {
+        if (this.trxContexts != null && !this.trxContexts.isEmpty()) {
             this.currentTrxContext = this.trxContexts.pop();
-            this.globalProps.put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+            getWritableGlobalProps().put(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
             return;
         }
-        this.globalProps.remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        if (this.globalProps != null && this.globalProps.containsKey(CURRENT_TRANSACTION_CONTEXT_PROPERTY)) {
+            getWritableGlobalProps().remove(CURRENT_TRANSACTION_CONTEXT_PROPERTY);
+        }
         this.currentTrxContext = null;
     }
 
     public void setCurrentTransactionContext(TransactionLocalContext ctx) {
         if (this.currentTrxContext != null) {
+            if (this.trxContexts == null) {
+                this.trxContexts = new Stack<>();
+            }
             this.trxContexts.push(this.currentTrxContext);
         }
         this.currentTrxContext = ctx;
-        this.globalProps.putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
+        getWritableGlobalProps().putIfAbsent(CURRENT_TRANSACTION_CONTEXT_PROPERTY, this.currentTrxContext);
     }
 
     public int getId() {
@@ -35,7 +35,7 @@ public class WorkerChannel {
     private final AtomicInteger doneCount;
     private final CompletableFuture<Object> resultFuture;
     private final CompletableFuture<Object> receiveFuture;
-    private boolean cancel;
+    private volatile boolean cancel;
 
     public WorkerChannel(String name) {
         this.name = name;
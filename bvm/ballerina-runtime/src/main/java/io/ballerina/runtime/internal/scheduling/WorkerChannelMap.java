@@ -19,9 +19,8 @@ package io.ballerina.runtime.internal.scheduling;
 
 import io.ballerina.runtime.api.values.BError;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class stores {@link WorkerChannel} reference to unique channel key.
@@ -31,91 +30,51 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 public class WorkerChannelMap {
 
-    private final Map<String, WorkerChannel> channelMap = new HashMap<>();
-    private final ReentrantReadWriteLock channelMapLock = new ReentrantReadWriteLock();
+    private final Map<String, WorkerChannel> channelMap = new ConcurrentHashMap<>();
 
     public void addChannelKeys(String[] channelKeys) {
-        try {
-            channelMapLock.writeLock().lock();
-            for (String channelKey : channelKeys) {
-                WorkerChannel workerChannel = channelMap.get(channelKey);
-                if (workerChannel == null) {
-                    workerChannel = new WorkerChannel(channelKey);
-                    channelMap.put(channelKey, workerChannel);
-                }
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
+        for (String channelKey : channelKeys) {
+            channelMap.computeIfAbsent(channelKey, WorkerChannel::new);
         }
     }
 
     public WorkerChannel get(String channelKey) {
-        try {
-            channelMapLock.readLock().lock();
-            return channelMap.get(channelKey);
-        } finally {
-            channelMapLock.readLock().unlock();
-        }
+        return channelMap.get(channelKey);
     }
 
     public void panicSendWorkerChannels(String channelKey, BError error) {
-        try {
-            channelMapLock.writeLock().lock();
-            WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.panicOnSend(error);
-            if (workerChannel.done()) {
-                channelMap.remove(channelKey);
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
+        WorkerChannel workerChannel = channelMap.get(channelKey);
+        workerChannel.panicOnSend(error);
+        if (workerChannel.done()) {
+            channelMap.remove(channelKey);
         }
     }
 
     public void panicReceiveWorkerChannels(String channelKey, BError error) {
-        try {
-            channelMapLock.writeLock().lock();
-            WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.panicOnReceive(error);
-            if (workerChannel.done()) {
-                channelMap.remove(channelKey);
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
+        WorkerChannel workerChannel = channelMap.get(channelKey);
+        workerChannel.panicOnReceive(error);
+        if (workerChannel.done()) {
+            channelMap.remove(channelKey);
         }
     }
 
     public void completeSendWorkerChannels(String channelKey, Object returnValue) {
-        try {
-            channelMapLock.writeLock().lock();
-            WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.errorOnSend(channelKey, returnValue);
-            if (workerChannel.done()) {
-                channelMap.remove(channelKey);
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
+        WorkerChannel workerChannel = channelMap.get(channelKey);
+        workerChannel.errorOnSend(channelKey, returnValue);
+        if (workerChannel.done()) {
+            channelMap.remove(channelKey);
         }
     }
 
     public void completeReceiveWorkerChannels(String channelKey, Object returnValue) {
-        try {
-            channelMapLock.writeLock().lock();
-            WorkerChannel workerChannel = channelMap.get(channelKey);
-            workerChannel.errorOnReceive(channelKey, returnValue);
-            if (workerChannel.done()) {
-                channelMap.remove(channelKey);
-            }
-        } finally {
-            channelMapLock.writeLock().unlock();
+        WorkerChannel workerChannel = channelMap.get(channelKey);
+        workerChannel.errorOnReceive(channelKey, returnValue);
+        if (workerChannel.done()) {
+            channelMap.remove(channelKey);
         }
     }
 
     public void cancel() {
-        try {
-            channelMapLock.writeLock().lock();
-            channelMap.values().forEach(WorkerChannel::cancel);
-        } finally {
-            channelMapLock.writeLock().unlock();
-        }
+        channelMap.values().forEach(WorkerChannel::cancel);
     }
 }
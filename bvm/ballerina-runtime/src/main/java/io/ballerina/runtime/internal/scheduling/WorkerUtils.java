@@ -95,7 +95,8 @@ import java.util.concurrent.CompletableFuture;
 
      public static Object receive(Strand strand, WorkerChannelMap workerChannelMap, String channelKey) {
          WorkerChannel channel = workerChannelMap.get(channelKey);
-         if (strand.isIsolated) {
+         // No need to yield the strand if the message has already been sent
+         if (strand.isIsolated || channel.isWritten()) {
              return channel.read();
          }
          return AsyncUtils.handleNonIsolatedStrand(strand, channel::read);
@@ -87,6 +87,7 @@ public class BArrayType extends BType implements ArrayType {
     public void setElementType(Type elementType, int dimensions, boolean elementRO) {
         this.elementType = readonly && !elementRO ? ReadOnlyUtils.getReadOnlyType(elementType) : elementType;
         this.dimensions = dimensions;
+        invalidateTypeCheckResults();
     }
 
     private void setFlagsBasedOnElementType() {
@@ -50,6 +50,7 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        invalidateTypeCheckResults();
     }
 
     @Override
@@ -68,7 +69,12 @@ public class BErrorType extends BAnnotatableType implements ErrorType {
     }
 
     public void setDetailType(Type detailType) {
+        // Errors of the same type are usually created with details of the same type.
+        if (this.detailType == detailType) {
+            return;
+        }
         this.detailType = detailType;
+        invalidateTypeCheckResults();
     }
 
     @Override
@@ -41,6 +41,7 @@ public class BNetworkObjectType extends BObjectType implements NetworkObjectType
 
     public void setResourceMethods(ResourceMethodType[] resourceMethods) {
         this.resourceMethods = resourceMethods;
+        invalidateTypeCheckResults();
     }
 
     /**
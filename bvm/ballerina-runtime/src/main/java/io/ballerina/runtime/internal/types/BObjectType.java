@@ -148,6 +148,7 @@ public class BObjectType extends BStructureType implements ObjectType {
     @Override
     public void setMethods(MethodType[] methodTypes) {
         this.methodTypes = methodTypes;
+        invalidateTypeCheckResults();
     }
 
     public void setInitMethod(MethodType initMethod) {
@@ -215,6 +216,7 @@ public class BObjectType extends BStructureType implements ObjectType {
 
     public void setTypeIdSet(BTypeIdSet typeIdSet) {
         this.typeIdSet = typeIdSet;
+        invalidateTypeCheckResults();
     }
 
     public BObjectType duplicate() {
@@ -167,6 +167,7 @@ public class BTupleType extends BAnnotatableType implements TupleType {
             this.restType = restType;
         }
         checkAllMembers();
+        invalidateTypeCheckResults();
     }
 
     @Override
@@ -26,6 +26,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@code BType} represents a type in Ballerina.
@@ -38,12 +39,18 @@ import java.util.Objects;
  * @since 0.995.0
  */
 public abstract class BType implements Type {
+    private static final AtomicInteger NEXT_TYPE_ID = new AtomicInteger();
+
+    private final int typeId = NEXT_TYPE_ID.getAndIncrement();
     protected String typeName;
     protected Module pkg;
     protected Class<? extends Object> valueClass;
     private int hashCode;
     private Type cachedReferredType = null;
     private Type cachedImpliedType = null;
+    private volatile TypeCheckCache typeCheckCache = null;
+    // Set once the type takes part in a type check, before which a modification cannot make any cached result stale.
+    private volatile boolean typeChecked = false;
 
     protected BType(String typeName, Module pkg, Class<? extends Object> valueClass) {
         this.typeName = typeName;
@@ -231,4 +238,47 @@ public abstract class BType implements Type {
     public Type getCachedImpliedType() {
         return this.cachedImpliedType;
     }
+
+    /**
+     * Get the id of the type, which is unique among all the types created in the runtime.
+     *
+     * @return id of the type
+     */
+    public int getTypeId() {
+        return typeId;
+    }
+
+    /**
+     * Get the cache of the results of checking this type against other types.
+     *
+     * @return type check cache of the type
+     */
+    public TypeCheckCache getTypeCheckCache() {
+        TypeCheckCache cache = this.typeCheckCache;
+        if (cache == null || !cache.isValid()) {
+            // A racing thread may replace the cache, which only discards the results cached so far.
+            cache = new TypeCheckCache();
+            this.typeCheckCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * Marks that this type takes part in a type check, so that modifying it later discards the cached results.
+     */
+    public void markTypeChecked() {
+        if (!typeChecked) {
+            typeChecked = true;
+        }
+    }
+
+    /**
+     * Discards the cached results of the type checks, which must be called when this type is modified. Nothing is
+     * discarded if the type has not taken part in a type check, which is the case while the type is being created.
+     */
+    protected void invalidateTypeCheckResults() {
+        if (typeChecked) {
+            TypeCheckCache.invalidateAll();
+        }
+    }
 }
@@ -167,6 +167,7 @@ public class BUnionType extends BType implements UnionType, SelectivelyImmutable
         }
         this.memberTypes = readonly ? getReadOnlyTypes(members) : Arrays.asList(members);
         setFlagsBasedOnMembers();
+        invalidateTypeCheckResults();
     }
 
     public void setOriginalMemberTypes(Type[] originalMemberTypes) {
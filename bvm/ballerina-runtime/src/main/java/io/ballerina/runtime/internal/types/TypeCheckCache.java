@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cache of the results of the type checks of a source type against target types, keyed by the ids of the target
+ * types.
+ * <p>
+ * Types may be modified after they are created, e.g. when the members of a recursive union are set or when the
+ * type ids of a distinct error type are set. A modification of a type changes the results of the checks of every type
+ * which refers to it, hence {@link #invalidateAll()} discards the results cached in all the caches. Types which have
+ * not taken part in a type check yet, such as types which are still being created, are modified without discarding
+ * any result.
+ *
+ * @since 2201.11.0
+ */
+public final class TypeCheckCache {
+
+    // Bounds the memory held by long-lived types which are checked against types created at runtime. A result replaces
+    // the result of a target type which maps to the same entry. Must be a power of two.
+    private static final int CAPACITY = 32;
+    private static final long PRESENT = 0b10;
+    private static final long RESULT = 0b01;
+    private static final AtomicInteger CURRENT_EPOCH = new AtomicInteger();
+
+    private final int epoch = CURRENT_EPOCH.get();
+    // Each entry holds the id of the target type and the result, hence an entry is read and written as a whole without
+    // any other synchronization.
+    private final AtomicLongArray entries = new AtomicLongArray(CAPACITY);
+
+    /**
+     * Returns the cached result of checking the source type against the given target type.
+     *
+     * @param targetType target type
+     * @return the cached result, or null if the result is not cached
+     */
+    public Boolean get(BType targetType) {
+        int typeId = targetType.getTypeId();
+        long entry = entries.getOpaque(index(typeId));
+        if ((entry & PRESENT) == 0 || (int) (entry >>> 2) != typeId) {
+            return null;
+        }
+        return (entry & RESULT) != 0;
+    }
+
+    public void put(BType targetType, boolean result) {
+        int typeId = targetType.getTypeId();
+        entries.setOpaque(index(typeId), ((long) typeId << 2) | PRESENT | (result ? RESULT : 0));
+    }
+
+    /**
+     * Checks whether the results cached so far are valid, i.e. no type was modified after this cache was created.
+     *
+     * @return true if the results are valid
+     */
+    boolean isValid() {
+        return epoch == CURRENT_EPOCH.get();
+    }
+
+    /**
+     * Discards the results cached in all the caches. This should be called when an existing type is modified.
+     */
+    static void invalidateAll() {
+        CURRENT_EPOCH.incrementAndGet();
+    }
+
+    private static int index(int typeId) {
+        return typeId & (CAPACITY - 1);
+    }
+}
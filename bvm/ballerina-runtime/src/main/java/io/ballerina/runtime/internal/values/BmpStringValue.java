@@ -31,6 +31,10 @@ public class BmpStringValue extends StringValue {
         super(value, false);
     }
 
+    BmpStringValue(String value, boolean isLargeConcatResult) {
+        super(value, false, isLargeConcatResult);
+    }
+
     @Override
     public int getCodePoint(int index) {
         return value.charAt(index);
@@ -43,17 +47,21 @@ public class BmpStringValue extends StringValue {
 
     @Override
     public BString concat(BString str) {
-        StringValue stringValue = (StringValue) str;
+        boolean isLargeConcat = value.length() >= RopeStringValue.MIN_ROPE_CHAR_LENGTH;
+        if (isLargeConcat && isLargeConcatResult) {
+            return new RopeStringValue(this, str);
+        }
+        StringValue stringValue = RopeStringValue.toFlatValue(str);
         if (stringValue.isNonBmp) {
-            int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
+            int[] otherSurrogates = ((NonBmpStringValue) stringValue).getSurrogates();
             int[] newSurrogates = new int[otherSurrogates.length];
             int length = length();
             for (int i = 0; i < otherSurrogates.length; i++) {
                 newSurrogates[i] = otherSurrogates[i] + length;
             }
-            return new NonBmpStringValue(this.value + str.getValue(), newSurrogates);
+            return new NonBmpStringValue(this.value + stringValue.value, newSurrogates, isLargeConcat);
         }
-        return new BmpStringValue(this.value + str.getValue());
+        return new BmpStringValue(this.value + stringValue.value, isLargeConcat);
     }
 
     @Override
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether the stack trace of an error value is captured when the error is created.
+ * <p>
+ * Errors are ordinary return values in Ballerina, so programs which create many expected errors can turn off the
+ * capturing of stack traces with {@code -Dballerina.error.stackTrace=none}, or capture the stack traces of only a
+ * sample of the errors with {@code -Dballerina.error.stackTrace=sampled}. One in every
+ * {@code ballerina.error.stackTrace.sampleRate} errors is captured in the sampled mode.
+ *
+ * @since 2201.11.0
+ */
+final class ErrorStackTraceCapture {
+
+    static final String MODE_PROPERTY = "ballerina.error.stackTrace";
+    static final String SAMPLE_RATE_PROPERTY = "ballerina.error.stackTrace.sampleRate";
+    private static final int DEFAULT_SAMPLE_RATE = 100;
+
+    private static final Mode MODE = getMode(System.getProperty(MODE_PROPERTY));
+    private static final int SAMPLE_RATE = getSampleRate(System.getProperty(SAMPLE_RATE_PROPERTY));
+
+    private ErrorStackTraceCapture() {
+    }
+
+    /**
+     * Modes of capturing the stack traces of error values.
+     */
+    enum Mode {
+        ALL,
+        SAMPLED,
+        NONE
+    }
+
+    static boolean shouldCapture() {
+        return switch (MODE) {
+            case ALL -> true;
+            case NONE -> false;
+            case SAMPLED -> ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0;
+        };
+    }
+
+    static Mode getMode(String value) {
+        if (value == null) {
+            return Mode.ALL;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "none", "off", "false" -> Mode.NONE;
+            case "sampled" -> Mode.SAMPLED;
+            default -> Mode.ALL;
+        };
+    }
+
+    static int getSampleRate(String value) {
+        if (value == null) {
+            return DEFAULT_SAMPLE_RATE;
+        }
+        try {
+            int sampleRate = Integer.parseInt(value.trim());
+            return sampleRate > 0 ? sampleRate : DEFAULT_SAMPLE_RATE;
+        } catch (NumberFormatException e) {
+            return DEFAULT_SAMPLE_RATE;
+        }
+    }
+}
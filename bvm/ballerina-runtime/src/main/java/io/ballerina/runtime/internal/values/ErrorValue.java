@@ -40,8 +40,9 @@ import io.ballerina.runtime.internal.utils.CycleUtils;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -76,6 +77,7 @@ public class ErrorValue extends BError implements RefValue {
     private final BString message;
     private final BError cause;
     private final BMap<BString, Object> details;
+    private volatile StackTraceElement[] filteredStackTrace;
 
     private static final String GENERATED_CLASS_TEXTS_REGEX = "\\$value\\$|\\$split\\$\\d|lambdas.\\$_generated\\d*";
     private static final String GENERATE_PKG_INIT = "___init_";
@@ -84,6 +86,7 @@ public class ErrorValue extends BError implements RefValue {
     private static final String INIT_FUNCTION_SUFFIX = "..<init>";
     private static final String START_FUNCTION_SUFFIX = ".<start>";
     private static final String STOP_FUNCTION_SUFFIX = ".<stop>";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
     public ErrorValue(BString message) {
         this(new BErrorType(TypeConstants.ERROR, PredefinedTypes.TYPE_ERROR.getPackage(), TYPE_MAP),
@@ -295,17 +298,34 @@ public class ErrorValue extends BError implements RefValue {
         outStream.println(ERROR_PRINT_PREFIX + getPrintableStackTrace());
     }
     
+    /**
+     * Captures the JVM stack trace of the error, unless capturing is turned off or the error is not sampled. The JVM
+     * only resolves the captured frames to stack trace elements when the stack trace is first read.
+     *
+     * @return this error
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (ErrorStackTraceCapture.shouldCapture()) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
     @Override
     public StackTraceElement[] getStackTrace() {
-        StackTraceElement[] stackTrace = super.getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
-        int index = 0;
-        for (StackTraceElement stackFrame : stackTrace) {
-            Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
-            stackTraceElement.ifPresent(filteredStack::add);
+        StackTraceElement[] stackTrace = this.filteredStackTrace;
+        if (stackTrace == null) {
+            stackTrace = filterStackTrace(super.getStackTrace());
+            this.filteredStackTrace = stackTrace;
         }
-        StackTraceElement[] filteredStackArray = new StackTraceElement[filteredStack.size()];
-        return filteredStack.toArray(filteredStackArray);
+        return stackTrace.clone();
+    }
+
+    @Override
+    public void setStackTrace(StackTraceElement[] stackTrace) {
+        super.setStackTrace(stackTrace);
+        this.filteredStackTrace = null;
     }
 
     /**
@@ -359,14 +379,20 @@ public class ErrorValue extends BError implements RefValue {
 
     @Override
     public List<StackTraceElement> getCallStack() {
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        List<StackTraceElement> filteredStack = new LinkedList<>();
+        StackTraceElement[] stackTrace = STACK_WALKER.walk(frames -> frames
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .toArray(StackTraceElement[]::new));
+        return new ArrayList<>(Arrays.asList(filterStackTrace(stackTrace)));
+    }
+
+    private StackTraceElement[] filterStackTrace(StackTraceElement[] stackTrace) {
+        List<StackTraceElement> filteredStack = new ArrayList<>(stackTrace.length);
         int index = 0;
         for (StackTraceElement stackFrame : stackTrace) {
             Optional<StackTraceElement> stackTraceElement = filterStackTraceElement(stackFrame, index++);
             stackTraceElement.ifPresent(filteredStack::add);
         }
-        return filteredStack;
+        return filteredStack.toArray(new StackTraceElement[0]);
     }
 
     private void printStackElement(StringBuilder sb, StackTraceElement stackTraceElement, String tab) {
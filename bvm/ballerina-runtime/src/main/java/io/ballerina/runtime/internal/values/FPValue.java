@@ -24,6 +24,7 @@ import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.scheduling.FPInvocation;
 
 import java.util.Map;
 import java.util.function.Function;
@@ -56,6 +57,11 @@ public class FPValue implements BFunctionPointer, RefValue {
         return balRuntime.scheduler.callFP(this, null, t);
     }
 
+    public FPInvocation bind(Runtime runtime, int argCount) {
+        BalRuntime balRuntime = (BalRuntime) runtime;
+        return balRuntime.scheduler.bindFP(this, argCount);
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return "function " + type;
@@ -98,7 +98,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private BTypedesc typedesc;
     private Type type;
     private Type referredType;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Lazily created, since most map and record values never carry native data
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -655,7 +656,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -665,6 +666,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public Object getNativeData(String key) {
+        if (nativeData == null) {
+            return null;
+        }
         return nativeData.get(key);
     }
 
@@ -682,6 +686,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
@@ -36,6 +36,11 @@ public class NonBmpStringValue extends StringValue {
         surrogates = surrogatePairLocations;
     }
 
+    NonBmpStringValue(String value, int[] surrogatePairLocations, boolean isLargeConcatResult) {
+        super(value, true, isLargeConcatResult);
+        surrogates = surrogatePairLocations;
+    }
+
    @Override
    public int getCodePoint(int index) {
        if ((index < 0) || (index >= value.length() - surrogates.length)) {
@@ -62,17 +67,21 @@ public class NonBmpStringValue extends StringValue {
 
    @Override
    public BString concat(BString str) {
-       StringValue stringValue = (StringValue) str;
+       boolean isLargeConcat = value.length() >= RopeStringValue.MIN_ROPE_CHAR_LENGTH;
+       if (isLargeConcat && isLargeConcatResult) {
+           return new RopeStringValue(this, str);
+       }
+       StringValue stringValue = RopeStringValue.toFlatValue(str);
        if (stringValue.isNonBmp) {
-           NonBmpStringValue other = (NonBmpStringValue) str;
+           NonBmpStringValue other = (NonBmpStringValue) stringValue;
            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
            int length = length();
            for (int i = 0; i < other.surrogates.length; i++) {
                both[i + surrogates.length] = other.surrogates[i] + length;
            }
-           return new NonBmpStringValue(this.value + other.value, both);
+           return new NonBmpStringValue(this.value + other.value, both, isLargeConcat);
        }
-       return new NonBmpStringValue(this.value + str.getValue(), surrogates);
+       return new NonBmpStringValue(this.value + stringValue.value, surrogates, isLargeConcat);
    }
 
     public int[] getSurrogates() {
@@ -17,13 +17,16 @@ package io.ballerina.runtime.internal.values;
 
 import io.ballerina.runtime.api.types.PredefinedTypes;
 import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BLink;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.regexp.RegExpFactory;
 
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 import static io.ballerina.runtime.internal.utils.ValueUtils.getTypedescValue;
 
@@ -40,6 +43,7 @@ import static io.ballerina.runtime.internal.utils.ValueUtils.getTypedescValue;
 public class RegExpValue implements BRegexpValue, RefValue {
     private final RegExpDisjunction regExpDisjunction;
     private BTypedesc typedesc;
+    private volatile Pattern pattern;
     private static final Type type = PredefinedTypes.TYPE_READONLY_ANYDATA;
 
     public RegExpValue(RegExpDisjunction regExpDisjunction) {
@@ -51,6 +55,25 @@ public class RegExpValue implements BRegexpValue, RefValue {
         return this.regExpDisjunction;
     }
 
+    /**
+     * Returns the Java pattern for this regular expression. Since regular expression values are immutable, the pattern
+     * is translated and compiled only on the first call.
+     *
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the translated expression is not a valid Java pattern
+     */
+    public Pattern getPattern() {
+        Pattern compiledPattern = this.pattern;
+        if (compiledPattern == null) {
+            // Map the required ballerina regexp constructs to java.
+            RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs(this);
+            String patternStr = StringUtils.getStringValue(translatedRegExpVal);
+            compiledPattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
+            this.pattern = compiledPattern;
+        }
+        return compiledPattern;
+    }
+
     @Override
     public String stringValue(BLink parent) {
         return this.regExpDisjunction.stringValue(parent);
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represent ballerina strings created by repeatedly concatenating to a large string.
+ * <p>
+ * A large string becomes a rope only when the string itself was created by a concatenation, so that a single
+ * concatenation to a large string is still a plain copy.
+ * <p>
+ * The characters are kept in a {@link StringBuilder} which is shared with the strings created by concatenating to
+ * this string. A concatenation appends to the shared builder when this string is the latest string built on it, so
+ * that building a string with {@code s = s + x} in a loop is not quadratic. The string is flattened into a
+ * {@link BmpStringValue} or a {@link NonBmpStringValue} on first access of its value, after which the shared
+ * builder is released.
+ *
+ * @since 2201.11.0
+ */
+public final class RopeStringValue extends StringValue {
+
+    /**
+     * Minimum number of chars in the left hand side string of a repeated concatenation for the result to be a rope.
+     */
+    static final int MIN_ROPE_CHAR_LENGTH = 1024;
+
+    // Cleared once the string is flattened, so that the flattened strings do not keep the shared builder alive
+    private volatile StringBuilder buffer;
+    private final int charLength;
+    private final int length;
+    private volatile StringValue flatValue;
+
+    RopeStringValue(StringValue lhs, BString rhs) {
+        super(null, lhs.isNonBmp || ((StringValue) rhs).isNonBmp);
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        StringBuilder buf = new StringBuilder(lhsValue.length() + rhsValue.length());
+        buf.append(lhsValue).append(rhsValue);
+        this.buffer = buf;
+        this.charLength = buf.length();
+        this.length = lhs.length() + rhs.length();
+    }
+
+    private RopeStringValue(StringBuilder buffer, int charLength, int length, boolean isNonBmp) {
+        super(null, isNonBmp);
+        this.buffer = buffer;
+        this.charLength = charLength;
+        this.length = length;
+    }
+
+    /**
+     * Returns the given string as a {@link BmpStringValue} or a {@link NonBmpStringValue}.
+     *
+     * @param str string value
+     * @return flattened string value
+     */
+    public static StringValue toFlatValue(BString str) {
+        if (str instanceof RopeStringValue ropeStringValue) {
+            return ropeStringValue.getFlatValue();
+        }
+        return (StringValue) str;
+    }
+
+    @Override
+    public String getValue() {
+        return getFlatValue().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return getFlatValue().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        String strValue = str.getValue();
+        int newLength = length + str.length();
+        boolean newIsNonBmp = isNonBmp || ((StringValue) str).isNonBmp;
+        StringBuilder buf = buffer;
+        if (buf != null) {
+            synchronized (buf) {
+                if (buf.length() == charLength) {
+                    buf.append(strValue);
+                    return new RopeStringValue(buf, buf.length(), newLength, newIsNonBmp);
+                }
+            }
+        }
+        // Either another string has already been appended to the shared builder or this string has been flattened,
+        // hence copy the chars of this string.
+        StringBuilder newBuffer = new StringBuilder(charLength + strValue.length());
+        newBuffer.append(getValue()).append(strValue);
+        return new RopeStringValue(newBuffer, newBuffer.length(), newLength, newIsNonBmp);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return getFlatValue().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return getFlatValue().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return getFlatValue().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public IteratorValue<String> getIterator() {
+        return getFlatValue().getIterator();
+    }
+
+    private StringValue getFlatValue() {
+        StringValue flat = flatValue;
+        if (flat != null) {
+            return flat;
+        }
+        StringBuilder buf = buffer;
+        if (buf == null) {
+            // Flattened by another thread, which sets the flat value before clearing the builder
+            return flatValue;
+        }
+        String value;
+        synchronized (buf) {
+            value = buf.substring(0, charLength);
+        }
+        flat = isNonBmp ? (StringValue) StringUtils.fromString(value) : new BmpStringValue(value);
+        flatValue = flat;
+        buffer = null;
+        return flat;
+    }
+}
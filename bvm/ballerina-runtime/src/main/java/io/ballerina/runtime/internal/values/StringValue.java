@@ -33,10 +33,17 @@ public abstract class StringValue implements BString, SimpleValue {
 
     final String value;
     final boolean isNonBmp;
+    // Whether the string was created by concatenating to a string long enough to be concatenated as a rope
+    final boolean isLargeConcatResult;
 
     protected StringValue(String value, boolean isNonBmp) {
+        this(value, isNonBmp, false);
+    }
+
+    StringValue(String value, boolean isNonBmp, boolean isLargeConcatResult) {
         this.value = value;
         this.isNonBmp = isNonBmp;
+        this.isLargeConcatResult = isLargeConcatResult;
     }
 
     @Override
@@ -66,7 +73,7 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String stringValue(BLink parent) {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -81,12 +88,12 @@ public abstract class StringValue implements BString, SimpleValue {
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return getValue().hashCode();
     }
 
     @Override
@@ -95,7 +102,7 @@ public abstract class StringValue implements BString, SimpleValue {
             return true;
         }
         if (str instanceof BString bString) {
-            return bString.getValue().equals(value);
+            return bString.getValue().equals(getValue());
         }
         return false;
     }
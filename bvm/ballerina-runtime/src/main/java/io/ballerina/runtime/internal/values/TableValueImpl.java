@@ -609,8 +609,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             MapValue<?, ?> dataMap = (MapValue<?, ?>) data;
             checkInherentTypeViolation(dataMap, tableType);
             K key = this.keyWrapper.wrapKey(dataMap);
+            // Hashing walks the whole key value, hence the hash is computed once and reused
+            Long hash = TableUtils.hash(key, null);
 
-            if (containsKey(key)) {
+            if (containsKey(key, hash)) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         ErrorHelper.getErrorDetails(ErrorCodes.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
@@ -620,11 +622,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
 
             Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
+            List<Map.Entry<K, V>> extEntries = entries.get(hash);
 
-            if (entries.containsKey(hash)) {
+            if (extEntries != null) {
                 updateIndexKeyMappings(hash, key, data);
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
                 extEntries.add(entry);
                 List<V> extValues = values.get(hash);
                 extValues.add(data);
@@ -745,12 +746,17 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         @Override
         public boolean containsKey(K key) {
-            if (entries.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (isEqual(entry.getKey(), key)) {
-                        return true;
-                    }
+            return containsKey(key, TableUtils.hash(key, null));
+        }
+
+        private boolean containsKey(K key, Long hash) {
+            List<Map.Entry<K, V>> entryList = entries.get(hash);
+            if (entryList == null) {
+                return false;
+            }
+            for (Map.Entry<K, V> entry: entryList) {
+                if (isEqual(entry.getKey(), key)) {
+                    return true;
                 }
             }
             return false;
@@ -763,6 +769,10 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         private class DefaultKeyWrapper {
 
+            // Both the field names and their string values are kept in one object, so that they are always read
+            // together by other threads
+            private volatile KeyFields keyFields;
+
             public DefaultKeyWrapper() {
                 if (fieldNames.length == 1) {
                     keyType = getTableConstraintField(tableType.getConstrainedType(), fieldNames[0]);
@@ -773,8 +783,26 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
 
             public K wrapKey(MapValue<?, ?> data) {
-                return (K) data.get(StringUtils.fromString(fieldNames[0]));
+                return (K) data.get(getKeyFields()[0]);
             }
+
+            BString[] getKeyFields() {
+                // Field names can be replaced after the value holder is created, e.g. when cloning
+                String[] names = fieldNames;
+                KeyFields cached = keyFields;
+                if (cached == null || cached.names() != names) {
+                    BString[] fields = new BString[names.length];
+                    for (int i = 0; i < names.length; i++) {
+                        fields[i] = StringUtils.fromString(names[i]);
+                    }
+                    cached = new KeyFields(names, fields);
+                    keyFields = cached;
+                }
+                return cached.fields();
+            }
+        }
+
+        private record KeyFields(String[] names, BString[] fields) {
         }
 
         private class MultiKeyWrapper extends DefaultKeyWrapper {
@@ -798,8 +826,9 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             public K wrapKey(MapValue<?, ?> data) {
                 TupleValueImpl arr = (TupleValueImpl) ValueCreator
                         .createTupleValue((BTupleType) keyType);
-                for (int i = 0; i < fieldNames.length; i++) {
-                    arr.add(i, data.get(StringUtils.fromString(fieldNames[i])));
+                BString[] keyFields = getKeyFields();
+                for (int i = 0; i < keyFields.length; i++) {
+                    arr.add(i, data.get(keyFields[i]));
                 }
                 return (K) arr;
             }
@@ -40,13 +40,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
@@ -81,12 +82,14 @@ public class TransactionResourceManager {
     public static final String TRANSACTION_CLEANUP_TIMEOUT_KEY = "transactionCleanupTimeout";
 
     private static final Logger LOG = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private final Map<String, List<BallerinaTransactionContext>> resourceRegistry = new HashMap<>();
-    private Map<String, Transaction> trxRegistry;
+    // Registries are accessed by strands of many transactions at once, hence they are concurrent maps.
+    private final Map<String, List<BallerinaTransactionContext>> resourceRegistry = new ConcurrentHashMap<>();
+    // Completed once the first participant of the transaction has begun it
+    private Map<String, CompletableFuture<Transaction>> trxRegistry;
     private Map<String, Xid> xidRegistry;
 
-    private final Map<String, List<BFunctionPointer>> committedFuncRegistry = new HashMap<>();;
-    private final Map<String, List<BFunctionPointer>> abortedFuncRegistry = new HashMap<>();;
+    private final Map<String, List<BFunctionPointer>> committedFuncRegistry = new ConcurrentHashMap<>();
+    private final Map<String, List<BFunctionPointer>> abortedFuncRegistry = new ConcurrentHashMap<>();
 
     private final Set<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
     private final Set<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
@@ -100,11 +103,11 @@ public class TransactionResourceManager {
     private TransactionResourceManager() {
         transactionManagerEnabled = getTransactionManagerEnabled();
         if (transactionManagerEnabled) {
-            trxRegistry = new HashMap<>();
+            trxRegistry = new ConcurrentHashMap<>();
             setLogProperties();
             userTransactionManager = new UserTransactionManager();
         } else {
-            xidRegistry = new HashMap<>();
+            xidRegistry = new ConcurrentHashMap<>();
         }
     }
 
@@ -234,7 +237,7 @@ public class TransactionResourceManager {
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new CopyOnWriteArrayList<>()).add(txContext);
     }
 
     /**
@@ -245,7 +248,8 @@ public class TransactionResourceManager {
      */
     public void registerCommittedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            committedFuncRegistry.computeIfAbsent(transactionBlockId,
+                    list -> Collections.synchronizedList(new ArrayList<>())).add(fpValue);
         }
     }
 
@@ -257,7 +261,8 @@ public class TransactionResourceManager {
      */
     public void registerAbortedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            abortedFuncRegistry.computeIfAbsent(transactionBlockId,
+                    list -> Collections.synchronizedList(new ArrayList<>())).add(fpValue);
         }
     }
 
@@ -328,7 +333,7 @@ public class TransactionResourceManager {
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
         if (txContextList != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = getTransaction(combinedId);
                 try {
                     if (trx != null) {
                         trx.commit();
@@ -386,7 +391,7 @@ public class TransactionResourceManager {
 
         if (txContextList != null) {
             if (transactionManagerEnabled) {
-                Transaction trx = trxRegistry.get(combinedId);
+                Transaction trx = getTransaction(combinedId);
                 try {
                     if (trx != null) {
                         trx.rollback();
@@ -441,23 +446,30 @@ public class TransactionResourceManager {
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            if (trxRegistry.containsKey(combinedId)) {
+                return;
+            }
+            // Only the first participant begins the transaction. It begins it outside the map operation, since
+            // beginning a transaction can block, and the other participants wait for it through the future.
+            CompletableFuture<Transaction> trxFuture = new CompletableFuture<>();
+            if (trxRegistry.putIfAbsent(combinedId, trxFuture) != null) {
+                return;
+            }
+            Transaction trx = null;
             try {
-                if (trx == null) {
-                    userTransactionManager.begin();
-
-                    trx = userTransactionManager.getTransaction();
-                    trxRegistry.put(combinedId, trx);
-                }
+                userTransactionManager.begin();
+                trx = userTransactionManager.getTransaction();
             } catch (SystemException | NotSupportedException e) {
                 LOG.error("error in initiating transaction " + transactionId + ":" + e.getMessage(), e);
+            } finally {
+                if (trx == null) {
+                    // A failed begin is not registered
+                    trxRegistry.remove(combinedId, trxFuture);
+                }
+                trxFuture.complete(trx);
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            if (xid == null) {
-                xid = XIDGenerator.createXID();
-                xidRegistry.put(combinedId, xid);
-            }
+            Xid xid = xidRegistry.computeIfAbsent(combinedId, id -> XIDGenerator.createXID());
             try {
                 xaResource.start(xid, TMNOFLAGS);
             } catch (XAException e) {
@@ -466,6 +478,11 @@ public class TransactionResourceManager {
         }
     }
 
+    private Transaction getTransaction(String combinedId) {
+        CompletableFuture<Transaction> trxFuture = trxRegistry.get(combinedId);
+        return trxFuture == null ? null : trxFuture.join();
+    }
+
     /**
      * Cleanup the Info record keeping state related to current transaction context and remove the current
      * context from the stack.
@@ -518,13 +535,7 @@ public class TransactionResourceManager {
     public BArray getRegisteredRollbackHandlerList() {
         List<BFunctionPointer> abortFunctions =
                 abortedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
-        if (abortFunctions != null && !abortFunctions.isEmpty()) {
-            Collections.reverse(abortFunctions);
-            return ValueCreator.createArrayValue(abortFunctions.toArray(),
-                    TypeCreator.createArrayType(abortFunctions.get(0).getType()));
-        } else {
-            return getNillArray();
-        }
+        return getReversedHandlerList(abortFunctions);
     }
 
     /**
@@ -534,13 +545,22 @@ public class TransactionResourceManager {
     public BArray getRegisteredCommitHandlerList() {
         List<BFunctionPointer> commitFunctions =
                 committedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
-        if (commitFunctions != null && !commitFunctions.isEmpty()) {
-            Collections.reverse(commitFunctions);
-            return ValueCreator.createArrayValue(commitFunctions.toArray(),
-                    TypeCreator.createArrayType(commitFunctions.get(0).getType()));
-        } else {
+        return getReversedHandlerList(commitFunctions);
+    }
+
+    private BArray getReversedHandlerList(List<BFunctionPointer> handlers) {
+        if (handlers == null) {
             return getNillArray();
         }
+        // The handler lists are synchronized lists, which require the lock to be held for compound operations.
+        synchronized (handlers) {
+            if (handlers.isEmpty()) {
+                return getNillArray();
+            }
+            Collections.reverse(handlers);
+            return ValueCreator.createArrayValue(handlers.toArray(),
+                    TypeCreator.createArrayType(handlers.get(0).getType()));
+        }
     }
 
     private BArray getNillArray() {
@@ -583,7 +603,7 @@ public class TransactionResourceManager {
     void endXATransaction(String transactionId, String transactionBlockId, boolean abortOnly) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            Transaction trx = getTransaction(combinedId);
             if (trx != null) {
                 List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
                 if (txContextList != null) {
@@ -649,11 +669,6 @@ public class TransactionResourceManager {
     }
 
     public Object getTransactionRecord(BArray xid) {
-        synchronized (transactionInfoMap) {
-            if (transactionInfoMap.containsKey(ByteBuffer.wrap(xid.getBytes()))) {
-                return transactionInfoMap.get(ByteBuffer.wrap(xid.getBytes()));
-            }
-            return null;
-        }
+        return transactionInfoMap.get(ByteBuffer.wrap(xid.getBytes()));
     }
 }
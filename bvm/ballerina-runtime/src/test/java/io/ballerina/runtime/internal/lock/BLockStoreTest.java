@@ -0,0 +1,312 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.lock;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.observability.metrics.AbstractMetric;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.PolledGauge;
+import io.ballerina.runtime.observability.metrics.Snapshot;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Test cases for {@link BLockStore} and {@link BLock}.
+ *
+ * @since 2201.11.0
+ */
+public class BLockStoreTest {
+
+    private final TestMetricProvider metricProvider = new TestMetricProvider();
+    private MetricRegistry defaultRegistry;
+
+    @BeforeClass
+    public void setup() {
+        defaultRegistry = DefaultMetricRegistry.getInstance();
+        DefaultMetricRegistry.setInstance(new MetricRegistry(metricProvider));
+    }
+
+    @AfterClass
+    public void tearDown() {
+        DefaultMetricRegistry.setInstance(defaultRegistry);
+    }
+
+    @Test
+    public void testLockIdResolvedFromTable() {
+        BLockStore lockStore = new BLockStore("test", 3);
+        BLock lock0 = lockStore.getLock(0);
+        BLock lock2 = lockStore.getLock(2);
+
+        Assert.assertSame(lockStore.getLock(0), lock0);
+        Assert.assertSame(lockStore.getLock(2), lock2);
+        Assert.assertNotSame(lock0, lock2);
+        // Locks in the table are not added to the map of named locks
+        Assert.assertNotSame(lockStore.getLockFromMap("lock0"), lock0);
+    }
+
+    @Test
+    public void testLockIdOutOfTableFallsBackToMap() {
+        BLockStore lockStore = new BLockStore("test", 2);
+        BLock lock5 = lockStore.getLock(5);
+        BLock negativeLock = lockStore.getLock(-1);
+
+        Assert.assertSame(lockStore.getLock(5), lock5);
+        Assert.assertSame(lockStore.getLockFromMap("lock5"), lock5);
+        Assert.assertSame(lockStore.getLock(-1), negativeLock);
+        Assert.assertSame(lockStore.getLockFromMap("lock-1"), negativeLock);
+        Assert.assertNotSame(lock5, negativeLock);
+
+        BLockStore emptyLockStore = new BLockStore();
+        Assert.assertSame(emptyLockStore.getLock(0), emptyLockStore.getLockFromMap("lock0"));
+    }
+
+    @Test
+    public void testLockAndUnlockById() throws InterruptedException {
+        BLockStore lockStore = new BLockStore("test", 1);
+        Strand strand = new Strand(null, "lockHolder", null, true, null, null);
+
+        lockStore.lock(strand, 0);
+        lockStore.lock(strand, 0);
+        Assert.assertEquals(strand.acquiredLockCount, 2);
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread contender = new Thread(() -> {
+            Strand contenderStrand = new Strand(null, "contender", null, true, null, null);
+            lockStore.lock(contenderStrand, 0);
+            acquired.countDown();
+            lockStore.unlock(contenderStrand, 0);
+        });
+        contender.start();
+        Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+        lockStore.unlock(strand, 0);
+        Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        lockStore.unlock(strand, 0);
+        Assert.assertEquals(strand.acquiredLockCount, 0);
+        Assert.assertTrue(acquired.await(10, TimeUnit.SECONDS));
+        contender.join();
+    }
+
+    @Test
+    public void testContentionMetrics() throws InterruptedException {
+        BLock lock = new BLock("test", "contendedLock");
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            lock.lock();
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        holder.start();
+        Assert.assertTrue(held.await(10, TimeUnit.SECONDS));
+
+        long waitStartTime = System.nanoTime();
+        Assert.assertFalse(lock.tryLock());
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        lock.lock();
+        long waited = System.nanoTime() - waitStartTime;
+        lock.recordAcquired(waitStartTime);
+
+        // Reentrant acquisitions are not counted
+        lock.lock();
+        lock.recordAcquired(System.nanoTime());
+        lock.recordReleasing();
+        lock.unlock();
+
+        lock.recordReleasing();
+        lock.unlock();
+        holder.join();
+        releaser.join();
+
+        TestCounter acquisitions = (TestCounter) metricProvider.metric("lock_acquisitions_total");
+        TestGauge waitTime = (TestGauge) metricProvider.metric("lock_wait_time_nanoseconds");
+        TestGauge holdTime = (TestGauge) metricProvider.metric("lock_hold_time_nanoseconds");
+        TestCounter waitTimeTotal = (TestCounter) metricProvider.metric("lock_wait_time_nanoseconds_total");
+        TestCounter holdTimeTotal = (TestCounter) metricProvider.metric("lock_hold_time_nanoseconds_total");
+        Assert.assertEquals(acquisitions.getValue(), 1);
+        Assert.assertEquals(waitTime.getCount(), 1);
+        Assert.assertTrue(waitTime.getValue() >= TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertTrue(waitTime.getValue() <= waited);
+        Assert.assertEquals(waitTimeTotal.getValue(), (long) waitTime.getValue());
+        Assert.assertEquals(holdTime.getCount(), 1);
+        Assert.assertTrue(holdTime.getValue() >= 0);
+        long firstHoldTime = holdTimeTotal.getValue();
+
+        // An uncontended acquisition is added to the totals instead of replacing the previous times
+        long uncontendedWaitStartTime = System.nanoTime();
+        lock.lock();
+        lock.recordAcquired(uncontendedWaitStartTime);
+        lock.recordReleasing();
+        lock.unlock();
+
+        Assert.assertEquals(acquisitions.getValue(), 2);
+        Assert.assertEquals(waitTime.getCount(), 2);
+        Assert.assertTrue(waitTimeTotal.getValue() >= TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertTrue(waitTimeTotal.getValue() > (long) waitTime.getValue());
+        Assert.assertEquals(holdTime.getCount(), 2);
+        Assert.assertTrue(holdTimeTotal.getValue() >= firstHoldTime);
+    }
+
+    private static class TestMetricProvider implements MetricProvider {
+
+        private final Map<String, AbstractMetric> metrics = new ConcurrentHashMap<>();
+
+        AbstractMetric metric(String name) {
+            return metrics.get(name);
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public Counter newCounter(MetricId metricId) {
+            TestCounter counter = new TestCounter(metricId);
+            metrics.put(metricId.getName(), counter);
+            return counter;
+        }
+
+        @Override
+        public Gauge newGauge(MetricId metricId, StatisticConfig... statisticConfigs) {
+            TestGauge gauge = new TestGauge(metricId);
+            metrics.put(metricId.getName(), gauge);
+            return gauge;
+        }
+
+        @Override
+        public <T> PolledGauge newPolledGauge(MetricId metricId, T obj, ToDoubleFunction<T> toDoubleFunction) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class TestCounter extends AbstractMetric implements Counter {
+
+        private final AtomicLong value = new AtomicLong();
+
+        TestCounter(MetricId metricId) {
+            super(metricId);
+        }
+
+        @Override
+        public void reset() {
+            value.set(0);
+        }
+
+        @Override
+        public void increment(long amount) {
+            value.addAndGet(amount);
+        }
+
+        @Override
+        public long getValue() {
+            return value.get();
+        }
+
+        @Override
+        public long getValueThenReset() {
+            return value.getAndSet(0);
+        }
+    }
+
+    private static class TestGauge extends AbstractMetric implements Gauge {
+
+        private double value;
+        private double sum;
+        private long count;
+
+        TestGauge(MetricId metricId) {
+            super(metricId);
+        }
+
+        @Override
+        public synchronized void increment(double amount) {
+            setValue(value + amount);
+        }
+
+        @Override
+        public synchronized void decrement(double amount) {
+            setValue(value - amount);
+        }
+
+        @Override
+        public synchronized void setValue(double value) {
+            this.value = value;
+            this.sum += value;
+            this.count++;
+        }
+
+        @Override
+        public synchronized double getValue() {
+            return value;
+        }
+
+        @Override
+        public synchronized long getCount() {
+            return count;
+        }
+
+        @Override
+        public synchronized double getSum() {
+            return sum;
+        }
+
+        @Override
+        public Snapshot[] getSnapshots() {
+            return new Snapshot[0];
+        }
+
+        @Override
+        public StatisticConfig[] getStatisticsConfig() {
+            return new StatisticConfig[0];
+        }
+    }
+}
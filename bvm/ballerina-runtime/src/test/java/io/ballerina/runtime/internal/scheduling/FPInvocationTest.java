@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.values.FPValue;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link FPInvocation}, which calls a function pointer repeatedly on the current strand.
+ *
+ * @since 2201.11.0
+ */
+public class FPInvocationTest {
+
+    private static final Module MODULE = new Module("testorg", "fp_invocation", "1");
+    private static final long TIMEOUT_IN_SECONDS = 10;
+
+    private Scheduler scheduler;
+
+    @BeforeClass
+    public void setup() {
+        scheduler = new BalRuntime(MODULE).scheduler;
+    }
+
+    @Test
+    public void testArgumentArrayIsReused() throws Exception {
+        List<Object[]> argArrays = new ArrayList<>();
+        List<Object> argValues = new ArrayList<>();
+        FPValue fp = functionPointer(1, args -> {
+            argArrays.add(args);
+            argValues.add(args[1]);
+            return (long) args[1] * 10;
+        });
+        List<Object> results = new ArrayList<>();
+        Strand strand = runOnStrand(currentStrand -> {
+            try (FPInvocation invocation = scheduler.bindFP(fp, 1)) {
+                for (long i = 1; i <= 3; i++) {
+                    results.add(invocation.call(i));
+                }
+            }
+            return currentStrand;
+        });
+
+        Assert.assertEquals(results, List.of(10L, 20L, 30L));
+        Assert.assertEquals(argValues, List.of(1L, 2L, 3L));
+        Assert.assertSame(argArrays.get(0), argArrays.get(2));
+        Assert.assertSame(argArrays.get(0)[0], strand);
+    }
+
+    @Test
+    public void testStrandIsResumedOnce() throws Exception {
+        List<Integer> holdCounts = new ArrayList<>();
+        FPValue fp = functionPointer(2, args -> {
+            holdCounts.add(scheduler.globalNonIsolatedLock.getHoldCount());
+            return (long) args[1] + (long) args[2];
+        });
+        boolean runnableAfterClose = runOnStrand(strand -> {
+            strand.yield();
+            try (FPInvocation invocation = scheduler.bindFP(fp, 2)) {
+                Assert.assertEquals(invocation.call(1L, 2L), 3L);
+                Assert.assertEquals(invocation.call(3L, 4L), 7L);
+            }
+            return strand.isRunnable();
+        });
+
+        Assert.assertEquals(holdCounts, List.of(1, 1));
+        Assert.assertFalse(runnableAfterClose);
+    }
+
+    @Test
+    public void testRunnableStrandIsNotYieldedOnClose() throws Exception {
+        FPValue fp = functionPointer(1, args -> true);
+        boolean runnableAfterClose = runOnStrand(strand -> {
+            try (FPInvocation invocation = scheduler.bindFP(fp, 1)) {
+                Assert.assertTrue(invocation.callBoolean(1L));
+            }
+            return strand.isRunnable();
+        });
+
+        Assert.assertTrue(runnableAfterClose);
+    }
+
+    @Test
+    public void testCallbackYieldingInTheMiddleOfTheCalls() throws Exception {
+        List<Boolean> runnable = new ArrayList<>();
+        FPValue fp = functionPointer(1, args -> {
+            Strand strand = (Strand) args[0];
+            runnable.add(strand.isRunnable());
+            if ((long) args[1] == 2) {
+                // Yield as a blocking call does, and let a strand on another thread take the lock meanwhile
+                strand.yield();
+                runnable.add(strand.isRunnable());
+                CompletableFuture.runAsync(() -> {
+                    scheduler.globalNonIsolatedLock.lock();
+                    scheduler.globalNonIsolatedLock.unlock();
+                }).orTimeout(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS).join();
+                strand.resume();
+            }
+            return args[1];
+        });
+        List<Object> results = new ArrayList<>();
+        boolean runnableAfterClose = runOnStrand(strand -> {
+            strand.yield();
+            try (FPInvocation invocation = scheduler.bindFP(fp, 1)) {
+                for (long i = 1; i <= 3; i++) {
+                    results.add(invocation.call(i));
+                }
+            }
+            return strand.isRunnable();
+        });
+
+        Assert.assertEquals(results, List.of(1L, 2L, 3L));
+        Assert.assertEquals(runnable, List.of(true, true, false, true));
+        Assert.assertFalse(runnableAfterClose);
+    }
+
+    @Test
+    public void testCallbackPanickingInTheMiddleOfTheCalls() throws Exception {
+        List<Object> argValues = new ArrayList<>();
+        FPValue fp = functionPointer(1, args -> {
+            argValues.add(args[1]);
+            if ((long) args[1] == 2) {
+                throw ErrorCreator.createError(StringUtils.fromString("callback failed"));
+            }
+            return args[1];
+        });
+        Object[] result = runOnStrand(strand -> {
+            strand.yield();
+            try (FPInvocation invocation = scheduler.bindFP(fp, 1)) {
+                for (long i = 1; i <= 3; i++) {
+                    invocation.call(i);
+                }
+            } catch (BError error) {
+                return new Object[]{error.getMessage(), strand.isRunnable()};
+            }
+            return new Object[]{null, strand.isRunnable()};
+        });
+
+        Assert.assertEquals(result[0], "callback failed");
+        Assert.assertEquals(result[1], false);
+        Assert.assertEquals(argValues, List.of(1L, 2L));
+    }
+
+    @Test
+    public void testExceptionInsideTryClosesInvocation() throws Exception {
+        FPValue fp = functionPointer(1, args -> args[1]);
+        Object[] result = runOnStrand(strand -> {
+            strand.yield();
+            try (FPInvocation invocation = scheduler.bindFP(fp, 1)) {
+                invocation.call(1L);
+                throw new IllegalStateException("loop failed");
+            } catch (IllegalStateException e) {
+                return new Object[]{e.getMessage(), strand.isRunnable()};
+            }
+        });
+
+        Assert.assertEquals(result[0], "loop failed");
+        Assert.assertEquals(result[1], false);
+    }
+
+    /**
+     * Runs the given function on a new non-isolated strand, which holds the global lock when the function starts.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T runOnStrand(Function<Strand, T> function) throws Exception {
+        FutureValue future = scheduler.startNonIsolatedWorker(args -> function.apply((Strand) args[0]), null,
+                PredefinedTypes.TYPE_ANY, "fp-invocation-test", null, new Object[0]);
+        return (T) future.completableFuture.get(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static FPValue functionPointer(int paramCount, Function<Object[], Object> function) {
+        Parameter[] parameters = new Parameter[paramCount];
+        for (int i = 0; i < paramCount; i++) {
+            parameters[i] = new Parameter("p" + i, false, null, PredefinedTypes.TYPE_INT);
+        }
+        BFunctionType functionType = new BFunctionType(MODULE, parameters, null, PredefinedTypes.TYPE_ANY, 0,
+                "callback");
+        return new FPValue(function, functionType, "callback", false);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for the properties of {@link Strand}.
+ *
+ * @since 2201.11.0
+ */
+public class StrandTest {
+
+    @Test
+    public void testPropertiesAreNotAllocatedUntilWritten() {
+        Strand strand = new Strand(null, "parent", null, false, null, null);
+        Assert.assertNull(strand.getProperty("key"));
+        Strand child = new Strand(null, "child", strand, false, null, null);
+        Assert.assertNull(child.getProperty("key"));
+    }
+
+    @Test
+    public void testChildCopiesPropertiesOfParent() {
+        Strand parent = new Strand(null, "parent", null, false, null, null);
+        parent.setProperty("inherited", 1);
+        Strand child = new Strand(null, "child", parent, false, null, null);
+        Assert.assertEquals(child.getProperty("inherited"), 1);
+
+        child.setProperty("child", 2);
+        parent.setProperty("parent", 3);
+        parent.setProperty("inherited", 4);
+        Assert.assertNull(parent.getProperty("child"));
+        Assert.assertNull(child.getProperty("parent"));
+        Assert.assertEquals(child.getProperty("inherited"), 1);
+        Assert.assertEquals(parent.getProperty("inherited"), 4);
+    }
+
+    @Test
+    public void testGivenPropertiesAreUsed() {
+        Strand parent = new Strand(null, "parent", null, false, null, null);
+        parent.setProperty("inherited", 1);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("given", 2);
+        Strand child = new Strand(null, "child", parent, false, properties, null);
+        Assert.assertEquals(child.getProperty("given"), 2);
+        Assert.assertNull(child.getProperty("inherited"));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.types;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.values.ReadOnlyUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TypeCheckCache}.
+ *
+ * @since 2201.11.0
+ */
+public class TypeCheckCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+        TypeCheckCache cache = new TypeCheckCache();
+        BType intMap = (BType) TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        BType stringMap = (BType) TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+
+        Assert.assertNull(cache.get(intMap));
+        cache.put(intMap, true);
+        cache.put(stringMap, false);
+        Assert.assertEquals(cache.get(intMap), Boolean.TRUE);
+        Assert.assertEquals(cache.get(stringMap), Boolean.FALSE);
+        cache.put(intMap, false);
+        Assert.assertEquals(cache.get(intMap), Boolean.FALSE);
+    }
+
+    @Test
+    public void testResultsOfOtherTargetTypesAreNotReturned() {
+        TypeCheckCache cache = new TypeCheckCache();
+        List<BType> targetTypes = new ArrayList<>();
+        // More target types than the entries of the cache, so that some of them map to the same entry
+        for (int i = 0; i < 100; i++) {
+            targetTypes.add((BType) TypeCreator.createMapType(PredefinedTypes.TYPE_INT));
+        }
+        for (int i = 0; i < targetTypes.size(); i++) {
+            cache.put(targetTypes.get(i), i % 2 == 0);
+        }
+        int cachedCount = 0;
+        for (int i = 0; i < targetTypes.size(); i++) {
+            Boolean result = cache.get(targetTypes.get(i));
+            if (result != null) {
+                Assert.assertEquals(result.booleanValue(), i % 2 == 0);
+                cachedCount++;
+            }
+        }
+        Assert.assertTrue(cachedCount > 0);
+        Assert.assertTrue(cachedCount < targetTypes.size());
+        // The most recent results are retained
+        Assert.assertEquals(cache.get(targetTypes.get(targetTypes.size() - 1)), Boolean.FALSE);
+    }
+
+    @Test
+    public void testModifyingTypeInvalidatesCaches() {
+        BType sourceType = (BType) TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+        TypeCheckCache cache = sourceType.getTypeCheckCache();
+        Assert.assertTrue(cache.isValid());
+        Assert.assertSame(sourceType.getTypeCheckCache(), cache);
+
+        BUnionType unionType = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING);
+        TypeChecker.checkIsType(unionType, PredefinedTypes.TYPE_ANYDATA);
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BOOLEAN});
+        Assert.assertFalse(cache.isValid());
+        Assert.assertNotSame(sourceType.getTypeCheckCache(), cache);
+        Assert.assertTrue(sourceType.getTypeCheckCache().isValid());
+    }
+
+    @Test
+    public void testModifyingUncheckedTypeDoesNotInvalidateCaches() {
+        BType sourceType = (BType) TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+        TypeCheckCache cache = sourceType.getTypeCheckCache();
+
+        // Types which are being created have not taken part in any type check
+        BUnionType unionType = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                PredefinedTypes.TYPE_STRING);
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BOOLEAN});
+        BErrorType errorType = new BErrorType("MyError", null);
+        errorType.setDetailType(PredefinedTypes.TYPE_DETAIL);
+        errorType.setTypeIdSet(new BTypeIdSet());
+        Assert.assertTrue(cache.isValid());
+
+        // Setting the same detail type again does not modify a checked type
+        TypeChecker.checkIsType(errorType, PredefinedTypes.TYPE_ERROR);
+        errorType.setDetailType(PredefinedTypes.TYPE_DETAIL);
+        Assert.assertTrue(cache.isValid());
+        errorType.setDetailType(PredefinedTypes.TYPE_ERROR_DETAIL);
+        Assert.assertFalse(cache.isValid());
+    }
+
+    @Test
+    public void testSettingImmutableTypeDoesNotInvalidateCaches() {
+        BType sourceType = (BType) TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+        TypeCheckCache cache = sourceType.getTypeCheckCache();
+
+        // The immutable type of a type does not take part in the checks of the type
+        BMapType mapType = (BMapType) TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        TypeChecker.checkIsType(mapType, PredefinedTypes.TYPE_ANYDATA);
+        ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(mapType);
+        Assert.assertTrue(mapType.getImmutableType() != null);
+        Assert.assertTrue(cache.isValid());
+    }
+
+    @Test
+    public void testTypeCheckAfterUnionMembersAreModified() {
+        BType sourceType = (BType) TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+        BUnionType unionType = (BUnionType) TypeCreator.createUnionType(PredefinedTypes.TYPE_INT,
+                TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        Assert.assertTrue(TypeChecker.checkIsType(sourceType, unionType));
+        // Result is cached
+        Assert.assertEquals(sourceType.getTypeCheckCache().get(unionType), Boolean.TRUE);
+
+        unionType.setMemberTypes(new Type[]{PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_BOOLEAN});
+        Assert.assertFalse(TypeChecker.checkIsType(sourceType, unionType));
+    }
+
+    @Test
+    public void testTypeCheckAfterRecordFieldsAreModified() {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        fields.put("a", TypeCreator.createField(PredefinedTypes.TYPE_INT, "a", 0));
+        BRecordType recordType = (BRecordType) TypeCreator.createRecordType("Rec", null, 0, fields, null, true, 0);
+        BType mapType = (BType) TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+        Assert.assertTrue(TypeChecker.checkIsType(recordType, mapType));
+
+        Map<String, Field> modifiedFields = new LinkedHashMap<>();
+        modifiedFields.put("a", TypeCreator.createField(PredefinedTypes.TYPE_STRING, "a", 0));
+        recordType.setFields(modifiedFields);
+        Assert.assertFalse(TypeChecker.checkIsType(recordType, mapType));
+    }
+}
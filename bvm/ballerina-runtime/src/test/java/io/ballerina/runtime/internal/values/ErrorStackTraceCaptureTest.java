@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+
+/**
+ * Test cases for {@link ErrorStackTraceCapture} and the filtered stack traces of error values.
+ *
+ * @since 2201.11.0
+ */
+public class ErrorStackTraceCaptureTest {
+
+    @Test
+    public void testGetMode() {
+        Assert.assertEquals(ErrorStackTraceCapture.getMode(null), ErrorStackTraceCapture.Mode.ALL);
+        Assert.assertEquals(ErrorStackTraceCapture.getMode("all"), ErrorStackTraceCapture.Mode.ALL);
+        Assert.assertEquals(ErrorStackTraceCapture.getMode("none"), ErrorStackTraceCapture.Mode.NONE);
+        Assert.assertEquals(ErrorStackTraceCapture.getMode("OFF"), ErrorStackTraceCapture.Mode.NONE);
+        Assert.assertEquals(ErrorStackTraceCapture.getMode(" false "), ErrorStackTraceCapture.Mode.NONE);
+        Assert.assertEquals(ErrorStackTraceCapture.getMode("Sampled"), ErrorStackTraceCapture.Mode.SAMPLED);
+        Assert.assertEquals(ErrorStackTraceCapture.getMode("unknown"), ErrorStackTraceCapture.Mode.ALL);
+    }
+
+    @Test
+    public void testGetSampleRate() {
+        Assert.assertEquals(ErrorStackTraceCapture.getSampleRate(null), 100);
+        Assert.assertEquals(ErrorStackTraceCapture.getSampleRate("10"), 10);
+        Assert.assertEquals(ErrorStackTraceCapture.getSampleRate(" 5 "), 5);
+        Assert.assertEquals(ErrorStackTraceCapture.getSampleRate("0"), 100);
+        Assert.assertEquals(ErrorStackTraceCapture.getSampleRate("-3"), 100);
+        Assert.assertEquals(ErrorStackTraceCapture.getSampleRate("ten"), 100);
+    }
+
+    @Test
+    public void testFilteredStackTraceIsCached() throws ReflectiveOperationException {
+        ErrorValue error = new ErrorValue(StringUtils.fromString("error"));
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("foo", "bar", "main.bal", 3),
+                new StackTraceElement("java.lang.Thread", "run", "Thread.java", 10)});
+        Assert.assertNull(filteredStackTrace(error));
+
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        Assert.assertEquals(stackTrace.length, 1);
+        Assert.assertEquals(stackTrace[0].getMethodName(), "bar");
+        Assert.assertEquals(stackTrace[0].getLineNumber(), 3);
+        StackTraceElement[] cachedStackTrace = filteredStackTrace(error);
+        Assert.assertNotNull(cachedStackTrace);
+
+        // Modifying the returned stack trace does not modify the cached one
+        stackTrace[0] = null;
+        Assert.assertEquals(error.getStackTrace()[0].getMethodName(), "bar");
+        Assert.assertSame(filteredStackTrace(error), cachedStackTrace);
+    }
+
+    @Test
+    public void testFilteredStackTraceIsRecomputedAfterSetStackTrace() throws ReflectiveOperationException {
+        ErrorValue error = new ErrorValue(StringUtils.fromString("error"));
+        error.setStackTrace(new StackTraceElement[]{new StackTraceElement("foo", "bar", "main.bal", 3)});
+        Assert.assertEquals(error.getStackTrace()[0].getMethodName(), "bar");
+
+        error.setStackTrace(new StackTraceElement[]{
+                new StackTraceElement("foo", "baz", "main.bal", 7),
+                new StackTraceElement("foo", "bar", "main.bal", 3)});
+        Assert.assertNull(filteredStackTrace(error));
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        Assert.assertEquals(stackTrace.length, 2);
+        Assert.assertEquals(stackTrace[0].getMethodName(), "baz");
+        Assert.assertEquals(stackTrace[0].getLineNumber(), 7);
+        Assert.assertEquals(stackTrace[1].getMethodName(), "bar");
+    }
+
+    private static StackTraceElement[] filteredStackTrace(ErrorValue error) throws ReflectiveOperationException {
+        Field field = ErrorValue.class.getDeclaredField("filteredStackTrace");
+        field.setAccessible(true);
+        return (StackTraceElement[]) field.get(error);
+    }
+}
@@ -1,6 +1,9 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,58 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testRopeConcat() {
+        BString str = StringUtils.fromString("a".repeat(2000));
+        StringBuilder expected = new StringBuilder("a".repeat(2000));
+        for (int i = 0; i < 100; i++) {
+            str = str.concat(StringUtils.fromString(Integer.toString(i)));
+            expected.append(i);
+        }
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.length(), expected.length());
+        Assert.assertEquals(str, StringUtils.fromString(expected.toString()));
+    }
+
+    @Test
+    void testSingleLargeConcatIsNotRope() {
+        BString str = StringUtils.fromString("a".repeat(2000)).concat(StringUtils.fromString("b"));
+        Assert.assertFalse(str instanceof RopeStringValue);
+        Assert.assertEquals(str.getValue(), "a".repeat(2000) + "b");
+        str = str.concat(StringUtils.fromString("c"));
+        Assert.assertTrue(str instanceof RopeStringValue);
+        Assert.assertEquals(str.getValue(), "a".repeat(2000) + "bc");
+    }
+
+    @Test
+    void testRopeConcatAfterBranching() {
+        BString prefix = StringUtils.fromString("a".repeat(2000)).concat(StringUtils.fromString("b"));
+        BString first = prefix.concat(StringUtils.fromString("c"));
+        BString second = prefix.concat(StringUtils.fromString("d"));
+        Assert.assertEquals(prefix.getValue(), "a".repeat(2000) + "b");
+        Assert.assertEquals(first.getValue(), "a".repeat(2000) + "bc");
+        Assert.assertEquals(second.getValue(), "a".repeat(2000) + "bd");
+    }
+
+    @Test
+    void testRopeConcatAfterFlattening() {
+        BString prefix = StringUtils.fromString("a".repeat(2000)).concat(StringUtils.fromString("b"));
+        BString extended = prefix.concat(StringUtils.fromString("c"));
+        // Flattening releases the shared builder of the flattened string only
+        Assert.assertEquals(prefix.getValue(), "a".repeat(2000) + "b");
+        Assert.assertEquals(prefix.concat(StringUtils.fromString("d")).getValue(), "a".repeat(2000) + "bd");
+        Assert.assertEquals(extended.concat(StringUtils.fromString("e")).getValue(), "a".repeat(2000) + "bce");
+        Assert.assertEquals(extended.getValue(), "a".repeat(2000) + "bc");
+    }
+
+    @Test
+    void testRopeConcatWithNonBmp() {
+        BString str = StringUtils.fromString("a".repeat(2000)).concat(SUBJECT).concat(SUBJECT);
+        Assert.assertEquals(str.length(), 2032);
+        Assert.assertEquals(str.getCodePoint(2001), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(2031), 'r');
+        Assert.assertEquals(str.substring(2014, 2017).getValue(), "\uD83D\uDC7DrC");
+    }
+
 }
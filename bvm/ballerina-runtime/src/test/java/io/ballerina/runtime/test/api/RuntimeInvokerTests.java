@@ -0,0 +1,240 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test.api;
+
+import io.ballerina.runtime.api.FunctionInvoker;
+import io.ballerina.runtime.api.MethodInvoker;
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.types.FunctionType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BFuture;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BalRuntime;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BFunctionType;
+import io.ballerina.runtime.internal.types.BMethodType;
+import io.ballerina.runtime.internal.types.BObjectType;
+import io.ballerina.runtime.internal.values.AbstractObjectValue;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test cases for the runtime APIs which resolve functions and methods to be called repeatedly.
+ *
+ * @since 2201.11.0
+ */
+public class RuntimeInvokerTests {
+
+    private static final Module MODULE = new Module("testorg", "runtime_invoker", "1");
+    private static final Module TEST_ONLY_MODULE = new Module("testorg", "runtime_invoker_test_only", "1");
+
+    private BalRuntime runtime;
+    private BObjectType counterType;
+    private BObjectType otherType;
+
+    @BeforeClass
+    public void setup() {
+        runtime = new BalRuntime(MODULE);
+        runtime.moduleInitialized = true;
+        ValueCreator.addValueCreator(MODULE.getOrg(), MODULE.getName(), MODULE.getMajorVersion(), false,
+                new TestValueCreator(runtime, Map.of("add", functionType(MODULE, "add"))));
+        ValueCreator.addValueCreator(MODULE.getOrg(), MODULE.getName(), MODULE.getMajorVersion(), true,
+                new TestValueCreator(runtime, Map.of("addInTest", functionType(MODULE, "addInTest"))));
+        ValueCreator.addValueCreator(TEST_ONLY_MODULE.getOrg(), TEST_ONLY_MODULE.getName(),
+                TEST_ONLY_MODULE.getMajorVersion(), true,
+                new TestValueCreator(runtime, Map.of("add", functionType(TEST_ONLY_MODULE, "add"))));
+
+        counterType = objectType("Counter");
+        otherType = objectType("Other");
+    }
+
+    @Test
+    public void testResolveFunction() {
+        FunctionInvoker invoker = runtime.resolveFunction(MODULE, "add");
+        Assert.assertEquals(invoker.call(null, 1L, 2L), 3L);
+        Assert.assertEquals(invoker.call(null, 3L, 4L), 7L);
+    }
+
+    @Test
+    public void testResolveFunctionOfTestModule() {
+        Assert.assertEquals(runtime.resolveFunction(MODULE, "addInTest").call(null, 1L, 2L), 3L);
+        Assert.assertEquals(runtime.resolveFunction(TEST_ONLY_MODULE, "add").call(null, 2L, 2L), 4L);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "No such function: subtract")
+    public void testResolveUndefinedFunction() {
+        runtime.resolveFunction(MODULE, "subtract");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "module cannot be null")
+    public void testResolveFunctionWithNullModule() {
+        runtime.resolveFunction(null, "add");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "function name cannot be null")
+    public void testResolveFunctionWithNullName() {
+        runtime.resolveFunction(MODULE, null);
+    }
+
+    @Test(expectedExceptions = BError.class,
+            expectedExceptionsMessageRegExp = ".*function 'add' is called before module initialization.*")
+    public void testResolveFunctionBeforeModuleInit() {
+        new BalRuntime(MODULE).resolveFunction(MODULE, "add");
+    }
+
+    @Test
+    public void testResolveMethod() {
+        MethodInvoker invoker = runtime.resolveMethod(counterType, "add");
+        TestObject counter = new TestObject(counterType);
+        Assert.assertEquals(invoker.call(counter, null, 1L, 2L), 3L);
+        Assert.assertEquals(invoker.call(new TestObject(counterType), null, 5L, 2L), 7L);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "No such method: subtract")
+    public void testResolveUndefinedMethod() {
+        runtime.resolveMethod(counterType, "subtract");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "object type cannot be null")
+    public void testResolveMethodWithNullType() {
+        runtime.resolveMethod(null, "add");
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "method name cannot be null")
+    public void testResolveMethodWithNullName() {
+        runtime.resolveMethod(counterType, null);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "object cannot be null")
+    public void testCallResolvedMethodWithNullObject() {
+        runtime.resolveMethod(counterType, "add").call(null, null, 1L, 2L);
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "method 'add' of 'Counter' cannot " +
+            "be called on an object of type 'Other'")
+    public void testCallResolvedMethodWithObjectOfOtherType() {
+        runtime.resolveMethod(counterType, "add").call(new TestObject(otherType), null, 1L, 2L);
+    }
+
+    private static BFunctionType functionType(Module module, String name) {
+        Parameter[] parameters = new Parameter[]{new Parameter("a", false, null, PredefinedTypes.TYPE_INT),
+                new Parameter("b", false, null, PredefinedTypes.TYPE_INT)};
+        return new BFunctionType(module, parameters, null, PredefinedTypes.TYPE_INT, 0, name);
+    }
+
+    private static BObjectType objectType(String name) {
+        BObjectType objectType = new BObjectType(name, MODULE, 0);
+        objectType.setMethods(new MethodType[]{
+                new BMethodType("add", MODULE, objectType, functionType(MODULE, "add"), 0)});
+        return objectType;
+    }
+
+    private static long add(Object... args) {
+        return (long) args[0] + (long) args[1];
+    }
+
+    /**
+     * Value creator of a module, which only has functions adding two integers.
+     */
+    private static class TestValueCreator extends ValueCreator {
+
+        private final Map<String, FunctionType> functionTypes;
+
+        TestValueCreator(BalRuntime runtime, Map<String, FunctionType> functionTypes) {
+            super(runtime);
+            this.functionTypes = functionTypes;
+        }
+
+        @Override
+        public Object call(Strand strand, String funcName, Object... args) {
+            return add(args);
+        }
+
+        @Override
+        public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BObject createObjectValue(String objectTypeName, Strand parent, Object[] args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Type getAnonType(int typeHash, String typeShape) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public FunctionType getFunctionType(String functionName) {
+            FunctionType functionType = functionTypes.get(functionName);
+            if (functionType == null) {
+                throw ErrorCreator.createError(StringUtils.fromString("No such function: " + functionName));
+            }
+            return functionType;
+        }
+    }
+
+    /**
+     * Object, which only has a method adding two integers.
+     */
+    private static class TestObject extends AbstractObjectValue {
+
+        TestObject(ObjectType type) {
+            super(type);
+        }
+
+        @Override
+        public Object call(Strand strand, String funcName, Object... args) {
+            return add(args);
+        }
+
+        @Override
+        public BFuture start(Strand strand, String funcName, Object... args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Object get(BString fieldName) {
+            return null;
+        }
+
+        @Override
+        public void set(BString fieldName, Object value) {
+        }
+    }
+}
@@ -210,6 +210,10 @@ public class BuildCommand implements BLauncherCmd {
             description = "experimental memory optimization for large projects")
     private Boolean optimizeDependencyCompilation;
 
+    @CommandLine.Option(names = "--codegen-parallelism", hidden = true,
+            description = "experimental maximum number of modules to generate code in parallel")
+    private Integer codegenParallelism;
+
     @Override
     public void execute() {
         long start = 0;
@@ -326,7 +330,8 @@ public class BuildCommand implements BLauncherCmd {
                 .disableSyntaxTreeCaching(disableSyntaxTreeCaching)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setShowDependencyDiagnostics(showDependencyDiagnostics)
-                .setOptimizeDependencyCompilation(optimizeDependencyCompilation);
+                .setOptimizeDependencyCompilation(optimizeDependencyCompilation)
+                .setCodegenParallelism(codegenParallelism);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
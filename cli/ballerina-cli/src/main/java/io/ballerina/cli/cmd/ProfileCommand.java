@@ -73,6 +73,10 @@ public class ProfileCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--debug", hidden = true)
     private String debugPort;
 
+    @CommandLine.Option(names = "--sampling-interval", hidden = true, description = "profile by sampling the " +
+            "call stacks at the given interval in milliseconds instead of instrumenting the functions")
+    private Integer samplingInterval;
+
     @CommandLine.Option(names = "--generate-config-schema", hidden = true)
     private Boolean configSchemaGen;
 
@@ -202,7 +206,7 @@ public class ProfileCommand implements BLauncherCmd {
                         buildOptions.enableCache()))
                 .addTask(new CreateExecutableTask(outStream, null, null, false), false)
                 .addTask(new DumpBuildTimeTask(outStream), false)
-                .addTask(new RunProfilerTask(errStream), false).build();
+                .addTask(new RunProfilerTask(errStream, samplingInterval), false).build();
     }
 
     @Override
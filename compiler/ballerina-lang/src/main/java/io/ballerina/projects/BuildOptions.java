@@ -110,6 +110,15 @@ public class BuildOptions {
         return this.compilationOptions.remoteManagement();
     }
 
+    /**
+     * Returns the maximum number of modules for which the platform-specific code is generated in parallel.
+     *
+     * @return the code generation parallelism, which is 1 unless it is set explicitly
+     */
+    public int codegenParallelism() {
+        return this.compilationOptions.codegenParallelism();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -213,6 +222,7 @@ public class BuildOptions {
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
         buildOptionsBuilder.setOptimizeDependencyCompilation(compilationOptions.optimizeDependencyCompilation);
+        buildOptionsBuilder.setCodegenParallelism(compilationOptions.codegenParallelism);
 
         return buildOptionsBuilder.build();
     }
@@ -252,7 +262,8 @@ public class BuildOptions {
         EXPORT_COMPONENT_MODEL("exportComponentModel"),
         GRAAL_VM_BUILD_OPTIONS("graalvmBuildOptions"),
         SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
-        OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation");
+        OPTIMIZE_DEPENDENCY_COMPILATION("optimizeDependencyCompilation"),
+        CODEGEN_PARALLELISM("codegenParallelism");
 
         private final String name;
 
@@ -428,6 +439,18 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * (Experimental) option to generate the platform-specific code of independent modules in parallel.
+         *
+         * @param value maximum number of modules for which the code is generated in parallel, 1 (default) generates
+         *              the code of the modules one after the other
+         * @return BuildOptionsBuilder instance
+         */
+        public BuildOptionsBuilder setCodegenParallelism(Integer value) {
+            compilationOptionsBuilder.setCodegenParallelism(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
@@ -41,13 +41,15 @@ public class CompilationOptions {
     Boolean disableSyntaxTree;
     Boolean remoteManagement;
     Boolean optimizeDependencyCompilation;
+    Integer codegenParallelism;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean enableCache, Boolean disableSyntaxTree,
-                       Boolean remoteManagement, Boolean optimizeDependencyCompilation) {
+                       Boolean remoteManagement, Boolean optimizeDependencyCompilation,
+                       Integer codegenParallelism) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -66,6 +68,7 @@ public class CompilationOptions {
         this.disableSyntaxTree = disableSyntaxTree;
         this.remoteManagement = remoteManagement;
         this.optimizeDependencyCompilation = optimizeDependencyCompilation;
+        this.codegenParallelism = codegenParallelism;
     }
 
     public boolean offlineBuild() {
@@ -136,6 +139,13 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.optimizeDependencyCompilation);
     }
 
+    int codegenParallelism() {
+        if (this.codegenParallelism == null || this.codegenParallelism < 1) {
+            return 1;
+        }
+        return this.codegenParallelism;
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -229,6 +239,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setOptimizeDependencyCompilation(this.optimizeDependencyCompilation);
         }
+        if (theirOptions.codegenParallelism != null) {
+            compilationOptionsBuilder.setCodegenParallelism(theirOptions.codegenParallelism);
+        } else {
+            compilationOptionsBuilder.setCodegenParallelism(this.codegenParallelism);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -285,6 +300,7 @@ public class CompilationOptions {
         private Boolean disableSyntaxTree;
         private Boolean remoteManagement;
         private Boolean optimizeDependencyCompilation;
+        private Integer codegenParallelism;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -376,12 +392,17 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setCodegenParallelism(Integer value) {
+            codegenParallelism = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
                     exportComponentModel, enableCache, disableSyntaxTree, remoteManagement,
-                    optimizeDependencyCompilation);
+                    optimizeDependencyCompilation, codegenParallelism);
         }
     }
 }
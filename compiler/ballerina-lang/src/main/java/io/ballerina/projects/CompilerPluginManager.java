@@ -137,6 +137,14 @@ class CompilerPluginManager {
         return completionManager;
     }
 
+    int engagedCodeAnalyzerCount() {
+        int count = 0;
+        for (CompilerPluginContextIml compilerPluginContext : compilerPluginContexts) {
+            count += compilerPluginContext.codeAnalyzers().size();
+        }
+        return count;
+    }
+
     int engagedCodeGeneratorCount() {
         int count = 0;
         for (CompilerPluginContextIml compilerPluginContext : compilerPluginContexts) {
@@ -0,0 +1,251 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.projects.util.ProjectConstants;
+import org.apache.commons.io.FileUtils;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * A compilation cache shared by the build projects of the user, which stores the BIR and the platform-specific
+ * libraries of a module against a hash of the inputs of the module compilation.
+ * <p>
+ * Since the entries are addressed by content, an unchanged module is not compiled again even after the target
+ * directory is cleaned or when the project is built from a different location. The structure of the cache is as
+ * below
+ * <pre>
+ * - compilation-cache
+ *     - ab
+ *         - ab12..ef (hash of the module)
+ *             - .complete
+ *             - bir
+ *                 - mod1.bir
+ *             - java21
+ *                 - org-package-name-mod1-version.jar
+ * </pre>
+ * <p>
+ * The size of the cache is bounded and the least recently used entries are evicted once the limit is exceeded.
+ *
+ * @since 2201.11.0
+ */
+final class ContentAddressedCompilationCache {
+
+    static final String CACHE_DIR_PROPERTY = "ballerina.compilation.cache.dir";
+    static final String CACHE_MAX_SIZE_PROPERTY = "ballerina.compilation.cache.maxSizeInMB";
+    private static final String CACHE_DIR_NAME = "compilation-cache";
+    private static final String COMPLETION_MARKER = ".complete";
+    private static final String TEMP_DIR_PREFIX = ".tmp-";
+    private static final long DEFAULT_MAX_SIZE_IN_MB = 1024;
+
+    private static ContentAddressedCompilationCache instance;
+
+    private final Path cacheDirPath;
+    private final long maxSizeInBytes;
+
+    ContentAddressedCompilationCache(Path cacheDirPath, long maxSizeInBytes) {
+        this.cacheDirPath = cacheDirPath;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    static synchronized ContentAddressedCompilationCache getInstance() {
+        if (instance != null) {
+            return instance;
+        }
+
+        String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+        Path cacheDirPath = cacheDir == null || cacheDir.isEmpty() ?
+                RepoUtils.createAndGetHomeReposPath().resolve(CACHE_DIR_NAME) : Path.of(cacheDir);
+        long maxSizeInMB = DEFAULT_MAX_SIZE_IN_MB;
+        String maxSize = System.getProperty(CACHE_MAX_SIZE_PROPERTY);
+        if (maxSize != null) {
+            try {
+                maxSizeInMB = Long.parseLong(maxSize);
+            } catch (NumberFormatException e) {
+                // Use the default size
+            }
+        }
+        instance = new ContentAddressedCompilationCache(cacheDirPath, maxSizeInMB * 1024 * 1024);
+        return instance;
+    }
+
+    /**
+     * Returns the path of the cache entry of the given hash, if the cache has a complete entry for it.
+     *
+     * @param hash hash of the inputs of the module compilation
+     * @return path of the cache entry
+     */
+    Optional<Path> lookup(String hash) {
+        Path entryPath = entryPath(hash);
+        Path markerPath = entryPath.resolve(COMPLETION_MARKER);
+        if (!Files.exists(markerPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            // The modified time of the marker is used to find the least recently used entries
+            Files.setLastModifiedTime(markerPath, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // The entry is still usable
+        }
+        return Optional.of(entryPath);
+    }
+
+    byte[] getBir(Path entryPath, ModuleName moduleName) {
+        Path birFilePath = entryPath.resolve(ProjectConstants.REPO_BIR_CACHE_NAME)
+                .resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        try {
+            return Files.readAllBytes(birFilePath);
+        } catch (IOException e) {
+            return new byte[0];
+        }
+    }
+
+    /**
+     * Copies the platform-specific libraries of the cache entry to the compilation cache of the project.
+     *
+     * @param entryPath        path of the cache entry
+     * @param compilerBackend  compiler backend
+     * @param compilationCache compilation cache of the project
+     */
+    void restorePlatformSpecificLibraries(Path entryPath,
+                                          CompilerBackend compilerBackend,
+                                          CompilationCache compilationCache) {
+        Path platformDirPath = entryPath.resolve(compilerBackend.targetPlatform().code());
+        if (!Files.isDirectory(platformDirPath)) {
+            return;
+        }
+
+        String libraryFileExtension = compilerBackend.libraryFileExtension();
+        try (Stream<Path> libraryPaths = Files.list(platformDirPath)) {
+            for (Path libraryPath : libraryPaths.toList()) {
+                String libraryFileName = libraryPath.getFileName().toString();
+                if (!libraryFileName.endsWith(libraryFileExtension)) {
+                    continue;
+                }
+                String libraryName = libraryFileName.substring(0,
+                        libraryFileName.length() - libraryFileExtension.length());
+                ByteArrayOutputStream libraryContent = new ByteArrayOutputStream();
+                libraryContent.writeBytes(Files.readAllBytes(libraryPath));
+                compilationCache.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+            }
+        } catch (IOException e) {
+            throw new ProjectException("Failed to restore the cached libraries from: " + entryPath, e);
+        }
+    }
+
+    /**
+     * Adds an entry for the given hash to the cache, if there is no such entry already.
+     * <p>
+     * The entry is first written to a temporary directory and then moved to its final location, so that concurrent
+     * builds never observe a partially written entry.
+     *
+     * @param hash                      hash of the inputs of the module compilation
+     * @param moduleName                name of the module
+     * @param birContent                serialized BIR of the module
+     * @param compilerBackend           compiler backend
+     * @param platformSpecificLibraries platform-specific libraries generated for the module
+     */
+    void store(String hash,
+               ModuleName moduleName,
+               ByteArrayOutputStream birContent,
+               CompilerBackend compilerBackend,
+               Collection<Path> platformSpecificLibraries) {
+        Path entryPath = entryPath(hash);
+        if (Files.exists(entryPath)) {
+            return;
+        }
+
+        Path tempEntryPath = cacheDirPath.resolve(TEMP_DIR_PREFIX + UUID.randomUUID());
+        try {
+            Path birDirPath = Files.createDirectories(tempEntryPath.resolve(ProjectConstants.REPO_BIR_CACHE_NAME));
+            Files.write(birDirPath.resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT),
+                    birContent.toByteArray());
+            Path platformDirPath = Files.createDirectories(
+                    tempEntryPath.resolve(compilerBackend.targetPlatform().code()));
+            for (Path libraryPath : platformSpecificLibraries) {
+                Files.copy(libraryPath, platformDirPath.resolve(libraryPath.getFileName()));
+            }
+            Files.createFile(tempEntryPath.resolve(COMPLETION_MARKER));
+
+            Files.createDirectories(entryPath.getParent());
+            Files.move(tempEntryPath, entryPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // Either another build has added the same entry, or the cache is not writable. Both are not fatal, as
+            // the module is compiled anyway.
+            FileUtils.deleteQuietly(tempEntryPath.toFile());
+            return;
+        }
+        evictLeastRecentlyUsedEntries();
+    }
+
+    private void evictLeastRecentlyUsedEntries() {
+        List<CacheEntry> entries = new ArrayList<>();
+        long cacheSize = 0;
+        try (Stream<Path> entryPaths = Files.find(cacheDirPath, 2,
+                (path, attributes) -> attributes.isDirectory() && path.getNameCount() ==
+                        cacheDirPath.getNameCount() + 2)) {
+            for (Path entryPath : entryPaths.toList()) {
+                Path markerPath = entryPath.resolve(COMPLETION_MARKER);
+                if (!Files.exists(markerPath)) {
+                    continue;
+                }
+                long entrySize = FileUtils.sizeOfDirectory(entryPath.toFile());
+                entries.add(new CacheEntry(entryPath, Files.getLastModifiedTime(markerPath).toMillis(), entrySize));
+                cacheSize += entrySize;
+            }
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            // Entries may be removed by concurrent builds while the cache is scanned, eviction is retried on the
+            // next store.
+            return;
+        }
+
+        if (cacheSize <= maxSizeInBytes) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(CacheEntry::lastAccessedTime));
+        for (CacheEntry entry : entries) {
+            if (cacheSize <= maxSizeInBytes) {
+                break;
+            }
+            FileUtils.deleteQuietly(entry.path().toFile());
+            cacheSize -= entry.size();
+        }
+    }
+
+    private Path entryPath(String hash) {
+        return cacheDirPath.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private record CacheEntry(Path path, long lastAccessedTime, long size) {
+    }
+}
@@ -19,6 +19,8 @@ package io.ballerina.projects;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
 
 /**
  * {@code Document} represents a Ballerina source file(.bal).
@@ -72,15 +74,19 @@ public class Document {
      */
     public static class Modifier {
         private String content;
+        private SyntaxTree syntaxTree;
         private final String name;
         private final DocumentId documentId;
         private final Module oldModule;
+        private final Document oldDocument;
+        private boolean contentChanged;
 
         private Modifier(Document oldDocument) {
             this.documentId = oldDocument.documentId();
             this.name = oldDocument.name();
             this.content = oldDocument.textDocument().toString();
             this.oldModule = oldDocument.module();
+            this.oldDocument = oldDocument;
         }
 
         /**
@@ -91,6 +97,29 @@ public class Document {
          */
         public Modifier withContent(String content) {
             this.content = content;
+            this.syntaxTree = null;
+            this.contentChanged = true;
+            return this;
+        }
+
+        /**
+         * Applies the given text edits to the content to be changed. The syntax tree of the new document is
+         * created by incrementally reparsing the syntax tree of the current content.
+         *
+         * @param textDocumentChange text edits to apply
+         * @return Document.Modifier that holds the content to be changed
+         */
+        public Modifier withChange(TextDocumentChange textDocumentChange) {
+            SyntaxTree currentSyntaxTree;
+            if (this.syntaxTree != null) {
+                currentSyntaxTree = this.syntaxTree;
+            } else if (this.contentChanged) {
+                currentSyntaxTree = SyntaxTree.from(TextDocuments.from(this.content), this.name);
+            } else {
+                currentSyntaxTree = this.oldDocument.syntaxTree();
+            }
+            this.syntaxTree = SyntaxTree.from(currentSyntaxTree, textDocumentChange);
+            this.content = this.syntaxTree.textDocument().toString();
             return this;
         }
 
@@ -102,7 +131,9 @@ public class Document {
         public Document apply() {
             DocumentConfig documentConfig = DocumentConfig.from(this.documentId, this.content,
                     this.name);
-            DocumentContext documentContext = DocumentContext.from(documentConfig, false);
+            DocumentContext documentContext = this.syntaxTree == null
+                    ? DocumentContext.from(documentConfig, false)
+                    : DocumentContext.from(documentConfig, this.syntaxTree);
             Module newModule = oldModule.modify().updateDocument(documentContext).apply();
             return newModule.document(this.documentId);
         }
@@ -73,6 +73,13 @@ class DocumentContext {
                 disableSyntaxTree);
     }
 
+    static DocumentContext from(DocumentConfig documentConfig, SyntaxTree syntaxTree) {
+        DocumentContext documentContext = from(documentConfig, false);
+        documentContext.syntaxTree = syntaxTree;
+        documentContext.textDocument = syntaxTree.textDocument();
+        return documentContext;
+    }
+
     DocumentId documentId() {
         return this.documentId;
     }
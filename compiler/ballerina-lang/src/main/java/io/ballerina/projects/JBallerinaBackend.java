@@ -62,11 +62,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -159,6 +163,31 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
+        int codegenParallelism = this.packageContext.project().buildOptions().codegenParallelism();
+        if (codegenParallelism > 1) {
+            performParallelCodeGen(shrink, codegenParallelism, moduleDiagnostics);
+        } else {
+            performSequentialCodeGen(shrink, moduleDiagnostics);
+        }
+        // The resources are cached along with the code of the default module, which is not generated if the module
+        // is loaded from the content-addressed compilation cache
+        if (this.packageContext.defaultModuleContext().isLoadedFromContentAddressedCache()) {
+            cacheResources(this.packageContext.project().projectEnvironmentContext().getService(CompilationCache.class),
+                    this.packageContext.project().buildOptions().skipTests());
+        }
+
+        // add compilation diagnostics
+        diagnostics.addAll(moduleDiagnostics);
+        // add plugin diagnostics
+        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
+        // add conflicting resources diagnostics
+        diagnostics.addAll(conflictedResourcesDiagnostics);
+
+        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
+        codeGenCompleted = true;
+    }
+
+    private void performSequentialCodeGen(boolean shrink, List<Diagnostic> moduleDiagnostics) {
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
             if (shrink) {
                 ModuleContext.shrinkDocuments(moduleContext);
@@ -176,29 +205,120 @@ public class JBallerinaBackend extends CompilerBackend {
             if (!this.packageContext.getResolution().diagnosticResult().hasErrors() && !hasErrors(moduleDiagnostics)) {
                 moduleContext.generatePlatformSpecificCode(compilerContext, this);
             }
-            for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                if (this.packageContext.project().buildOptions().showDependencyDiagnostics() ||
-                        !ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) ||
-                        (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)) {
+            addModuleDiagnostics(moduleContext, moduleDiagnostics);
+
+            if (moduleContext.project().kind() == ProjectKind.BALA_PROJECT) {
+                moduleContext.cleanBLangPackage();
+            }
+        }
+    }
+
+    /**
+     * Generates the platform-specific code of the modules concurrently. The compilation phases up to the BIR
+     * generation run for all the modules in their topological order in the calling thread first, since the code
+     * generation of a module modifies its BIR and symbols, which are used by the compilation of the modules that
+     * depend on it. The JVM code generation of each module is then run on a fork-join pool as soon as the code
+     * generation of all its dependencies has completed.
+     *
+     * @param shrink             whether to shrink the documents of the modules
+     * @param parallelism        maximum number of modules for which code is generated concurrently
+     * @param moduleDiagnostics  list to collect the diagnostics of the modules
+     */
+    private void performParallelCodeGen(boolean shrink, int parallelism, List<Diagnostic> moduleDiagnostics) {
+        Map<ModuleContext, Runnable> pendingCodeGenTasks = new LinkedHashMap<>();
+        List<ModuleContext> moduleContexts = new ArrayList<>();
+        boolean hasFrontEndErrors = false;
+        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+            if (shrink) {
+                ModuleContext.shrinkDocuments(moduleContext);
+            }
+            moduleContexts.add(moduleContext);
+            if (moduleContext.moduleId().packageId().equals(packageContext.packageId()) &&
+                    packageCompilation.diagnosticResult().hasErrors()) {
+                hasFrontEndErrors = true;
+                continue;
+            }
+            // We can't generate backend code when one of its dependencies have errors.
+            if (this.packageContext.getResolution().diagnosticResult().hasErrors() || hasFrontEndErrors) {
+                continue;
+            }
+            moduleContext.generatePlatformSpecificCode(compilerContext, this,
+                    codeGenTask -> pendingCodeGenTasks.put(moduleContext, codeGenTask));
+            if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
+                hasFrontEndErrors = true;
+            }
+        }
+
+        Map<ModuleDescriptor, CompletableFuture<Boolean>> codeGenTasks = new HashMap<>();
+        ForkJoinPool codeGenPool = new ForkJoinPool(parallelism);
+        try {
+            // The tasks are scheduled in the topological order, so the tasks of the dependencies are scheduled first
+            pendingCodeGenTasks.forEach((moduleContext, codeGenTask) -> codeGenTasks.put(moduleContext.descriptor(),
+                    scheduleCodeGen(moduleContext, codeGenTask, codeGenTasks, codeGenPool)));
+            CompletableFuture.allOf(codeGenTasks.values().toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } finally {
+            codeGenPool.shutdown();
+        }
+
+        for (ModuleContext moduleContext : moduleContexts) {
+            if (moduleContext.moduleId().packageId().equals(packageContext.packageId()) &&
+                    packageCompilation.diagnosticResult().hasErrors()) {
+                for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                     moduleDiagnostics.add(
                             new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
                 }
+                continue;
             }
-
+            addModuleDiagnostics(moduleContext, moduleDiagnostics);
             if (moduleContext.project().kind() == ProjectKind.BALA_PROJECT) {
                 moduleContext.cleanBLangPackage();
             }
         }
+    }
 
-        // add compilation diagnostics
-        diagnostics.addAll(moduleDiagnostics);
-        // add plugin diagnostics
-        diagnostics.addAll(this.packageContext.getPackageCompilation().pluginDiagnostics());
-        // add conflicting resources diagnostics
-        diagnostics.addAll(conflictedResourcesDiagnostics);
+    private static CompletableFuture<Boolean> scheduleCodeGen(ModuleContext moduleContext, Runnable codeGenTask,
+                                                              Map<ModuleDescriptor, CompletableFuture<Boolean>>
+                                                                      codeGenTasks,
+                                                              ForkJoinPool codeGenPool) {
+        List<CompletableFuture<Boolean>> dependencyTasks = new ArrayList<>();
+        Collection<ModuleDependency> dependencies = moduleContext.dependencies();
+        if (dependencies != null) {
+            for (ModuleDependency dependency : dependencies) {
+                CompletableFuture<Boolean> dependencyTask = codeGenTasks.get(dependency.descriptor());
+                if (dependencyTask != null) {
+                    dependencyTasks.add(dependencyTask);
+                }
+            }
+        }
+        return CompletableFuture.allOf(dependencyTasks.toArray(new CompletableFuture[0])).thenApplyAsync(ignored -> {
+            // We can't generate backend code when the code generation of one of its dependencies has failed.
+            for (CompletableFuture<Boolean> dependencyTask : dependencyTasks) {
+                if (!dependencyTask.join()) {
+                    return false;
+                }
+            }
+            codeGenTask.run();
+            return !Diagnostics.hasErrors(moduleContext.diagnostics());
+        }, codeGenPool);
+    }
 
-        this.diagnosticResult = new DefaultDiagnosticResult(diagnostics);
-        codeGenCompleted = true;
+    private void addModuleDiagnostics(ModuleContext moduleContext, List<Diagnostic> moduleDiagnostics) {
+        for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+            if (this.packageContext.project().buildOptions().showDependencyDiagnostics() ||
+                    !ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) ||
+                    (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)) {
+                moduleDiagnostics.add(
+                        new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+            }
+        }
     }
 
     private boolean hasErrors(List<Diagnostic> diagnostics) {
@@ -17,8 +17,12 @@
  */
 package io.ballerina.projects;
 
+import io.ballerina.projects.internal.FunctionBodyChangeDetector;
+
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -195,6 +199,8 @@ public class Module {
         private final Package packageInstance;
         private final Project project;
         private MdDocumentContext moduleMdContext;
+        private final Map<DocumentId, DocumentContext> updatedSrcDocContextMap = new HashMap<>();
+        private boolean otherChanges = false;
 
         private Modifier(Module oldModule) {
             moduleId = oldModule.moduleId();
@@ -210,9 +216,11 @@ public class Module {
 
         Modifier updateDocument(DocumentContext newDocContext) {
             if (this.srcDocContextMap.containsKey(newDocContext.documentId())) {
-                this.srcDocContextMap.put(newDocContext.documentId(), newDocContext);
+                DocumentContext oldDocContext = this.srcDocContextMap.put(newDocContext.documentId(), newDocContext);
+                this.updatedSrcDocContextMap.putIfAbsent(newDocContext.documentId(), oldDocContext);
             } else {
                 this.testDocContextMap.put(newDocContext.documentId(), newDocContext);
+                this.otherChanges = true;
             }
             return this;
         }
@@ -260,6 +268,7 @@ public class Module {
             DocumentContext newDocumentContext = DocumentContext.from(documentConfig, false);
             this.srcDocContextMap.put(newDocumentContext.documentId(), newDocumentContext);
             this.srcDocContextMap = sortDocuments(this.srcDocContextMap);
+            this.otherChanges = true;
             return this;
         }
 
@@ -273,6 +282,7 @@ public class Module {
             DocumentContext newDocumentContext = DocumentContext.from(documentConfig, false);
             this.testDocContextMap.put(newDocumentContext.documentId(), newDocumentContext);
             this.testDocContextMap = sortDocuments(this.testDocContextMap);
+            this.otherChanges = true;
             return this;
         }
 
@@ -289,6 +299,7 @@ public class Module {
             } else {
                 testDocContextMap.remove(documentId);
             }
+            this.otherChanges = true;
             return this;
         }
 
@@ -299,6 +310,7 @@ public class Module {
          */
         public Modifier removeModuleMd() {
             moduleMdContext = null;
+            this.otherChanges = true;
             return this;
         }
 
@@ -327,8 +339,10 @@ public class Module {
                     testDocContextMap, this.moduleMdContext, this.dependencies);
             moduleContextSet.add(newModuleContext);
 
-            // add dependant modules including transitives
-            Collection<ModuleDescriptor> dependants = getAllDependants(this.moduleDescriptor);
+            // add dependant modules including transitives. The dependants are not affected if only the bodies of
+            // functions have been changed, hence their existing module contexts are reused.
+            Collection<ModuleDescriptor> dependants = isFunctionBodyChangeOnly() ? Collections.emptyList() :
+                    getAllDependants(this.moduleDescriptor);
             for (ModuleDescriptor dependentDescriptor : dependants) {
                 if (dependentDescriptor.equals(this.moduleDescriptor)) {
                     continue;
@@ -343,8 +357,37 @@ public class Module {
             return newPackage.module(this.moduleId);
         }
 
+        /**
+         * Checks whether only the bodies of the module level functions are changed by the updated documents. The
+         * dependants of the module are not recompiled in that case, while the module itself is still recompiled as a
+         * whole. Function bodies are not analyzed separately, since the semantic analyzers work on the package node
+         * of the module and its symbols.
+         *
+         * @return true if only the function bodies have been changed
+         */
+        private boolean isFunctionBodyChangeOnly() {
+            if (this.otherChanges || this.updatedSrcDocContextMap.isEmpty()) {
+                return false;
+            }
+            for (Map.Entry<DocumentId, DocumentContext> entry : this.updatedSrcDocContextMap.entrySet()) {
+                DocumentContext oldDocContext = entry.getValue();
+                DocumentContext newDocContext = this.srcDocContextMap.get(entry.getKey());
+                if (!FunctionBodyChangeDetector.isFunctionBodyChangeOnly(oldDocContext.syntaxTree(),
+                        newDocContext.syntaxTree())) {
+                    return false;
+                }
+                // Function bodies can introduce implicit imports such as the transaction module
+                if (!oldDocContext.moduleLoadRequests(this.moduleDescriptor, PackageDependencyScope.DEFAULT).equals(
+                        newDocContext.moduleLoadRequests(this.moduleDescriptor, PackageDependencyScope.DEFAULT))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         Modifier updateModuleMd(MdDocumentContext moduleMd) {
             this.moduleMdContext = moduleMd;
+            this.otherChanges = true;
             return this;
         }
 
@@ -19,6 +19,8 @@ package io.ballerina.projects;
 
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
+import java.util.concurrent.Executor;
+
 /**
  * Represents the various compilation stages of a Ballerina module.
  *
@@ -49,9 +51,10 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
+            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext, codeGenExecutor);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
         }
     },
@@ -78,9 +81,10 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
+            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext, codeGenExecutor);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
         }
     },
@@ -104,9 +108,10 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             compile(moduleContext, compilerContext);
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
+            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext, codeGenExecutor);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
         }
     },
@@ -128,8 +133,9 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
-            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext);
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
+            ModuleContext.generateCodeInternal(moduleContext, compilerBackend, compilerContext, codeGenExecutor);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_GENERATED);
         }
     },
@@ -152,7 +158,8 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             // Do nothing
         }
     },
@@ -182,7 +189,8 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             compile(moduleContext, compilerContext);
             ModuleContext.loadPlatformSpecificCodeInternal(moduleContext, compilerBackend);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_LOADED);
@@ -210,7 +218,8 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             compile(moduleContext, compilerContext);
             ModuleContext.loadPlatformSpecificCodeInternal(moduleContext, compilerBackend);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_LOADED);
@@ -236,7 +245,8 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             compile(moduleContext, compilerContext);
             ModuleContext.loadPlatformSpecificCodeInternal(moduleContext, compilerBackend);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_LOADED);
@@ -261,7 +271,8 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             ModuleContext.loadPlatformSpecificCodeInternal(moduleContext, compilerBackend);
             moduleContext.setCompilationState(PLATFORM_LIBRARY_LOADED);
         }
@@ -285,7 +296,8 @@ enum ModuleCompilationState {
         @Override
         void generatePlatformSpecificCode(ModuleContext moduleContext,
                                           CompilerContext compilerContext,
-                                          CompilerBackend compilerBackend) {
+                                          CompilerBackend compilerBackend,
+                                          Executor codeGenExecutor) {
             // Do nothing
         }
     };
@@ -298,5 +310,6 @@ enum ModuleCompilationState {
 
     abstract void generatePlatformSpecificCode(ModuleContext moduleContext,
                                                CompilerContext compilerContext,
-                                               CompilerBackend compilerBackend);
+                                               CompilerBackend compilerBackend,
+                                               Executor codeGenExecutor);
 }
@@ -42,20 +42,33 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
@@ -89,6 +102,8 @@ class ModuleContext {
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
+    private String contentHash;
+    private Path contentCacheEntryPath;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -352,7 +367,23 @@ class ModuleContext {
     }
 
     void generatePlatformSpecificCode(CompilerContext compilerContext, CompilerBackend compilerBackend) {
-        currentCompilationState().generatePlatformSpecificCode(this, compilerContext, compilerBackend);
+        generatePlatformSpecificCode(compilerContext, compilerBackend, Runnable::run);
+    }
+
+    /**
+     * Generates the platform-specific code of this module. The BIR of the module is generated in the calling thread,
+     * while the generation of the platform-specific code and the caching of the BIR is submitted to the given
+     * executor.
+     *
+     * @param compilerContext compiler context
+     * @param compilerBackend compiler backend
+     * @param codeGenExecutor executor which runs the platform-specific code generation task
+     */
+    void generatePlatformSpecificCode(CompilerContext compilerContext,
+                                      CompilerBackend compilerBackend,
+                                      Executor codeGenExecutor) {
+        currentCompilationState().generatePlatformSpecificCode(this, compilerContext, compilerBackend,
+                codeGenExecutor);
     }
 
     static void parseInternal(ModuleContext moduleContext) {
@@ -414,7 +445,8 @@ class ModuleContext {
 
     static void generateCodeInternal(ModuleContext moduleContext,
                                      CompilerBackend compilerBackend,
-                                     CompilerContext compilerContext) {
+                                     CompilerContext compilerContext,
+                                     Executor codeGenExecutor) {
         // Perform the rest of the compilation phases before generating platform-specific code
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
         CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
@@ -450,6 +482,13 @@ class ModuleContext {
             return;
         }
 
+        codeGenExecutor.execute(() -> generatePlatformSpecificCodeInternal(moduleContext, compilerBackend,
+                birContent));
+    }
+
+    private static void generatePlatformSpecificCodeInternal(ModuleContext moduleContext,
+                                                             CompilerBackend compilerBackend,
+                                                             ByteArrayOutputStream birContent) {
         // Generate and write the thin JAR to the file system
         compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
 
@@ -466,6 +505,14 @@ class ModuleContext {
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
         moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+
+        // Only the modules without diagnostics are shared, since the diagnostics are not reported on cache hits
+        if (moduleContext.contentHash != null && moduleContext.diagnostics().isEmpty()) {
+            PlatformLibrary library = compilerBackend.codeGeneratedLibrary(moduleContext.moduleId().packageId(),
+                    moduleContext.moduleName());
+            ContentAddressedCompilationCache.getInstance().store(moduleContext.contentHash,
+                    moduleContext.moduleName(), birContent, compilerBackend, List.of(library.path()));
+        }
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
@@ -526,9 +573,168 @@ class ModuleContext {
     }
 
     static void loadPlatformSpecificCodeInternal(ModuleContext moduleContext, CompilerBackend compilerBackend) {
+        if (moduleContext.contentCacheEntryPath != null) {
+            ContentAddressedCompilationCache.getInstance().restorePlatformSpecificLibraries(
+                    moduleContext.contentCacheEntryPath, compilerBackend, moduleContext.compilationCache);
+        }
         // TODO implement
     }
 
+    boolean isLoadedFromContentAddressedCache() {
+        return contentCacheEntryPath != null;
+    }
+
+    /**
+     * Loads the module from the given content-addressed cache instead of compiling it, if the cache has an entry for
+     * the hash of the module sources, the hashes of its dependencies and the compiler version.
+     * <p>
+     * This should be called in the topological order of the modules, before compiling them.
+     *
+     * @param moduleContext module to load
+     * @param cache         content-addressed compilation cache
+     * @param moduleHashes  hashes of the modules which are already compiled
+     */
+    static void loadFromContentAddressedCache(ModuleContext moduleContext,
+                                              ContentAddressedCompilationCache cache,
+                                              Map<ModuleDescriptor, String> moduleHashes) {
+        ModuleCompilationState compilationState = moduleContext.currentCompilationState();
+        if (compilationState != ModuleCompilationState.LOADED_FROM_SOURCES
+                && compilationState != ModuleCompilationState.PARSED
+                && compilationState != ModuleCompilationState.DEPENDENCIES_RESOLVED_FROM_SOURCES) {
+            return;
+        }
+
+        moduleContext.contentHash = computeContentHash(moduleContext, moduleHashes);
+        Optional<Path> entryPath = cache.lookup(moduleContext.contentHash);
+        if (entryPath.isEmpty()) {
+            return;
+        }
+        byte[] birBytes = cache.getBir(entryPath.get(), moduleContext.moduleName());
+        if (birBytes.length == 0) {
+            return;
+        }
+        moduleContext.birBytes = birBytes;
+        moduleContext.contentCacheEntryPath = entryPath.get();
+        moduleContext.setCompilationState(ModuleCompilationState.BIR_LOADED);
+    }
+
+    /**
+     * Records the hash of a compiled module, which is used to compute the hashes of the modules which depend on it.
+     * Modules loaded from BIR are identified by the hash of their BIR.
+     *
+     * @param moduleContext compiled module
+     * @param moduleHashes  hashes of the modules which are already compiled
+     */
+    static void recordModuleHash(ModuleContext moduleContext, Map<ModuleDescriptor, String> moduleHashes) {
+        if (moduleContext.contentHash != null) {
+            moduleHashes.put(moduleContext.descriptor(), moduleContext.contentHash);
+        } else if (moduleContext.birBytes.length > 0) {
+            MessageDigest digest = newMessageDigest();
+            digest.update(moduleContext.birBytes);
+            moduleHashes.put(moduleContext.descriptor(), HexFormat.of().formatHex(digest.digest()));
+        }
+    }
+
+    private static String computeContentHash(ModuleContext moduleContext, Map<ModuleDescriptor, String> moduleHashes) {
+        MessageDigest digest = newMessageDigest();
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, descriptorString(moduleContext.descriptor()));
+        BuildOptions buildOptions = moduleContext.project().buildOptions();
+        updateDigest(digest, String.valueOf(buildOptions.skipTests()));
+        updateDigest(digest, String.valueOf(buildOptions.observabilityIncluded()));
+        updateDigest(digest, String.valueOf(buildOptions.remoteManagement()));
+
+        List<DocumentContext> documentContexts = new ArrayList<>(moduleContext.srcDocContextMap.values());
+        documentContexts.addAll(moduleContext.testDocContextMap.values());
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.textDocument().toString());
+        }
+
+        List<String> dependencies = new ArrayList<>();
+        Collection<ModuleDependency> moduleDependencies = moduleContext.dependencies();
+        if (moduleDependencies != null) {
+            for (ModuleDependency moduleDependency : moduleDependencies) {
+                // Dependencies which are not compiled as part of this package (e.g. lang libs) are immutable
+                // for a given version, hence they are identified by the descriptor
+                String dependencyHash = moduleHashes.getOrDefault(moduleDependency.descriptor(), "");
+                dependencies.add(descriptorString(moduleDependency.descriptor()) + "=" + dependencyHash);
+            }
+        }
+        Collections.sort(dependencies);
+        for (String dependency : dependencies) {
+            updateDigest(digest, dependency);
+        }
+        updatePlatformDependencies(digest, moduleContext.project());
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Adds the platform dependencies declared in the Ballerina.toml to the digest, since the interop calls of a module
+     * are validated against the classes in them. Dependencies given by a path are identified by the path and the hash
+     * of the jar, and the others are identified by their Maven coordinates.
+     *
+     * @param digest  digest of the module
+     * @param project project of the module
+     */
+    private static void updatePlatformDependencies(MessageDigest digest, Project project) {
+        Map<String, PackageManifest.Platform> platforms = project.currentPackage().manifest().platforms();
+        List<String> platformCodes = new ArrayList<>(platforms.keySet());
+        Collections.sort(platformCodes);
+        for (String platformCode : platformCodes) {
+            PackageManifest.Platform platform = platforms.get(platformCode);
+            if (platform == null) {
+                continue;
+            }
+            updateDigest(digest, platformCode);
+            for (Map<String, Object> dependency : platform.dependencies()) {
+                updateDigest(digest, String.valueOf(dependency.get(JarLibrary.KEY_GROUP_ID)) + ":"
+                        + dependency.get(JarLibrary.KEY_ARTIFACT_ID) + ":" + dependency.get(JarLibrary.KEY_VERSION)
+                        + ":" + dependency.get(JarLibrary.KEY_SCOPE));
+                Object dependencyFilePath = dependency.get(JarLibrary.KEY_PATH);
+                if (dependencyFilePath == null || dependencyFilePath.toString().isEmpty()) {
+                    continue;
+                }
+                Path jarPath = Path.of(dependencyFilePath.toString());
+                if (!jarPath.isAbsolute()) {
+                    jarPath = project.sourceRoot().resolve(jarPath);
+                }
+                updateDigest(digest, jarPath.toString());
+                updateDigest(digest, fileHash(jarPath));
+            }
+        }
+    }
+
+    static String fileHash(Path path) {
+        MessageDigest digest = newMessageDigest();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(path), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            // A missing or unreadable jar is reported when the platform libraries are resolved
+            return "";
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static String descriptorString(ModuleDescriptor moduleDescriptor) {
+        return moduleDescriptor.org().value() + "/" + moduleDescriptor.name() + ":" + moduleDescriptor.version();
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
     static void shrinkDocuments(ModuleContext moduleContext) {
         moduleContext.srcDocContextMap.values().forEach(DocumentContext::shrink);
     }
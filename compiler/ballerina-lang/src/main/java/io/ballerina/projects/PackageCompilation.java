@@ -42,6 +42,7 @@ import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.REMOTE_MANAGEMENT;
+import static org.ballerinalang.compiler.CompilerOptionName.SEMTYPE_CHECK;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
 
@@ -52,6 +53,8 @@ import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
  */
 public class PackageCompilation {
 
+    private static final String SEMTYPE_CHECK_PROPERTY = "ballerina.semtype.check";
+
     private final PackageContext rootPackageContext;
     private final PackageResolution packageResolution;
     private final CompilationOptions compilationOptions;
@@ -90,6 +93,10 @@ public class PackageCompilation {
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(REMOTE_MANAGEMENT, Boolean.toString(compilationOptions.remoteManagement()));
+        String semTypeCheck = System.getProperty(SEMTYPE_CHECK_PROPERTY);
+        if (semTypeCheck != null) {
+            options.put(SEMTYPE_CHECK, semTypeCheck);
+        }
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
@@ -98,11 +105,12 @@ public class PackageCompilation {
     }
 
     private static PackageCompilation compile(PackageCompilation compilation) {
-        // Compile modules in the dependency graph
-        compilation.compileModules();
-        // Now the modules are compiled, initialize the compiler plugin manager
+        // Initialize the compiler plugin manager before compiling the modules, since the modules are not loaded from
+        // the content-addressed cache when there are code analyzers, which need the semantic models of the modules
         CompilerPluginManager compilerPluginManager = CompilerPluginManager.from(compilation);
         compilation.setCompilerPluginManager(compilerPluginManager);
+        // Compile modules in the dependency graph
+        compilation.compileModules();
 
         // Run code analyzers, if project has updated only
         if (compilation.packageContext().defaultModuleContext().compilationState() != ModuleCompilationState.COMPILED) {
@@ -207,8 +215,17 @@ public class PackageCompilation {
         diagnostics.addAll(packageContext().dependencyManifest().diagnostics().allDiagnostics);
         // add compilation diagnostics
         if (!packageResolution.diagnosticResult().hasErrors()) {
+            ContentAddressedCompilationCache contentAddressedCache = useContentAddressedCache() ?
+                    ContentAddressedCompilationCache.getInstance() : null;
+            Map<ModuleDescriptor, String> moduleHashes = new HashMap<>();
             for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+                if (contentAddressedCache != null) {
+                    ModuleContext.loadFromContentAddressedCache(moduleContext, contentAddressedCache, moduleHashes);
+                }
                 moduleContext.compile(compilerContext);
+                if (contentAddressedCache != null) {
+                    ModuleContext.recordModuleHash(moduleContext, moduleHashes);
+                }
                 for (Diagnostic diagnostic : moduleContext.diagnostics()) {
                     if (!ProjectKind.BALA_PROJECT.equals(moduleContext.project().kind()) ||
                             (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)) {
@@ -223,6 +240,24 @@ public class PackageCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    /**
+     * Checks whether the modules of the package can be loaded from the content-addressed compilation cache. The
+     * tests and the compiler plugins which generate, modify or analyze code require the syntax trees and the semantic
+     * models of the modules, hence the cache is not used with them.
+     *
+     * @return true if the content-addressed compilation cache can be used
+     */
+    private boolean useContentAddressedCache() {
+        Project project = rootPackageContext.project();
+        return project.kind() == ProjectKind.BUILD_PROJECT
+                && project.buildOptions().enableCache()
+                && project.buildOptions().skipTests()
+                && !compilationOptions.withCodeGenerators()
+                && !compilationOptions.withCodeModifiers()
+                && compilerPluginManager != null
+                && compilerPluginManager.engagedCodeAnalyzerCount() == 0;
+    }
+
     private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
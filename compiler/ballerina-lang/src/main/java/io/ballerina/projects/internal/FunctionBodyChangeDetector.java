@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.internal;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+
+import java.util.Optional;
+
+/**
+ * Checks whether the changes made to a document are limited to the bodies of its module level functions.
+ * <p>
+ * Such a change does not affect the modules which depend on the module of the document, since the imports and the
+ * module level declarations other than function bodies remain the same. The declarations are compared by their source
+ * code and their positions, since the dependants refer to the locations of the symbols. Hence a change which moves
+ * them to other lines, e.g. by adding lines to a function body, is not limited to the function bodies.
+ *
+ * @since 2201.11.0
+ */
+public final class FunctionBodyChangeDetector {
+
+    private FunctionBodyChangeDetector() {
+    }
+
+    /**
+     * Checks whether the given syntax trees differ only in the bodies of the module level functions.
+     *
+     * @param oldTree syntax tree of the document before the change
+     * @param newTree syntax tree of the document after the change
+     * @return true if only the function bodies have been changed
+     */
+    public static boolean isFunctionBodyChangeOnly(SyntaxTree oldTree, SyntaxTree newTree) {
+        if (!oldTree.containsModulePart() || !newTree.containsModulePart()) {
+            return false;
+        }
+
+        ModulePartNode oldModulePart = oldTree.rootNode();
+        ModulePartNode newModulePart = newTree.rootNode();
+        if (!isSameNodeList(oldModulePart.imports(), newModulePart.imports())) {
+            return false;
+        }
+
+        NodeList<ModuleMemberDeclarationNode> oldMembers = oldModulePart.members();
+        NodeList<ModuleMemberDeclarationNode> newMembers = newModulePart.members();
+        if (oldMembers.size() != newMembers.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < oldMembers.size(); i++) {
+            ModuleMemberDeclarationNode oldMember = oldMembers.get(i);
+            ModuleMemberDeclarationNode newMember = newMembers.get(i);
+            if (oldMember.kind() != newMember.kind()) {
+                return false;
+            }
+
+            if (oldMember.kind() == SyntaxKind.FUNCTION_DEFINITION) {
+                if (!isSameFunctionHeader((FunctionDefinitionNode) oldMember, (FunctionDefinitionNode) newMember)) {
+                    return false;
+                }
+            } else if (!isSameNode(oldMember, newMember)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameFunctionHeader(FunctionDefinitionNode oldFunction,
+                                                FunctionDefinitionNode newFunction) {
+        return isSameNode(oldFunction.metadata(), newFunction.metadata()) &&
+                isSameNodeList(oldFunction.qualifierList(), newFunction.qualifierList()) &&
+                isSameNode(oldFunction.functionKeyword(), newFunction.functionKeyword()) &&
+                isSameNode(oldFunction.functionName(), newFunction.functionName()) &&
+                isSameNodeList(oldFunction.relativeResourcePath(), newFunction.relativeResourcePath()) &&
+                isSameNode(oldFunction.functionSignature(), newFunction.functionSignature()) &&
+                oldFunction.functionBody().kind() == newFunction.functionBody().kind();
+    }
+
+    private static <T extends Node> boolean isSameNodeList(NodeList<T> oldNodes, NodeList<T> newNodes) {
+        if (oldNodes.size() != newNodes.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldNodes.size(); i++) {
+            if (!isSameNode(oldNodes.get(i), newNodes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T extends Node> boolean isSameNode(Optional<T> oldNode, Optional<T> newNode) {
+        if (oldNode.isEmpty() || newNode.isEmpty()) {
+            return oldNode.isEmpty() && newNode.isEmpty();
+        }
+        return isSameNode(oldNode.get(), newNode.get());
+    }
+
+    private static boolean isSameNode(Node oldNode, Node newNode) {
+        return oldNode.lineRange().equals(newNode.lineRange()) && oldNode.toSourceCode().equals(newNode.toSourceCode());
+    }
+}
@@ -17,6 +17,7 @@ module io.ballerina.lang {
     requires io.ballerina.toml;
     requires io.ballerina.central.client;
     requires io.ballerina.identifier;
+    requires io.ballerina.semtype;
     requires java.semver;
     requires maven.resolver;
     exports io.ballerina.compiler.api;
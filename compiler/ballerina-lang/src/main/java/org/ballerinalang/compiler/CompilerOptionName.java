@@ -71,6 +71,13 @@ public enum CompilerOptionName {
      */
     PROJECT_API_INITIATED_COMPILATION("projectAPTInitiatedCompilation"),
 
+    /**
+     * Selects the use of the semantic type engine for assignability checks. The value can be {@code enabled} to use
+     * the semantic type engine wherever it supports the types being checked, or {@code differential} to compute the
+     * results of both engines and record where they differ.
+     */
+    SEMTYPE_CHECK("semtypeCheck"),
+
     TOOLING_COMPILATION("toolingCompilation");
 
     public final String name;
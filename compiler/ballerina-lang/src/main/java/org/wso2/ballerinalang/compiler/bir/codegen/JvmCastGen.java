@@ -1129,7 +1129,7 @@ public class JvmCastGen {
 
     public void generateCheckCastToAnyData(MethodVisitor mv, BType type) {
         BType sourceType = JvmCodeGenUtil.getImpliedType(type);
-        if (sourceType.tag == TypeTags.UNION || (types.isAssignable(sourceType, symbolTable.anyType) &&
+        if (sourceType.tag == TypeTags.UNION || (isAssignable(sourceType, symbolTable.anyType) &&
                         !Symbols.isFlagOn(sourceType.flags, Flags.READONLY))) {
             checkCast(mv, symbolTable.anydataType);
         } else {
@@ -1138,6 +1138,13 @@ public class JvmCastGen {
         }
     }
 
+    private boolean isAssignable(BType source, BType target) {
+        // Types is not thread safe, and the code of independent modules may be generated concurrently
+        synchronized (types) {
+            return types.isAssignable(source, target);
+        }
+    }
+
     private void generateCheckCastToJSON(MethodVisitor mv, BType type) {
         BType sourceType = JvmCodeGenUtil.getImpliedType(type);
         switch (sourceType.tag) {
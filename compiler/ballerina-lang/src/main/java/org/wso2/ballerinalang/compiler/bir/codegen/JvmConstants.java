@@ -359,7 +359,6 @@ public final class JvmConstants {
     public static final String CREATE_TYPES_METHOD = "$createTypes";
     public static final String CREATE_TYPE_CONSTANTS_METHOD = "$createTypeConstants";
     public static final String CREATE_TYPE_INSTANCES_METHOD = "$createTypeInstances";
-    public static final String GLOBAL_LOCK_NAME = "lock";
     public static final String SERVICE_EP_AVAILABLE = "$serviceEPAvailable";
     public static final String BAL_RUNTIME_VAR_NAME = "$balRuntime";
     public static final String LOCK_STORE_VAR_NAME = "$lockStore";
@@ -49,6 +49,7 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator.NewInstance;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 import org.wso2.ballerinalang.compiler.diagnostic.BLangDiagnosticLog;
@@ -126,6 +127,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.addDef
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmDesugarPhase.rewriteRecordInits;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_MODULE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_LOCK_STORE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.injectDefaultParamInitsToAttachedFuncs;
 import static org.wso2.ballerinalang.compiler.bir.codegen.interop.ExternalMethodGen.createExternalFunctionWrapper;
@@ -245,7 +247,7 @@ public class JvmPackageGen {
         }
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         setConstantFields(mv, birPackage, jvmConstantsGen);
-        setLockStoreField(mv, className);
+        setLockStoreField(mv, className, birPackage);
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
         setModuleStatusField(cw, mv, className);
         setCurrentModuleField(cw, mv, jvmConstantsGen, birPackage.packageID, className);
@@ -263,13 +265,40 @@ public class JvmPackageGen {
                 VOID_METHOD_DESC, false);
     }
 
-    private static void setLockStoreField(MethodVisitor mv, String className) {
+    private static void setLockStoreField(MethodVisitor mv, String className, BIRPackage birPackage) {
         mv.visitTypeInsn(NEW, LOCK_STORE);
         mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, VOID_METHOD_DESC, false);
+        mv.visitLdcInsn(birPackage.packageID.toString());
+        mv.visitLdcInsn(getLockCount(birPackage));
+        mv.visitMethodInsn(INVOKESPECIAL, LOCK_STORE, JVM_INIT_METHOD, INIT_LOCK_STORE, false);
         mv.visitFieldInsn(PUTSTATIC, className, LOCK_STORE_VAR_NAME, GET_LOCK_STORE);
     }
 
+    private static int getLockCount(BIRPackage birPackage) {
+        // The lock optimizer numbers the lock ids of each module from zero, so the lock store can resolve them
+        // against a table sized to the locks of the module.
+        int maxLockId = -1;
+        for (BIRFunction function : birPackage.functions) {
+            maxLockId = Math.max(maxLockId, getMaxLockId(function));
+        }
+        for (BIRTypeDefinition typeDef : birPackage.typeDefs) {
+            for (BIRFunction function : typeDef.attachedFuncs) {
+                maxLockId = Math.max(maxLockId, getMaxLockId(function));
+            }
+        }
+        return maxLockId + 1;
+    }
+
+    private static int getMaxLockId(BIRFunction function) {
+        int maxLockId = -1;
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator instanceof BIRTerminator.Lock lock) {
+                maxLockId = Math.max(maxLockId, lock.lockId);
+            }
+        }
+        return maxLockId;
+    }
+
     private static void setServiceEPAvailableField(ClassWriter cw, MethodVisitor mv, boolean serviceEPAvailable,
                                                    String initClass) {
         FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, SERVICE_EP_AVAILABLE, "Z", null, null);
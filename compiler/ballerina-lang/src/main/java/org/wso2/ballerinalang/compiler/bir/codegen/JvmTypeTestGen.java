@@ -94,8 +94,7 @@ public class JvmTypeTestGen {
      * @return whether instruction could be optimized using 'instanceof` check
      */
     private boolean canOptimizeNilCheck(BType sourceType, BType targetType) {
-        return JvmCodeGenUtil.getImpliedType(targetType).tag == TypeTags.NIL &&
-                types.isAssignable(targetType, sourceType);
+        return JvmCodeGenUtil.getImpliedType(targetType).tag == TypeTags.NIL && isAssignable(targetType, sourceType);
     }
 
     /**
@@ -145,10 +144,18 @@ public class JvmTypeTestGen {
                 errorType = bType;
             }
         }
-        return (foundError == 1 && types.isAssignable(errorType, targetType)) || (foundError > 0 && "error".equals(
+        return (foundError == 1 && isAssignable(errorType, targetType)) || (foundError > 0 && "error".equals(
                 targetType.tsymbol.name.value));
     }
 
+    private boolean isAssignable(BType source, BType target) {
+        // Types is not thread safe, since it keeps the semtypes resolved while checking, and the code of
+        // independent modules may be generated concurrently
+        synchronized (types) {
+            return types.isAssignable(source, target);
+        }
+    }
+
     /**
      * This checks for any variable declaration containing a error in a union of two types. Examples include
      * string|error or error|error or int|error.
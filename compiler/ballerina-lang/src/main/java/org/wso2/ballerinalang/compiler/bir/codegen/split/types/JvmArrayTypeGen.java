@@ -101,7 +101,13 @@ public class JvmArrayTypeGen {
         mv.visitInsn(L2I);
 
         jvmTypeGen.loadReadonlyFlag(mv, arrayType);
-        mv.visitInsn(types.hasFillerValue(arrayType.eType) ? ICONST_1 : ICONST_0);
+        boolean hasFillerValue;
+        // Types is not thread safe, since it keeps the semtypes resolved while checking, and the code of
+        // independent modules may be generated concurrently
+        synchronized (types) {
+            hasFillerValue = types.hasFillerValue(arrayType.eType);
+        }
+        mv.visitInsn(hasFillerValue ? ICONST_1 : ICONST_0);
 
         // invoke the constructor
         mv.visitMethodInsn(INVOKESPECIAL, ARRAY_TYPE_IMPL, JVM_INIT_METHOD,  "(IIZZ)V", false);
@@ -47,6 +47,12 @@ public class BIRLockOptimizer extends BIRVisitor {
 
         // Identify disjoint locks
         optimizeLocks();
+
+        // Lock ids index the lock table of a module, hence they are numbered from zero for each module
+        lockList.clear();
+        lockToSetMap.clear();
+        setToLockMap.clear();
+        setId = -1;
     }
 
     private void optimizeLocks() {
@@ -65,11 +71,13 @@ public class BIRLockOptimizer extends BIRVisitor {
     }
 
     private void propagateLocks() {
-        for (Map.Entry<Integer, List<BIRTerminator.Lock>> entry : setToLockMap.entrySet()) {
-            Integer lockId = entry.getKey();
-            for (BIRTerminator.Lock lock : entry.getValue()) {
+        // Merged sets leave gaps in the set ids, so the remaining sets are renumbered to keep the lock ids dense.
+        int lockId = 0;
+        for (List<BIRTerminator.Lock> locks : setToLockMap.values()) {
+            for (BIRTerminator.Lock lock : locks) {
                 lock.lockId = lockId;
             }
+            lockId++;
         }
     }
 
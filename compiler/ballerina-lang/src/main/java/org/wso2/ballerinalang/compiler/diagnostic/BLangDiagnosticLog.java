@@ -48,6 +48,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Logger class for logging various compiler diagnostics.
@@ -63,11 +64,12 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private static final String HINT_PREFIX = "hint";
     private static final ResourceBundle MESSAGES = ResourceBundle.getBundle("compiler", Locale.getDefault());
 
-    private int errorCount = 0;
+    private final AtomicInteger errorCount = new AtomicInteger();
     private final PackageCache packageCache;
     private final TypesFactory typesFactory;
     private final SymbolFactory symbolFactory;
-    private PackageID currentPackageId;
+    // Code generation of independent modules may run concurrently, hence the current package is tracked per thread
+    private final ThreadLocal<PackageID> currentPackageId = new ThreadLocal<>();
     private boolean isMute = false;
 
     private BLangDiagnosticLog(CompilerContext context) {
@@ -87,7 +89,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     }
 
     public void setCurrentPackageId(PackageID packageID) {
-        this.currentPackageId = packageID;
+        this.currentPackageId.set(packageID);
     }
 
     /**
@@ -144,7 +146,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @return Number of errors logged.
      */
     public int errorCount() {
-        return this.errorCount;
+        return this.errorCount.get();
     }
 
     /**
@@ -153,14 +155,14 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      * @param errorCount Error count
      */
     public void setErrorCount(int errorCount) {
-        this.errorCount = errorCount;
+        this.errorCount.set(errorCount);
     }
 
     /**
      * Reset error count.
      */
     public void resetErrorCount() {
-        this.errorCount = 0;
+        this.errorCount.set(0);
     }
 
     /**
@@ -206,7 +208,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
      */
     public void logDiagnostic(PackageID pkgId, Diagnostic diagnostic) {
         if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
-            this.errorCount++;
+            this.errorCount.incrementAndGet();
         }
 
         storeDiagnosticInModule(pkgId, diagnostic);
@@ -233,7 +235,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
     private void reportDiagnostic(PackageID packageID, DiagnosticCode diagnosticCode, Location location,
                                   String msg, DiagnosticSeverity severity, Object[] args) {
         if (severity == DiagnosticSeverity.ERROR) {
-            this.errorCount++;
+            this.errorCount.incrementAndGet();
         }
 
         if (this.isMute) {
@@ -254,7 +256,7 @@ public class BLangDiagnosticLog implements DiagnosticLog {
         if (packageID != null) {
             storeDiagnosticInModule(packageID, diagnostic);
         } else {
-            storeDiagnosticInModule(currentPackageId, diagnostic);
+            storeDiagnosticInModule(currentPackageId.get(), diagnostic);
         }
     }
 
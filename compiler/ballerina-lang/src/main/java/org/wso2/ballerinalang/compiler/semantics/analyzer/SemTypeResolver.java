@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.analyzer;
+
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.Env;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.TypeCheckContext;
+import io.ballerina.semtype.definition.MappingDefinition;
+import io.ballerina.semtype.subtypedata.BooleanSubtype;
+import io.ballerina.semtype.subtypedata.IntSubtype;
+import io.ballerina.semtype.subtypedata.StringSubtype;
+import org.ballerinalang.model.tree.NodeKind;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BFiniteType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BMapType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangExpression;
+import org.wso2.ballerinalang.compiler.tree.expressions.BLangLiteral;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves the semantic types of {@link BType}s and checks the subtype relation between them using the BDD based
+ * engine of the {@code semtypes} module.
+ * <p>
+ * Only nil, boolean, int, float, decimal, string, handle, never and any, singletons of the simple types, unions, and
+ * mutable records and maps of the supported types are translated. The relations of any other type are left to the
+ * structural checks of {@link Types}.
+ *
+ * @since 2201.11.0
+ */
+public class SemTypeResolver {
+
+    private Env env;
+    private TypeCheckContext tc;
+    private final Map<BType, SemType> resolved = new IdentityHashMap<>();
+    private final Set<BType> unsupported = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<BType, MappingDefinition> inProgress = new IdentityHashMap<>();
+
+    public SemTypeResolver() {
+        reset();
+    }
+
+    /**
+     * Discards the semantic types resolved so far along with the memoized results of the checks done on them.
+     */
+    public void reset() {
+        this.env = new Env();
+        this.tc = new TypeCheckContext(env);
+        this.resolved.clear();
+        this.unsupported.clear();
+        this.inProgress.clear();
+    }
+
+    /**
+     * Checks whether the source type is a subtype of the target type.
+     *
+     * @param source source type
+     * @param target target type
+     * @return the result of the check, or empty if either of the types cannot be represented as a semantic type
+     */
+    public Optional<Boolean> isSubtype(BType source, BType target) {
+        SemType s = resolve(source);
+        if (s == null) {
+            return Optional.empty();
+        }
+        SemType t = resolve(target);
+        if (t == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Core.isSubtype(tc, s, t));
+    }
+
+    /**
+     * Returns the semantic type of the given type.
+     *
+     * @param type type to resolve
+     * @return the semantic type, or null if the type cannot be represented as a semantic type
+     */
+    public SemType resolve(BType type) {
+        SemType semType = resolved.get(type);
+        if (semType != null) {
+            return semType;
+        }
+        semType = resolveType(type);
+        // The semantic types of the types nested in a recursive type are only complete once the outermost type is
+        // resolved, hence only the results of the top level types are kept.
+        if (semType != null) {
+            resolved.put(type, semType);
+        }
+        return semType;
+    }
+
+    private SemType resolveType(BType type) {
+        type = Types.getImpliedType(type);
+        if (type == null || unsupported.contains(type)) {
+            return null;
+        }
+        SemType semType = resolved.get(type);
+        if (semType != null) {
+            return semType;
+        }
+        MappingDefinition definition = inProgress.get(type);
+        if (definition != null) {
+            return definition.getSemType(env);
+        }
+
+        semType = switch (type.tag) {
+            case TypeTags.NIL -> PredefinedType.NIL;
+            case TypeTags.BOOLEAN -> PredefinedType.BOOLEAN;
+            case TypeTags.INT -> PredefinedType.INT;
+            case TypeTags.BYTE -> PredefinedType.BYTE;
+            case TypeTags.SIGNED32_INT -> IntSubtype.intWidthSigned(32);
+            case TypeTags.SIGNED16_INT -> IntSubtype.intWidthSigned(16);
+            case TypeTags.SIGNED8_INT -> IntSubtype.intWidthSigned(8);
+            case TypeTags.UNSIGNED32_INT -> IntSubtype.intWidthUnsigned(32);
+            case TypeTags.UNSIGNED16_INT -> IntSubtype.intWidthUnsigned(16);
+            case TypeTags.UNSIGNED8_INT -> IntSubtype.intWidthUnsigned(8);
+            case TypeTags.FLOAT -> PredefinedType.FLOAT;
+            case TypeTags.DECIMAL -> PredefinedType.DECIMAL;
+            case TypeTags.STRING -> PredefinedType.STRING;
+            case TypeTags.HANDLE -> PredefinedType.HANDLE;
+            case TypeTags.NEVER -> PredefinedType.NEVER;
+            case TypeTags.ANY -> PredefinedType.ANY;
+            case TypeTags.FINITE -> resolveFiniteType((BFiniteType) type);
+            case TypeTags.UNION -> resolveUnionType((BUnionType) type);
+            case TypeTags.RECORD -> resolveRecordType((BRecordType) type);
+            case TypeTags.MAP -> resolveMapType((BMapType) type);
+            default -> null;
+        };
+        if (semType == null) {
+            unsupported.add(type);
+        }
+        return semType;
+    }
+
+    private SemType resolveFiniteType(BFiniteType finiteType) {
+        SemType semType = PredefinedType.NEVER;
+        for (BLangExpression value : finiteType.getValueSpace()) {
+            SemType valueType = resolveSingletonType(value);
+            if (valueType == null) {
+                return null;
+            }
+            semType = Core.union(semType, valueType);
+        }
+        return semType;
+    }
+
+    private static SemType resolveSingletonType(BLangExpression expression) {
+        if (expression.getKind() != NodeKind.LITERAL &&
+                expression.getKind() != NodeKind.NUMERIC_LITERAL) {
+            return null;
+        }
+        Object value = ((BLangLiteral) expression).value;
+        return switch (expression.getBType().tag) {
+            case TypeTags.NIL -> PredefinedType.NIL;
+            case TypeTags.INT, TypeTags.BYTE -> value instanceof Long || value instanceof Integer ?
+                    IntSubtype.intConst(((Number) value).longValue()) : null;
+            case TypeTags.STRING -> value instanceof String s ? StringSubtype.stringConst(s) : null;
+            case TypeTags.BOOLEAN -> value instanceof Boolean b ? BooleanSubtype.booleanConst(b) : null;
+            default -> null;
+        };
+    }
+
+    private SemType resolveUnionType(BUnionType unionType) {
+        // Unions are not definitions, so a union which refers to itself cannot be resolved.
+        if (!unsupported.add(unionType)) {
+            return null;
+        }
+        SemType semType = PredefinedType.NEVER;
+        for (BType memberType : unionType.getMemberTypes()) {
+            SemType memberSemType = resolveType(memberType);
+            if (memberSemType == null) {
+                return null;
+            }
+            semType = Core.union(semType, memberSemType);
+        }
+        unsupported.remove(unionType);
+        return semType;
+    }
+
+    private SemType resolveRecordType(BRecordType recordType) {
+        if (Symbols.isFlagOn(recordType.flags, Flags.READONLY)) {
+            return null;
+        }
+        MappingDefinition definition = new MappingDefinition();
+        inProgress.put(recordType, definition);
+        try {
+            List<MappingDefinition.Field> fields = new ArrayList<>(recordType.fields.size());
+            for (BField field : recordType.fields.values()) {
+                long fieldFlags = field.symbol.flags;
+                if (Symbols.isFlagOn(fieldFlags, Flags.READONLY)) {
+                    return null;
+                }
+                SemType fieldType = resolveType(field.type);
+                // A never typed field means the field must be absent, which is not modelled yet.
+                if (fieldType == null || Core.isNever(fieldType)) {
+                    return null;
+                }
+                String name = field.name.value;
+                fields.add(Symbols.isFlagOn(fieldFlags, Flags.OPTIONAL) ?
+                        MappingDefinition.Field.optionalField(name, fieldType) :
+                        new MappingDefinition.Field(name, fieldType));
+            }
+            SemType rest;
+            if (recordType.sealed) {
+                rest = PredefinedType.NEVER;
+            } else {
+                rest = resolveType(recordType.restFieldType);
+                if (rest == null) {
+                    return null;
+                }
+            }
+            return definition.define(env, fields, rest);
+        } finally {
+            inProgress.remove(recordType);
+        }
+    }
+
+    private SemType resolveMapType(BMapType mapType) {
+        if (Symbols.isFlagOn(mapType.flags, Flags.READONLY)) {
+            return null;
+        }
+        MappingDefinition definition = new MappingDefinition();
+        inProgress.put(mapType, definition);
+        try {
+            SemType rest = resolveType(mapType.constraint);
+            if (rest == null) {
+                return null;
+            }
+            return definition.define(env, List.of(), rest);
+        } finally {
+            inProgress.remove(mapType);
+        }
+    }
+}
@@ -302,7 +302,11 @@ public class SemanticAnalyzer extends SimpleBLangNodeAnalyzer<SemanticAnalyzer.A
     public BLangPackage analyze(BLangPackage pkgNode) {
         SymbolEnv pkgEnv = this.symTable.pkgEnvMap.get(pkgNode.symbol);
         final AnalyzerData data = new AnalyzerData(pkgEnv);
-        visitNode(pkgNode, data);
+        try {
+            visitNode(pkgNode, data);
+        } finally {
+            types.disableTypeRelationCache();
+        }
         return pkgNode;
     }
 
@@ -315,6 +319,9 @@ public class SemanticAnalyzer extends SimpleBLangNodeAnalyzer<SemanticAnalyzer.A
         }
         SymbolEnv pkgEnv = this.symTable.pkgEnvMap.get(pkgNode.symbol);
         data.env = pkgEnv;
+        // The type definitions of a testable package are analyzed after those of the module, hence the results of the
+        // type relations are only reused once they have been analyzed as well.
+        types.disableTypeRelationCache();
 
         // To keep track of original top level nodes to resolve user defined types independent of the assumptions that
         // new elements are added to the end of the list and the data structure is always going to be sequential.
@@ -340,6 +347,8 @@ public class SemanticAnalyzer extends SimpleBLangNodeAnalyzer<SemanticAnalyzer.A
                 analyzeNode((BLangNode) copyOfOriginalTopLevelNode, data);
             }
         }
+        // Defined types are not modified once their type definitions have been analyzed.
+        types.enableTypeRelationCache();
 
         for (int i = 0; i < pkgNode.topLevelNodes.size(); i++) {
             TopLevelNode pkgLevelNode = pkgNode.topLevelNodes.get(i);
@@ -0,0 +1,153 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.analyzer;
+
+import org.wso2.ballerinalang.compiler.parser.BLangAnonymousModelHelper;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTypeReferenceType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memo table of the results of the type relations computed by {@link Types}.
+ * <p>
+ * Entries are keyed by the identity of the source and the target types, hence only the relations of types which are
+ * not modified once they are defined are cached. These are the predefined types and the types of type definitions,
+ * which are complete once the type definitions of a module have been analyzed. Anonymous types are refined while the
+ * expressions they belong to are type checked, e.g. when the size of an inferred array type is set or when a type is
+ * marked readonly, hence their relations are always computed.
+ *
+ * @since 2201.11.0
+ */
+class TypeRelationCache {
+
+    /**
+     * Type relations memoized by the cache.
+     */
+    enum Relation {
+        ASSIGNABLE,
+        SAME_TYPE,
+        EQUIVALENT
+    }
+
+    private final Map<Key, Boolean> results = new HashMap<>();
+    private boolean enabled = false;
+    private long hitCount = 0;
+    private long missCount = 0;
+
+    void enable() {
+        this.enabled = true;
+    }
+
+    void disable() {
+        this.enabled = false;
+        this.results.clear();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the cached result of the relation between the given types.
+     *
+     * @param relation type relation
+     * @param source   source type
+     * @param target   target type
+     * @return cached result, or null if the result is not cached
+     */
+    Boolean get(Relation relation, BType source, BType target) {
+        Boolean result = results.get(new Key(relation, source, target));
+        if (result == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return result;
+    }
+
+    void put(Relation relation, BType source, BType target, boolean result) {
+        results.put(new Key(relation, source, target), result);
+    }
+
+    /**
+     * Checks whether the relations of the given type can be cached. The relations of a type cannot be cached if the
+     * type is anonymous, while the type is being resolved, or if the type is parameterized by the arguments of a
+     * function call.
+     *
+     * @param type type to check
+     * @return true if the relations of the type can be cached
+     */
+    static boolean isCacheable(BType type) {
+        if (type == null || !isDefinedType(type)) {
+            return false;
+        }
+        while (type != null) {
+            if (type.tag == TypeTags.NONE || Symbols.isFlagOn(type.flags, Flags.PARAMETERIZED)) {
+                return false;
+            }
+            if (type.tag != TypeTags.TYPEREFDESC) {
+                return true;
+            }
+            type = ((BTypeReferenceType) type).referredType;
+        }
+        return false;
+    }
+
+    private static boolean isDefinedType(BType type) {
+        BTypeSymbol tsymbol = type.tsymbol;
+        if (tsymbol == null || Symbols.isFlagOn(tsymbol.flags, Flags.ANONYMOUS)) {
+            return false;
+        }
+        String name = tsymbol.name.value;
+        return !name.isEmpty() && !name.startsWith(BLangAnonymousModelHelper.ANON_PREFIX);
+    }
+
+    long getHitCount() {
+        return hitCount;
+    }
+
+    long getMissCount() {
+        return missCount;
+    }
+
+    double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    private record Key(Relation relation, BType source, BType target) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other && this.relation == other.relation && this.source == other.source &&
+                    this.target == other.target;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * relation.hashCode() + System.identityHashCode(source)) +
+                    System.identityHashCode(target);
+        }
+    }
+}
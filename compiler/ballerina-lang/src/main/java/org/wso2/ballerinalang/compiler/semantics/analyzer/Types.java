@@ -20,6 +20,7 @@ package org.wso2.ballerinalang.compiler.semantics.analyzer;
 import io.ballerina.runtime.api.flags.SymbolFlags;
 import io.ballerina.tools.diagnostics.DiagnosticCode;
 import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.Name;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
@@ -102,6 +103,7 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangErrorType;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.CompilerUtils;
 import org.wso2.ballerinalang.compiler.util.ImmutableTypeCloner;
 import org.wso2.ballerinalang.compiler.util.Names;
@@ -118,6 +120,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -127,6 +130,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -174,6 +178,11 @@ public class Types {
     private final int recordCount = 0;
     private SymbolEnv env;
     private boolean ignoreObjectTypeIds = false;
+    private final TypeRelationCache typeRelationCache = new TypeRelationCache();
+    private final CompilerOptions compilerOptions;
+    private final SemTypeResolver semTypeResolver = new SemTypeResolver();
+    private SemTypeCheckMode semTypeCheckMode = SemTypeCheckMode.DISABLED;
+    private final List<String> semTypeMismatches = new ArrayList<>();
     private static final String BASE_16 = "base16";
 
     private static final BigDecimal DECIMAL_MAX =
@@ -206,6 +215,7 @@ public class Types {
                                                             symTable.xmlPIType, symTable.xmlTextType);
         this.unifier = new Unifier();
         this.anonymousModelHelper = BLangAnonymousModelHelper.getInstance(context);
+        this.compilerOptions = CompilerOptions.getInstance(context);
     }
 
     public List<BType> checkTypes(BLangExpression node,
@@ -382,7 +392,16 @@ public class Types {
     }
 
     public boolean isSameType(BType source, BType target) {
-        return isSameType(source, target, new HashSet<>());
+        if (!canUseTypeRelationCache(source, target)) {
+            return isSameType(source, target, new HashSet<>());
+        }
+        Boolean cachedResult = typeRelationCache.get(TypeRelationCache.Relation.SAME_TYPE, source, target);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = isSameType(source, target, new HashSet<>());
+        typeRelationCache.put(TypeRelationCache.Relation.SAME_TYPE, source, target, result);
+        return result;
     }
 
     public boolean isSameOrderedType(BType source, BType target) {
@@ -841,7 +860,34 @@ public class Types {
      * @return true if source type is assignable to the target type.
      */
     public boolean isAssignable(BType source, BType target) {
-        return isAssignable(source, target, new HashSet<>());
+        if (!canUseTypeRelationCache(source, target)) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+        Boolean cachedResult = typeRelationCache.get(TypeRelationCache.Relation.ASSIGNABLE, source, target);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = semTypeCheckMode == SemTypeCheckMode.DISABLED ? isAssignable(source, target, new HashSet<>()) :
+                isAssignableUsingSemTypes(source, target);
+        typeRelationCache.put(TypeRelationCache.Relation.ASSIGNABLE, source, target, result);
+        return result;
+    }
+
+    private boolean isAssignableUsingSemTypes(BType source, BType target) {
+        Optional<Boolean> semTypeResult = semTypeResolver.isSubtype(source, target);
+        if (semTypeResult.isEmpty()) {
+            return isAssignable(source, target, new HashSet<>());
+        }
+        if (semTypeCheckMode == SemTypeCheckMode.ENABLED) {
+            return semTypeResult.get();
+        }
+
+        boolean result = isAssignable(source, target, new HashSet<>());
+        if (result != semTypeResult.get()) {
+            semTypeMismatches.add(source + " <: " + target + ": expected " + result + ", semtype " +
+                    semTypeResult.get());
+        }
+        return result;
     }
 
     public boolean isAssignableIgnoreObjectTypeIds(BType source, BType target) {
@@ -1794,7 +1840,62 @@ public class Types {
     }
 
     public boolean checkStructEquivalency(BType rhsType, BType lhsType) {
-        return checkStructEquivalency(rhsType, lhsType, new HashSet<>());
+        if (!canUseTypeRelationCache(rhsType, lhsType)) {
+            return checkStructEquivalency(rhsType, lhsType, new HashSet<>());
+        }
+        Boolean cachedResult = typeRelationCache.get(TypeRelationCache.Relation.EQUIVALENT, rhsType, lhsType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkStructEquivalency(rhsType, lhsType, new HashSet<>());
+        typeRelationCache.put(TypeRelationCache.Relation.EQUIVALENT, rhsType, lhsType, result);
+        return result;
+    }
+
+    /**
+     * Enables memoizing the results of the type relations computed by the public entry points of this class.
+     * This should only be enabled once the type definitions of the module being compiled have been analyzed, since
+     * only the relations of the predefined types and the types of type definitions are memoized.
+     */
+    public void enableTypeRelationCache() {
+        typeRelationCache.enable();
+        semTypeCheckMode = SemTypeCheckMode.from(compilerOptions.get(CompilerOptionName.SEMTYPE_CHECK));
+    }
+
+    /**
+     * Disables memoizing the results of the type relations and discards the cached results.
+     */
+    public void disableTypeRelationCache() {
+        typeRelationCache.disable();
+        semTypeResolver.reset();
+    }
+
+    public long getTypeRelationCacheHitCount() {
+        return typeRelationCache.getHitCount();
+    }
+
+    public long getTypeRelationCacheMissCount() {
+        return typeRelationCache.getMissCount();
+    }
+
+    public double getTypeRelationCacheHitRate() {
+        return typeRelationCache.getHitRate();
+    }
+
+    /**
+     * Returns the assignability checks for which the semantic type engine disagreed with the structural checks, when
+     * the {@link CompilerOptionName#SEMTYPE_CHECK} option is set to {@code differential}.
+     *
+     * @return descriptions of the mismatching checks
+     */
+    public List<String> getSemTypeMismatches() {
+        return Collections.unmodifiableList(semTypeMismatches);
+    }
+
+    private boolean canUseTypeRelationCache(BType source, BType target) {
+        // Results ignoring the object type ids are not the same as the results of the regular checks
+        return typeRelationCache.isEnabled() && !ignoreObjectTypeIds && TypeRelationCache.isCacheable(source) &&
+                TypeRelationCache.isCacheable(target);
     }
 
     private boolean checkStructEquivalency(BType rhsType, BType lhsType, Set<TypePair> unresolvedTypes) {
@@ -7214,4 +7315,24 @@ public class Types {
         int tag = getImpliedType(type).tag;
         return tag == TypeTags.RECORD || tag == TypeTags.MAP;
     }
+
+    /**
+     * Modes of using the semantic type engine for assignability checks.
+     */
+    private enum SemTypeCheckMode {
+        DISABLED,
+        ENABLED,
+        DIFFERENTIAL;
+
+        static SemTypeCheckMode from(String value) {
+            if (value == null) {
+                return DISABLED;
+            }
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "enabled", "true" -> ENABLED;
+                case "differential" -> DIFFERENTIAL;
+                default -> DISABLED;
+            };
+        }
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the content-addressed compilation cache.
+ *
+ * @since 2201.11.0
+ */
+public class ContentAddressedCompilationCacheTest {
+
+    private static final ModuleName MODULE_NAME = ModuleName.from(PackageName.from("foo"));
+    private Path tempDir;
+    private CompilerBackend compilerBackend;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("ballerina-compilation-cache-" + System.nanoTime());
+        compilerBackend = mock(CompilerBackend.class);
+        when(compilerBackend.targetPlatform()).thenReturn(JvmTarget.JAVA_21);
+        when(compilerBackend.libraryFileExtension()).thenReturn(".jar");
+    }
+
+    @AfterMethod
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+    @Test
+    public void testStoreAndLookup() throws IOException {
+        ContentAddressedCompilationCache cache = new ContentAddressedCompilationCache(tempDir.resolve("cache"),
+                1024 * 1024);
+        Path jarPath = Files.write(tempDir.resolve("foo-foo-0.1.0.jar"), new byte[]{1, 2, 3});
+        cache.store("ab12", MODULE_NAME, content(4, 5), compilerBackend, List.of(jarPath));
+
+        Assert.assertTrue(cache.lookup("cd34").isEmpty());
+        Optional<Path> entryPath = cache.lookup("ab12");
+        Assert.assertTrue(entryPath.isPresent());
+        Assert.assertEquals(cache.getBir(entryPath.get(), MODULE_NAME), new byte[]{4, 5});
+
+        CompilationCache compilationCache = mock(CompilationCache.class);
+        cache.restorePlatformSpecificLibraries(entryPath.get(), compilerBackend, compilationCache);
+        verify(compilationCache).cachePlatformSpecificLibrary(eq(compilerBackend), eq("foo-foo-0.1.0"),
+                any(ByteArrayOutputStream.class));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws InterruptedException {
+        ContentAddressedCompilationCache cache = new ContentAddressedCompilationCache(tempDir.resolve("cache"),
+                2500);
+        cache.store("aa11", MODULE_NAME, content(new byte[1000]), compilerBackend, List.of());
+        Thread.sleep(20);
+        cache.store("bb22", MODULE_NAME, content(new byte[1000]), compilerBackend, List.of());
+        Thread.sleep(20);
+        // Accessing the first entry makes the second entry the least recently used one
+        Assert.assertTrue(cache.lookup("aa11").isPresent());
+        Thread.sleep(20);
+        cache.store("cc33", MODULE_NAME, content(new byte[1000]), compilerBackend, List.of());
+
+        Assert.assertTrue(cache.lookup("aa11").isPresent());
+        Assert.assertTrue(cache.lookup("bb22").isEmpty());
+        Assert.assertTrue(cache.lookup("cc33").isPresent());
+    }
+
+    @Test
+    public void testPlatformDependencyHash() throws IOException {
+        Path jarPath = Files.write(tempDir.resolve("native.jar"), new byte[]{1, 2, 3});
+        String hash = ModuleContext.fileHash(jarPath);
+        Assert.assertEquals(ModuleContext.fileHash(jarPath), hash);
+
+        Files.write(jarPath, new byte[]{1, 2, 4});
+        Assert.assertNotEquals(ModuleContext.fileHash(jarPath), hash);
+        Assert.assertEquals(ModuleContext.fileHash(tempDir.resolve("missing.jar")), "");
+    }
+
+    private static ByteArrayOutputStream content(int... bytes) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (int b : bytes) {
+            content.write(b);
+        }
+        return content;
+    }
+
+    private static ByteArrayOutputStream content(byte[] bytes) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.writeBytes(bytes);
+        return content;
+    }
+}
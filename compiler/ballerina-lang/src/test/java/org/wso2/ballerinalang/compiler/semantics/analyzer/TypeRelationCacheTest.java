@@ -0,0 +1,205 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.semantics.analyzer;
+
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BMapType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTypeReferenceType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+import org.wso2.ballerinalang.util.Flags;
+
+import static org.wso2.ballerinalang.compiler.semantics.analyzer.TypeRelationCache.Relation.ASSIGNABLE;
+import static org.wso2.ballerinalang.compiler.semantics.analyzer.TypeRelationCache.Relation.SAME_TYPE;
+
+/**
+ * Test cases for memoizing the results of the type relations computed by {@link Types}.
+ *
+ * @since 2201.11.0
+ */
+public class TypeRelationCacheTest {
+
+    private SymbolTable symTable;
+    private Types types;
+
+    @BeforeClass
+    public void setup() {
+        CompilerContext context = new CompilerContext();
+        symTable = SymbolTable.getInstance(context);
+        types = Types.getInstance(context);
+    }
+
+    @AfterMethod
+    public void disableCache() {
+        types.disableTypeRelationCache();
+    }
+
+    @Test
+    public void testHitAndMiss() {
+        TypeRelationCache cache = new TypeRelationCache();
+        BType source = symTable.intType;
+        BType target = symTable.anyType;
+
+        Assert.assertNull(cache.get(ASSIGNABLE, source, target));
+        cache.put(ASSIGNABLE, source, target, true);
+        Assert.assertEquals(cache.get(ASSIGNABLE, source, target), Boolean.TRUE);
+        // Entries are specific to the relation and to the direction of the relation
+        Assert.assertNull(cache.get(SAME_TYPE, source, target));
+        Assert.assertNull(cache.get(ASSIGNABLE, target, source));
+        // Entries are keyed by identity rather than equality of the types
+        Assert.assertNull(cache.get(ASSIGNABLE, new BType(TypeTags.INT, null, Flags.READONLY), target));
+    }
+
+    @Test
+    public void testHitRate() {
+        TypeRelationCache cache = new TypeRelationCache();
+        Assert.assertEquals(cache.getHitRate(), 0.0);
+
+        cache.get(ASSIGNABLE, symTable.intType, symTable.anyType);
+        cache.put(ASSIGNABLE, symTable.intType, symTable.anyType, true);
+        cache.get(ASSIGNABLE, symTable.intType, symTable.anyType);
+        cache.get(ASSIGNABLE, symTable.intType, symTable.anyType);
+        cache.get(ASSIGNABLE, symTable.stringType, symTable.anyType);
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 2);
+        Assert.assertEquals(cache.getHitRate(), 0.5);
+    }
+
+    @Test
+    public void testDisableDiscardsResults() {
+        TypeRelationCache cache = new TypeRelationCache();
+        cache.enable();
+        Assert.assertTrue(cache.isEnabled());
+        cache.put(ASSIGNABLE, symTable.intType, symTable.anyType, true);
+
+        cache.disable();
+        Assert.assertFalse(cache.isEnabled());
+        Assert.assertNull(cache.get(ASSIGNABLE, symTable.intType, symTable.anyType));
+    }
+
+    @Test
+    public void testUncacheableTypes() {
+        Assert.assertTrue(TypeRelationCache.isCacheable(symTable.intType));
+        Assert.assertTrue(TypeRelationCache.isCacheable(typeReference(symTable.intType)));
+
+        // Anonymous types
+        Assert.assertFalse(TypeRelationCache.isCacheable(new BMapType(TypeTags.MAP, symTable.intType, null)));
+        Assert.assertFalse(TypeRelationCache.isCacheable(new BTypeReferenceType(symTable.intType, null, 0)));
+        Assert.assertFalse(TypeRelationCache.isCacheable(typeReference(symTable.intType, "$anonType$_0", 0)));
+        Assert.assertFalse(TypeRelationCache.isCacheable(typeReference(symTable.intType, "Foo", Flags.ANONYMOUS)));
+
+        // Placeholders of types which are still being resolved
+        Assert.assertFalse(TypeRelationCache.isCacheable(symTable.noType));
+        Assert.assertFalse(TypeRelationCache.isCacheable(typeReference(symTable.noType)));
+        Assert.assertFalse(TypeRelationCache.isCacheable(typeReference(null)));
+
+        // Types parameterized by the arguments of a function call
+        BType parameterizedType = new BType(TypeTags.INT, null, Flags.PARAMETERIZED);
+        Assert.assertFalse(TypeRelationCache.isCacheable(parameterizedType));
+        Assert.assertFalse(TypeRelationCache.isCacheable(typeReference(parameterizedType)));
+    }
+
+    @Test
+    public void testRelationsOfDefinedTypesAreCached() {
+        BTypeReferenceType typeReference = typeReference(symTable.mapStringType);
+        types.enableTypeRelationCache();
+        Assert.assertTrue(types.isAssignable(typeReference, symTable.mapStringType));
+        long hitCount = types.getTypeRelationCacheHitCount();
+
+        Assert.assertTrue(types.isAssignable(typeReference, symTable.mapStringType));
+        Assert.assertEquals(types.getTypeRelationCacheHitCount(), hitCount + 1);
+    }
+
+    @Test
+    public void testRelationsOfUnresolvedTypesAreRecomputed() {
+        BTypeReferenceType typeReference = typeReference(symTable.noType);
+        types.enableTypeRelationCache();
+        Assert.assertFalse(types.isAssignable(typeReference, symTable.mapStringType));
+
+        typeReference.referredType = symTable.mapStringType;
+        Assert.assertTrue(types.isAssignable(typeReference, symTable.mapStringType));
+    }
+
+    @Test
+    public void testRelationsOfParameterizedTypesAreRecomputed() {
+        BMapType parameterizedType = new BMapType(TypeTags.MAP, symTable.stringType, null, Flags.PARAMETERIZED);
+        BTypeReferenceType typeReference = typeReference(parameterizedType);
+        types.enableTypeRelationCache();
+        Assert.assertTrue(types.isAssignable(typeReference, symTable.mapStringType));
+
+        parameterizedType.constraint = symTable.intType;
+        Assert.assertFalse(types.isAssignable(typeReference, symTable.mapStringType));
+    }
+
+    @Test
+    public void testRelationsOfAnonymousTypesAreRecomputed() {
+        BMapType mapType = new BMapType(TypeTags.MAP, symTable.intType, null);
+        types.enableTypeRelationCache();
+        Assert.assertFalse(types.isAssignable(mapType, symTable.readonlyType));
+
+        // Anonymous types may be marked readonly while the expressions they belong to are type checked
+        mapType.flags |= Flags.READONLY;
+        Assert.assertTrue(types.isAssignable(mapType, symTable.readonlyType));
+    }
+
+    @Test
+    public void testUnionMarkedReadOnlyDuringAssignabilityCheck() {
+        BMapType mapType = new BMapType(TypeTags.MAP, symTable.intType, null);
+        BUnionType unionType = BUnionType.create(null, symTable.intType, mapType);
+        types.enableTypeRelationCache();
+        Assert.assertFalse(types.isAssignable(unionType, symTable.readonlyType));
+        Assert.assertFalse(types.isAssignable(symTable.readonlyType, unionType));
+
+        mapType.flags |= Flags.READONLY;
+        Assert.assertFalse(types.isAssignable(symTable.readonlyType, unionType));
+        // The union is marked readonly as all of its members are readonly now
+        Assert.assertTrue(types.isAssignable(unionType, symTable.readonlyType));
+        Assert.assertTrue((unionType.flags & Flags.READONLY) == Flags.READONLY);
+    }
+
+    @Test
+    public void testResultsAreNotCachedWhenDisabled() {
+        BMapType mapType = new BMapType(TypeTags.MAP, symTable.intType, null);
+        Assert.assertFalse(types.isAssignable(mapType, symTable.readonlyType));
+
+        mapType.flags |= Flags.READONLY;
+        Assert.assertTrue(types.isAssignable(mapType, symTable.readonlyType));
+    }
+
+    private static BTypeReferenceType typeReference(BType referredType) {
+        return typeReference(referredType, "Foo", 0);
+    }
+
+    private static BTypeReferenceType typeReference(BType referredType, String name, long flags) {
+        BTypeSymbol tsymbol = new BTypeSymbol(SymTag.TYPE_DEF, flags, Names.fromString(name), null, null, null, null,
+                SymbolOrigin.SOURCE);
+        BTypeReferenceType typeReference = new BTypeReferenceType(referredType, tsymbol, 0);
+        tsymbol.type = typeReference;
+        return typeReference;
+    }
+}
@@ -26,6 +26,8 @@ import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FPInvocation;
+import io.ballerina.runtime.internal.values.FPValue;
 import org.ballerinalang.langlib.array.utils.ArrayUtils;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
@@ -47,12 +49,13 @@ public final class Filter {
         };
         int size = arr.size();
         int index = 0;
-        for (int i = 0; i < size; i++) {
-            Object value = arr.get(i);
-            boolean isFiltered = (boolean) func.call(env.getRuntime(), value);
-             if (isFiltered) {
-                 newArr.add(index++, value);
-             }
+        try (FPInvocation invocation = ((FPValue) func).bind(env.getRuntime(), 1)) {
+            for (int i = 0; i < size; i++) {
+                Object value = arr.get(i);
+                if (invocation.callBoolean(value)) {
+                    newArr.add(index++, value);
+                }
+            }
         }
         return newArr;
     }
@@ -22,6 +22,8 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FPInvocation;
+import io.ballerina.runtime.internal.values.FPValue;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
@@ -40,8 +42,10 @@ public class ForEach {
         int size = arr.size();
         Type arrType = arr.getType();
         GetFunction getFn = getElementAccessFunction(arrType, "forEach()");
-        for (int i = 0; i < size; i++) {
-            func.call(env.getRuntime(), getFn.get(arr, i));
+        try (FPInvocation invocation = ((FPValue) func).bind(env.getRuntime(), 1)) {
+            for (int i = 0; i < size; i++) {
+                invocation.call(getFn.get(arr, i));
+            }
         }
     }
 }
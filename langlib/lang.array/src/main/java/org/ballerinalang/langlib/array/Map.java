@@ -28,6 +28,8 @@ import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FPInvocation;
+import io.ballerina.runtime.internal.values.FPValue;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.createOpNotSupportedError;
@@ -53,8 +55,10 @@ public final class Map {
             case TypeTags.TUPLE_TAG -> BArray::getRefValue;
             default -> throw createOpNotSupportedError(arrType, "map()");
         };
-        for (int i = 0; i < size; i++) {
-            retArr.add(i, func.call(env.getRuntime(), getFn.get(arr, i)));
+        try (FPInvocation invocation = ((FPValue) func).bind(env.getRuntime(), 1)) {
+            for (int i = 0; i < size; i++) {
+                retArr.add(i, invocation.call(getFn.get(arr, i)));
+            }
         }
         return retArr;
     }
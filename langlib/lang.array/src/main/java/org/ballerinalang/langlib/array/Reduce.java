@@ -22,6 +22,8 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
+import io.ballerina.runtime.internal.scheduling.FPInvocation;
+import io.ballerina.runtime.internal.values.FPValue;
 import org.ballerinalang.langlib.array.utils.GetFunction;
 
 import static org.ballerinalang.langlib.array.utils.ArrayUtils.getElementAccessFunction;
@@ -40,8 +42,10 @@ public final class Reduce {
         Type arrType = arr.getType();
         int size = arr.size();
         GetFunction getFn = getElementAccessFunction(arrType, "reduce()");
-        for (int i = 0; i < size; i++) {
-            initial = func.call(env.getRuntime(), initial, getFn.get(arr, i));
+        try (FPInvocation invocation = ((FPValue) func).bind(env.getRuntime(), 2)) {
+            for (int i = 0; i < size; i++) {
+                initial = invocation.call(initial, getFn.get(arr, i));
+            }
         }
         return initial;
     }
@@ -22,6 +22,8 @@ import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
@@ -30,6 +32,9 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import static io.ballerina.runtime.api.constants.RuntimeConstants.ARRAY_LANG_LIB;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.INVALID_TYPE_TO_SORT;
 import static io.ballerina.runtime.internal.errors.ErrorReasons.getModulePrefixedReason;
@@ -42,28 +47,57 @@ import static org.ballerinalang.langlib.array.utils.ArrayUtils.checkIsArrayOnlyO
  */
 public final class Sort {
 
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
     private Sort() {
     }
 
     public static BArray sort(Environment env, BArray arr, Object direction, Object func) {
         checkIsArrayOnlyOperation(TypeUtils.getImpliedType(arr.getType()), "sort()");
         BFunctionPointer function = (BFunctionPointer) func;
+        String sortDirection = direction.toString();
+        if (function == null) {
+            BArray sortedArray = sortPrimitiveArray(arr, sortDirection);
+            if (sortedArray != null) {
+                return sortedArray;
+            }
+        }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
-
+        int size = arr.size();
+        // Each entry holds the sort key and the value, so that the key function is called only once per value.
+        Object[][] sortArr = new Object[size][];
         if (function != null) {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(env.getRuntime(), arr.get(i));
-                sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                Object value = arr.get(i);
+                sortArr[i] = new Object[]{function.call(env.getRuntime(), value), value};
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                Object value = arr.get(i);
+                sortArr[i] = new Object[]{value, value};
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, direction.toString());
+        Comparator<Object[]> comparator;
+        if (ASCENDING.equals(sortDirection)) {
+            comparator = (lhs, rhs) -> ValueComparisonUtils.compareValues(lhs[0], rhs[0], ASCENDING);
+        } else if (DESCENDING.equals(sortDirection)) {
+            comparator = (lhs, rhs) -> ValueComparisonUtils.compareValues(rhs[0], lhs[0], DESCENDING);
+        } else {
+            comparator = null;
+        }
+
+        if (comparator != null) {
+            try {
+                // Arrays.sort is not used, since its TimSort throws an IllegalArgumentException when the comparison
+                // is inconsistent, which may happen with the ordering of the values returned by a key function.
+                mergesort(sortArr, new Object[size][], 0, size - 1, comparator);
+            } catch (BError error) {
+                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
+                        (BMap<BString, Object>) error.getDetails());
+            }
+        }
 
         BArray sortedArray = ValueCreator.createArrayValue(TypeCreator.createArrayType(arr.getElementType()));
 
@@ -75,46 +109,122 @@ public final class Sort {
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, String direction) {
+    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, Comparator<Object[]> comparator) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, direction);
-        mergesort(input, aux, mid + 1, hi, direction);
+        mergesort(input, aux, lo, mid, comparator);
+        mergesort(input, aux, mid + 1, hi, comparator);
 
-        merge(input, aux, lo, mid, hi, direction);
+        merge(input, aux, lo, mid, hi, comparator);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, String direction) {
-        if (hi + 1 - lo >= 0) {
-            System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
-        }
+    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi,
+                              Comparator<Object[]> comparator) {
+        System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
 
         for (int i = lo, j = mid + 1, k = lo; k <= hi; k++) {
-            int index;
-            try {
-                if (i > mid) {
-                    index = j++;
-                } else if (j > hi) {
-                    index = i++;
-                } else if (direction.equals("ascending") && ValueComparisonUtils.compareValues(aux[j][0],
-                        aux[i][0], direction) < 0) {
-                    index = j++;
-                } else if (direction.equals("descending") && ValueComparisonUtils.compareValues(aux[i][0],
-                        aux[j][0], direction) < 0) {
-                    index = j++;
-                } else {
-                    index = i++;
+            if (i > mid) {
+                input[k] = aux[j++];
+            } else if (j > hi) {
+                input[k] = aux[i++];
+            } else if (comparator.compare(aux[j], aux[i]) < 0) {
+                input[k] = aux[j++];
+            } else {
+                input[k] = aux[i++];
+            }
+        }
+    }
+
+    /**
+     * Sorts arrays of int, float and string values without a key function directly on the unboxed values.
+     *
+     * @param arr       array to be sorted
+     * @param direction sort direction
+     * @return sorted array or null if the array cannot be sorted directly
+     */
+    private static BArray sortPrimitiveArray(BArray arr, String direction) {
+        boolean ascending = ASCENDING.equals(direction);
+        if (!ascending && !DESCENDING.equals(direction)) {
+            return null;
+        }
+        // Type references are not unwrapped, since the sorted array needs to have the same element type.
+        Type elementType = arr.getElementType();
+        int size = arr.size();
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG -> {
+                long[] values = arr.getIntArray();
+                Arrays.parallelSort(values);
+                if (!ascending) {
+                    reverse(values);
+                }
+                return ValueCreator.createArrayValue(values);
+            }
+            case TypeTags.FLOAT_TAG -> {
+                double[] values = arr.getFloatArray();
+                for (double value : values) {
+                    // NaN is placed last in both directions and -0.0 is equal to 0.0 when sorting, which differs
+                    // from the ordering of Arrays.sort.
+                    if (Double.isNaN(value) || value == 0) {
+                        return null;
+                    }
+                }
+                Arrays.parallelSort(values);
+                if (!ascending) {
+                    reverse(values);
+                }
+                return ValueCreator.createArrayValue(values);
+            }
+            case TypeTags.STRING_TAG -> {
+                BString[] values = new BString[size];
+                for (int i = 0; i < size; i++) {
+                    values[i] = arr.getBString(i);
                 }
-                input[k] = aux[index];
+                Arrays.parallelSort(values, ascending ? Sort::compareCodePoints :
+                        (lhs, rhs) -> compareCodePoints(rhs, lhs));
+                return ValueCreator.createArrayValue(values);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
 
-            } catch (BError error) {
-                throw ErrorCreator.createError(getModulePrefixedReason(ARRAY_LANG_LIB, INVALID_TYPE_TO_SORT),
-                        (BMap<BString, Object>) error.getDetails());
+    private static int compareCodePoints(BString lhs, BString rhs) {
+        String lhsValue = lhs.getValue();
+        String rhsValue = rhs.getValue();
+        int length = Math.min(lhsValue.length(), rhsValue.length());
+        for (int i = 0; i < length; i++) {
+            char lhsChar = lhsValue.charAt(i);
+            char rhsChar = rhsValue.charAt(i);
+            if (lhsChar == rhsChar) {
+                continue;
             }
+            // UTF-16 code unit order differs from code point order only when surrogates are involved.
+            if (Character.isSurrogate(lhsChar) || Character.isSurrogate(rhsChar)) {
+                return Integer.compare(lhsValue.codePointAt(i), rhsValue.codePointAt(i));
+            }
+            return lhsChar - rhsChar;
+        }
+        return lhsValue.length() - rhsValue.length();
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+
+    private static void reverse(double[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            double temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
         }
     }
 }
@@ -328,6 +328,11 @@ function createImmutableValue(any mutableValue) = @java:Method {
     name: "createImmutableValue"
 } external;
 
+function sortFrames(_Frame[] frames) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.SortFrames",
+    name: "sortFrames"
+} external;
+
 # Prepare `error` as a distinct `Error`.
 #
 # + err - `error` instance
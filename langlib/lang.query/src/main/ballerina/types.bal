@@ -22,7 +22,6 @@ import ballerina/lang.'xml as lang_xml;
 import ballerina/lang.'stream as lang_stream;
 import ballerina/lang.'table as lang_table;
 import ballerina/lang.'object as lang_object;
-import ballerina/lang.'function;
 
 # A type parameter that is a subtype of `any|error`.
 # Has the special semantic that when used in a declaration
@@ -399,8 +398,7 @@ class _InnerJoinFunction {
                 string lhsKey = (lhsKFRes).toString();
 
                 _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
+                foreach _Frame rhsFrame in rhsCandidates ?: [] {
                     _Frame joinedFrame = {...lhsFrame};
                     foreach var [k, val] in rhsFrame.entries() {
                         joinedFrame[k] = val;
@@ -434,6 +432,7 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
     _Frame[]? rhsCandidates;
+    int rhsCandidateIndex = 0;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
     error? failureAtJoin = ();
@@ -499,12 +498,15 @@ class _OuterJoinFunction {
             }
 
             if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
+                int rhsCandidateIndex = self.rhsCandidateIndex;
+                _Frame rhsFrame = rhsCandidates[rhsCandidateIndex];
+                rhsCandidateIndex += 1;
+                if (rhsCandidateIndex < rhsCandidates.length()) {
+                    self.rhsCandidateIndex = rhsCandidateIndex;
                 } else {
                     // Move to next lhs frame in next iteration.
                     self.rhsCandidates = ();
+                    self.rhsCandidateIndex = 0;
                     self.lhsFrame = ();
                 }
                 _Frame joinedFrame = {...lhsFrame};
@@ -529,6 +531,7 @@ class _OuterJoinFunction {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
         self.rhsCandidates = ();
+        self.rhsCandidateIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -595,21 +598,21 @@ class _OrderByFunction {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            _Frame[] frames = [];
             // consume all events for ordering.
             while (f is _Frame) {
                 error? res = orderKeyFunc(f);
                 if(res is error) {
                     return prepareQueryBodyError(res);
                 }
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                frames.push(f);
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            sortFrames(frames);
+            self.orderedStream = frames.toStream();
         }
 
         stream<_Frame> s = <stream<_Frame>>self.orderedStream;
@@ -934,18 +937,10 @@ class _FrameMultiMap {
         }
     }
 
+    # Returns the frames stored against the given key. The returned array is the one held by the map, hence it
+    # must not be modified by the caller.
     function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+        return self.m[k];
     }
 
 }
@@ -993,85 +988,6 @@ class OnConflictIterHelper {
     }
 }
 
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if (!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return - ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], thus use the `function:call` method call the sort operation.
-    # + return - ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        any|error res = function:call(lang_array:sort, arr, self.nodesDirection);
-        if res is any[] {
-            return res;
-        }
-        panic error(string `Error while sorting the arr: ${arr.toBalString()}`);
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
-
 //Distinct error to identify errors thrown from query body
 public type Error distinct error;
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2024, WSO2 LLC. (http://wso2.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.utils.ValueComparisonUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Implementation of lang.query:sortFrames(_Frame[]).
+ * <p>
+ * Frames are sorted in place by the order keys and directions set on them by the desugared order key function.
+ *
+ * @since 2201.11.0
+ */
+public final class SortFrames {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private SortFrames() {
+    }
+
+    public static void sortFrames(BArray frames) {
+        int size = frames.size();
+        if (size < 2) {
+            return;
+        }
+        Object[][] entries = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            BMap<?, ?> frame = (BMap<?, ?>) frames.getRefValue(i);
+            entries[i] = new Object[]{frame.get(ORDER_KEY), frame};
+        }
+        // The order directions are the same for every frame as they come from the order by clause.
+        boolean[] ascending = getDirections((BMap<?, ?>) entries[0][1]);
+
+        try {
+            // Arrays.sort is stable, so frames with equal keys retain the order in which they were produced.
+            Arrays.sort(entries, (lhs, rhs) -> compareKeys((BArray) lhs[0], (BArray) rhs[0], ascending));
+        } catch (BError | IllegalArgumentException e) {
+            // Same error as the one raised when the order keys were sorted level by level.
+            throw ErrorCreator.createError(StringUtils.fromString("Error while sorting the arr: " +
+                    getUnsortableKeys(frames, ascending)));
+        }
+
+        for (int i = 0; i < size; i++) {
+            frames.add(i, entries[i][1]);
+        }
+    }
+
+    private static boolean[] getDirections(BMap<?, ?> frame) {
+        BArray directions = (BArray) frame.get(ORDER_DIRECTION);
+        int size = directions.size();
+        boolean[] ascending = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            ascending[i] = (Boolean) directions.get(i);
+        }
+        return ascending;
+    }
+
+    /**
+     * Returns the distinct values of the first order key, which cannot be sorted, in the order they were produced.
+     *
+     * @param frames    frames being sorted
+     * @param ascending order directions
+     * @return values of the order key in the form of a Ballerina list
+     */
+    private static String getUnsortableKeys(BArray frames, boolean[] ascending) {
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < ascending.length; i++) {
+            Map<String, Object> distinctKeys = new LinkedHashMap<>();
+            for (int j = 0; j < frames.size(); j++) {
+                Object key = ((BArray) ((BMap<?, ?>) frames.getRefValue(j)).get(ORDER_KEY)).get(i);
+                distinctKeys.putIfAbsent(StringUtils.getStringValue(key), key);
+            }
+            keys = new ArrayList<>(distinctKeys.values());
+            String direction = ascending[i] ? ASCENDING : DESCENDING;
+            try {
+                keys.sort((lhs, rhs) -> ValueComparisonUtils.compareValues(lhs, rhs, direction));
+            } catch (BError | IllegalArgumentException e) {
+                break;
+            }
+        }
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        for (Object key : keys) {
+            joiner.add(StringUtils.getExpressionStringValue(key));
+        }
+        return joiner.toString();
+    }
+
+    private static int compareKeys(BArray lhsKeys, BArray rhsKeys, boolean[] ascending) {
+        for (int i = 0; i < ascending.length; i++) {
+            Object lhsKey = lhsKeys.get(i);
+            Object rhsKey = rhsKeys.get(i);
+            int result = ascending[i] ? ValueComparisonUtils.compareValues(lhsKey, rhsKey, ASCENDING) :
+                    ValueComparisonUtils.compareValues(rhsKey, lhsKey, DESCENDING);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+}
@@ -27,15 +27,14 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.errors.ErrorCodes;
 import io.ballerina.runtime.internal.errors.ErrorHelper;
 import io.ballerina.runtime.internal.errors.ErrorReasons;
-import io.ballerina.runtime.internal.regexp.RegExpFactory;
 import io.ballerina.runtime.internal.types.BArrayType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import io.ballerina.runtime.internal.values.RegExpValue;
+import io.ballerina.runtime.internal.values.RopeStringValue;
 
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 /**
@@ -65,7 +64,7 @@ public final class RegexUtil {
     }
 
     static int[] getSurrogatePositions(BString str) {
-        if (str instanceof NonBmpStringValue nonBmpStringValue) {
+        if (RopeStringValue.toFlatValue(str) instanceof NonBmpStringValue nonBmpStringValue) {
             return nonBmpStringValue.getSurrogates();
         }
         return new int[0];
@@ -84,11 +83,7 @@ public final class RegexUtil {
     }
 
     static Matcher getMatcher(BRegexpValue regexpVal, String inputStr) {
-        // Map the required ballerina regexp constructs to java.
-        RegExpValue translatedRegExpVal = RegExpFactory.translateRegExpConstructs((RegExpValue) regexpVal);
-        String patternStr = StringUtils.getStringValue(translatedRegExpVal);
-        Pattern pattern = Pattern.compile(patternStr, Pattern.UNICODE_CHARACTER_CLASS);
-        return pattern.matcher(inputStr);
+        return ((RegExpValue) regexpVal).getPattern().matcher(inputStr);
     }
 
     static BArray getGroupZeroAsSpan(BString str, Matcher matcher, int[] surrogates) {
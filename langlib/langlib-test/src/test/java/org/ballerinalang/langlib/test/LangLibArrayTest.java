@@ -606,7 +606,9 @@ public class LangLibArrayTest {
                 "testArrayPop",
                 "testSetLengthNegative",
                 "testArrayFilterWithEmptyArrayAndTypeBinding",
-                "testArrayReverseWithEmptyArrayAndTypeBinding"
+                "testArrayReverseWithEmptyArrayAndTypeBinding",
+                "testArrayFunctionsWithYieldingCallback",
+                "testArrayFunctionsWithPanickingCallback"
         };
     }
 }
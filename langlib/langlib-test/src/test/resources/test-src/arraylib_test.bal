@@ -17,6 +17,7 @@
 import ballerina/lang.array;
 import ballerina/lang.'string as strings;
 import ballerina/lang.'int as ints;
+import ballerina/lang.runtime;
 
 function testLength() returns int {
     int[] arr = [10, 20, 30, 40];
@@ -2135,3 +2136,100 @@ function testArrayReverseWithEmptyArrayAndTypeBinding() {
     assertValueEquality(z, []);
     assertTrue(z is never[]);
 }
+
+function testArrayFunctionsWithYieldingCallback() {
+    int[] arr = [1, 2, 3, 4];
+
+    // The callbacks yield the strand in the middle of the loop, and the remaining calls still run on it
+    int[] mapped = arr.map(function(int i) returns int {
+        if i == 2 {
+            runtime:sleep(0.01);
+        }
+        return i * 10;
+    });
+    assertValueEquality([10, 20, 30, 40], mapped);
+
+    int[] filtered = arr.filter(function(int i) returns boolean {
+        if i == 3 {
+            runtime:sleep(0.01);
+        }
+        return i % 2 == 0;
+    });
+    assertValueEquality([2, 4], filtered);
+
+    int sum = 0;
+    arr.forEach(function(int i) {
+        if i == 2 {
+            future<int> f = start getSquare(i);
+            sum += checkpanic wait f;
+        } else {
+            sum += i;
+        }
+    });
+    assertValueEquality(12, sum);
+
+    int product = arr.reduce(function(int accumulated, int i) returns int {
+        if i == 4 {
+            runtime:sleep(0.01);
+        }
+        return accumulated * i;
+    }, 1);
+    assertValueEquality(24, product);
+}
+
+function getSquare(int i) returns int {
+    return i * i;
+}
+
+function testArrayFunctionsWithPanickingCallback() {
+    int[] arr = [1, 2, 3, 4];
+
+    int[] visited = [];
+    int[]|error mapped = trap arr.map(function(int i) returns int {
+        visited.push(i);
+        if i == 2 {
+            panic error("map failed");
+        }
+        return i;
+    });
+    assertTrue(mapped is error);
+    assertValueEquality("map failed", (<error>mapped).message());
+    assertValueEquality([1, 2], visited);
+
+    visited = [];
+    int[]|error filtered = trap arr.filter(function(int i) returns boolean {
+        visited.push(i);
+        if i == 3 {
+            panic error("filter failed");
+        }
+        return true;
+    });
+    assertTrue(filtered is error);
+    assertValueEquality("filter failed", (<error>filtered).message());
+    assertValueEquality([1, 2, 3], visited);
+
+    visited = [];
+    error? forEachResult = trap arr.forEach(function(int i) {
+        visited.push(i);
+        if i == 2 {
+            runtime:sleep(0.01);
+            panic error("forEach failed");
+        }
+    });
+    assertTrue(forEachResult is error);
+    assertValueEquality("forEach failed", (<error>forEachResult).message());
+    assertValueEquality([1, 2], visited);
+
+    int|error reduced = trap arr.reduce(function(int accumulated, int i) returns int {
+        if i == 4 {
+            panic error("reduce failed");
+        }
+        return accumulated + i;
+    }, 0);
+    assertTrue(reduced is error);
+    assertValueEquality("reduce failed", (<error>reduced).message());
+
+    // The strand can still be used by the higher order functions after the panics
+    assertValueEquality([2, 4, 6, 8], arr.map(i => i * 2));
+    assertValueEquality(10, arr.reduce(function(int accumulated, int i) returns int => accumulated + i, 0));
+}
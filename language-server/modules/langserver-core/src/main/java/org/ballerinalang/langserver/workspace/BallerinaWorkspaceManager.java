@@ -48,6 +48,12 @@ import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectPaths;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.tools.text.TextEdit;
+import io.ballerina.tools.text.TextLine;
+import io.ballerina.tools.text.TextRange;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.ballerinalang.langserver.BallerinaLanguageServer;
@@ -77,6 +83,7 @@ import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.WorkspaceFolder;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -101,6 +108,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -136,6 +144,10 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     protected final LSClientLogger clientLogger;
     private final LanguageServerContext serverContext;
     private final Set<Path> openedDocuments = new HashSet<>();
+    /**
+     * Content of the opened documents, as synchronized by the client.
+     */
+    private final Map<Path, TextDocument> openedDocumentContents = new ConcurrentHashMap<>();
 
     public BallerinaWorkspaceManager(LanguageServerContext serverContext) {
         this.serverContext = serverContext;
@@ -401,6 +413,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         // Add the document to the opened documents set and the entry will only be removed via didClose.
         // Hence we assume the safe concurrent access for a given document path
         this.openedDocuments.add(filePath);
+        this.openedDocumentContents.put(filePath, TextDocuments.from(params.getTextDocument().getText()));
         ProjectContext projectContext = createOrGetProjectPair(filePath,
                 LSContextOperation.TXT_DID_OPEN.getName(), true);
         Project project = projectContext.project();
@@ -439,24 +452,25 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
                 LSContextOperation.TXT_DID_CHANGE.getName(), true);
 
         Project project = projectContext.project();
+        List<TextDocumentContentChangeEvent> changes = params.getContentChanges();
         if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BALLERINA_TOML))) {
             // Update Ballerina.toml
-            updateBallerinaToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateBallerinaToml(applyContentChanges(filePath, changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.DEPENDENCIES_TOML))) {
             // create or update Dependencies.toml
-            updateDependenciesToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateDependenciesToml(applyContentChanges(filePath, changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.CLOUD_TOML))) {
             // create or update Cloud.toml
-            updateCloudToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCloudToml(applyContentChanges(filePath, changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.COMPILER_PLUGIN_TOML))) {
             // create or update Compiler-plugin.toml
-            updateCompilerPluginToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateCompilerPluginToml(applyContentChanges(filePath, changes), projectContext, false);
         } else if (filePath.equals(project.sourceRoot().resolve(ProjectConstants.BAL_TOOL_TOML))) {
             // create or update BalTool.toml
-            updateBalToolToml(params.getContentChanges().get(0).getText(), projectContext, false);
+            updateBalToolToml(applyContentChanges(filePath, changes), projectContext, false);
         } else if (ProjectPaths.isBalFile(filePath) && project.kind() != ProjectKind.BALA_PROJECT) {
             // Update .bal document
-            updateBalDocument(filePath, params.getContentChanges().get(0).getText(), projectContext);
+            updateBalDocument(filePath, changes, projectContext);
         }
     }
 
@@ -1317,8 +1331,42 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
-    private void updateBalDocument(Path filePath, String content, ProjectContext projectContext)
+    private String applyContentChanges(Path filePath, List<TextDocumentContentChangeEvent> changes)
             throws WorkspaceDocumentException {
+        TextDocument content = this.openedDocumentContents.get(filePath);
+        for (TextDocumentContentChangeEvent change : changes) {
+            if (change.getRange() == null) {
+                content = TextDocuments.from(change.getText());
+            } else if (content == null) {
+                throw new WorkspaceDocumentException("Cannot apply changes to a document which is not opened: "
+                        + filePath);
+            } else {
+                content = content.apply(toTextDocumentChange(content, change));
+            }
+        }
+        if (content == null) {
+            throw new WorkspaceDocumentException("No content changes received for the document: " + filePath);
+        }
+        this.openedDocumentContents.replace(filePath, content);
+        return content.toString();
+    }
+
+    private static TextDocumentChange toTextDocumentChange(TextDocument content,
+                                                           TextDocumentContentChangeEvent change) {
+        int startOffset = toTextPosition(content, change.getRange().getStart());
+        int endOffset = toTextPosition(content, change.getRange().getEnd());
+        TextEdit textEdit = TextEdit.from(TextRange.from(startOffset, endOffset - startOffset), change.getText());
+        return TextDocumentChange.from(new TextEdit[]{textEdit});
+    }
+
+    private static int toTextPosition(TextDocument content, Position position) {
+        // Positions beyond the end of a line are resolved to the end of the line, as per the LSP specification
+        TextLine textLine = content.line(position.getLine());
+        return textLine.startOffset() + Math.min(position.getCharacter(), textLine.length());
+    }
+
+    private void updateBalDocument(Path filePath, List<TextDocumentContentChangeEvent> changes,
+                                   ProjectContext projectContext) throws WorkspaceDocumentException {
         // Lock Project Instance
         Lock lock = projectContext.lockAndGet();
         try {
@@ -1327,7 +1375,28 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             if (document.isEmpty()) {
                 throw new WorkspaceDocumentException("Document does not exist in path: " + filePath.toString());
             }
-            document.get().modify().withContent(content).apply();
+            Document.Modifier modifier = document.get().modify();
+            TextDocument content = document.get().textDocument();
+            TextDocument openedContent = this.openedDocumentContents.get(filePath);
+            if (openedContent != null && openedContent != content) {
+                // The document has been replaced since the last change, e.g. the project has been reloaded, hence the
+                // changes are applied on top of the content synchronized by the client
+                content = openedContent;
+                modifier.withContent(content.toString());
+            }
+            for (TextDocumentContentChangeEvent change : changes) {
+                if (change.getRange() == null) {
+                    content = TextDocuments.from(change.getText());
+                    modifier.withContent(change.getText());
+                } else {
+                    TextDocumentChange textDocumentChange = toTextDocumentChange(content, change);
+                    content = content.apply(textDocumentChange);
+                    // Only the subtrees affected by the change are reparsed
+                    modifier.withChange(textDocumentChange);
+                }
+            }
+            Document updatedDocument = modifier.apply();
+            this.openedDocumentContents.replace(filePath, updatedDocument.textDocument());
         } finally {
             // Unlock Project Instance
             lock.unlock();
@@ -1356,6 +1425,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             Document updatedDoc = document.get().modify().withContent(content).apply();
             //Update project instance
             projectContext.setProject(updatedDoc.module().project());
+            this.openedDocumentContents.replace(filePath, updatedDoc.textDocument());
         } finally {
             // Unlock Project Instance
             lock.unlock();
@@ -1372,6 +1442,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
     @Override
     public void didClose(Path filePath, DidCloseTextDocumentParams params) {
         this.openedDocuments.remove(filePath);
+        this.openedDocumentContents.remove(filePath);
         Optional<Project> project = project(filePath);
         if (project.isEmpty()) {
             return;
@@ -1387,6 +1458,56 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         }
     }
 
+    /**
+     * Returns the content of an opened document, as synchronized by the client.
+     *
+     * @param filePath {@link Path} of the document
+     * @return content of the document, or empty if the document is not opened
+     */
+    Optional<TextDocument> openedDocumentContent(Path filePath) {
+        return Optional.ofNullable(this.openedDocumentContents.get(filePath));
+    }
+
+    /**
+     * Tracks the content of a document opened in another workspace, so that the changes received for the document
+     * can be applied to this workspace as well. The content is only tracked if it is not tracked already.
+     *
+     * @param filePath {@link Path} of the document
+     * @param content  content of the document, as synchronized by the client
+     */
+    void trackDocumentContent(Path filePath, TextDocument content) {
+        this.openedDocumentContents.putIfAbsent(filePath, content);
+    }
+
+    /**
+     * Resets the tracked content of the documents under the given project root to their content in this workspace.
+     * The content tracked before a project is copied into this workspace may be older than the copied documents.
+     *
+     * @param projectRoot source root of the project
+     */
+    void resetTrackedDocumentContents(Path projectRoot) {
+        for (Path filePath : this.openedDocumentContents.keySet()) {
+            if (!filePath.startsWith(projectRoot)) {
+                continue;
+            }
+            Optional<Document> document = document(filePath);
+            if (document.isPresent()) {
+                this.openedDocumentContents.replace(filePath, document.get().textDocument());
+            } else {
+                this.openedDocumentContents.remove(filePath);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the content of a document opened in another workspace.
+     *
+     * @param filePath {@link Path} of the document
+     */
+    void untrackDocumentContent(Path filePath) {
+        this.openedDocumentContents.remove(filePath);
+    }
+
 // ============================================================================================================== //
 
     private Path computeProjectRoot(Path path) {
@@ -16,6 +16,7 @@
 package org.ballerinalang.langserver.workspace;
 
 import io.ballerina.projects.Project;
+import io.ballerina.tools.text.TextDocument;
 import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.common.utils.PathUtil;
@@ -39,7 +40,7 @@ import java.util.Optional;
  * @since 2.0.0
  */
 public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceManagerProxy {
-    private final WorkspaceManager baseWorkspaceManager;
+    private final BallerinaWorkspaceManager baseWorkspaceManager;
     private final ClonedWorkspace clonedWorkspaceManager;
 
     public BallerinaWorkspaceManagerProxyImpl(LanguageServerContext serverContext) {
@@ -69,7 +70,9 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
         if (this.isExprScheme(uri)) {
             Optional<Project> project = this.baseWorkspaceManager.project(path.get());
             project.ifPresent(this.clonedWorkspaceManager::open);
+            return;
         }
+        this.clonedWorkspaceManager.untrackDocumentContent(path.get());
     }
 
     @Override
@@ -79,9 +82,20 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
         if (path.isEmpty()) {
             return;
         }
-        if (!this.isExprScheme(uri)) {
-            this.baseWorkspaceManager.didChange(path.get(), params);
+        if (this.isExprScheme(uri)) {
+            this.clonedWorkspaceManager.didChange(path.get(), params);
+            return;
+        }
+        Optional<TextDocument> content = this.baseWorkspaceManager.openedDocumentContent(path.get());
+        this.baseWorkspaceManager.didChange(path.get(), params);
+        // The project is copied from the base workspace when it is opened in the cloned workspace, hence only the
+        // changes made after that are applied to it
+        if (this.clonedWorkspaceManager.project(path.get()).isEmpty()) {
+            return;
         }
+        // The cloned workspace does not receive the documents opened in the base workspace, hence it tracks the
+        // content the changes are applied to
+        content.ifPresent(textDocument -> this.clonedWorkspaceManager.trackDocumentContent(path.get(), textDocument));
         this.clonedWorkspaceManager.didChange(path.get(), params);
     }
 
@@ -97,6 +111,7 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
             return;
         }
         this.baseWorkspaceManager.didClose(path.get(), params);
+        this.clonedWorkspaceManager.untrackDocumentContent(path.get());
     }
 
     private static class ClonedWorkspace extends BallerinaWorkspaceManager {
@@ -106,6 +121,18 @@ public class BallerinaWorkspaceManagerProxyImpl implements BallerinaWorkspaceMan
 
         public void open(Project project) {
             this.sourceRootToProject.put(project.sourceRoot(), ProjectContext.from(project.duplicate()));
+            // The changes received after this are applied to the copied documents
+            resetTrackedDocumentContents(project.sourceRoot());
+        }
+
+        @Override
+        public void didChange(Path filePath, DidChangeTextDocumentParams params) throws WorkspaceDocumentException {
+            // The project is copied from the base workspace when it is opened, hence the changes made before that
+            // are not applied
+            if (project(filePath).isEmpty()) {
+                return;
+            }
+            super.didChange(filePath, params);
         }
 
         @Override
@@ -41,14 +41,19 @@ import org.ballerinalang.langserver.commons.command.CommandArgument;
 import org.ballerinalang.langserver.commons.command.LSCommandExecutorException;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
 import org.ballerinalang.langserver.extensions.ballerina.document.ExecutorPositionsUtil;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.FileEvent;
 import org.eclipse.lsp4j.LogTraceParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.eclipse.lsp4j.WorkspaceFolder;
@@ -168,6 +173,68 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
     }
 
+    @Test(dataProvider = "fileOpenUpdateTestDataProvider", dependsOnMethods = "testOpenDocument")
+    public void testIncrementalUpdateDocument(Path filePath) throws WorkspaceDocumentException {
+        //Trigger didOpen to create a project instance corresponding to the filePath
+        openFile(filePath);
+
+        // Inputs from lang server, where each change is applied on top of the previous change
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        VersionedTextDocumentIdentifier doc = new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 1);
+        params.setTextDocument(doc);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 12), new Position(0, 12)), "1"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 9), new Position(0, 13)), "bar"));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(
+                new Range(new Position(0, 16), new Position(0, 16)), " int a = 1;"));
+
+        // Notify workspace manager
+        workspaceManager.didChange(filePath, params);
+
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertNotNull(document.get());
+        String expectedContent = "function bar() { int a = 1;" + CommonUtil.LINE_SEPARATOR + "}";
+        Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), expectedContent);
+        Assert.assertEquals(document.get().syntaxTree().toSourceCode(), expectedContent);
+        Assert.assertFalse(document.get().syntaxTree().hasDiagnostics());
+    }
+
+    @Test
+    public void testIncrementalUpdateDocumentWithExprScheme() throws WorkspaceDocumentException {
+        BallerinaWorkspaceManagerProxyImpl proxy =
+                new BallerinaWorkspaceManagerProxyImpl(new LanguageServerContextImpl());
+        Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        String fileUri = filePath.toUri().toString();
+        String exprUri = fileUri.replace("file:///", "expr:///");
+        proxy.didOpen(openParams(fileUri, dummyContent));
+
+        // Changes made before the project is opened in the cloned workspace are already in the copied project
+        proxy.didChange(insertParams(fileUri, 12, "1"));
+        proxy.didChange(insertParams(fileUri, 13, "2"));
+        String content = "function foo12() {" + CommonUtil.LINE_SEPARATOR + "}";
+        proxy.didOpen(openParams(exprUri, content));
+        assertDocumentContent(proxy.get(exprUri), filePath, content);
+
+        // Changes made after that are applied to both workspaces
+        proxy.didChange(insertParams(fileUri, 14, "3"));
+        content = "function foo123() {" + CommonUtil.LINE_SEPARATOR + "}";
+        assertDocumentContent(proxy.get(fileUri), filePath, content);
+        assertDocumentContent(proxy.get(exprUri), filePath, content);
+
+        // Changes made while the project is not opened in the cloned workspace are in the project copied again
+        DidCloseTextDocumentParams closeParams = new DidCloseTextDocumentParams();
+        closeParams.setTextDocument(new TextDocumentIdentifier(exprUri));
+        proxy.didClose(closeParams);
+        proxy.didChange(insertParams(fileUri, 15, "4"));
+        content = "function foo1234() {" + CommonUtil.LINE_SEPARATOR + "}";
+        proxy.didOpen(openParams(exprUri, content));
+        proxy.didChange(insertParams(fileUri, 16, "5"));
+        content = "function foo12345() {" + CommonUtil.LINE_SEPARATOR + "}";
+        assertDocumentContent(proxy.get(fileUri), filePath, content);
+        assertDocumentContent(proxy.get(exprUri), filePath, content);
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -733,6 +800,29 @@ public class TestWorkspaceManager {
         return System.getProperty("java.home") + File.separator + "bin" + File.separator + exe;
     }
 
+    private static DidOpenTextDocumentParams openParams(String uri, String content) {
+        DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(uri);
+        textDocumentItem.setText(content);
+        params.setTextDocument(textDocumentItem);
+        return params;
+    }
+
+    private static DidChangeTextDocumentParams insertParams(String uri, int character, String text) {
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        params.setTextDocument(new VersionedTextDocumentIdentifier(uri, 1));
+        Position position = new Position(0, character);
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(new Range(position, position), text));
+        return params;
+    }
+
+    private static void assertDocumentContent(WorkspaceManager workspaceManager, Path filePath, String content) {
+        Optional<Document> document = workspaceManager.document(filePath);
+        Assert.assertTrue(document.isPresent());
+        Assert.assertEquals(document.get().syntaxTree().toSourceCode(), content);
+    }
+
     private void openFile(Path singleFile) throws WorkspaceDocumentException {
         DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
         TextDocumentItem textDocumentItem = new TextDocumentItem();
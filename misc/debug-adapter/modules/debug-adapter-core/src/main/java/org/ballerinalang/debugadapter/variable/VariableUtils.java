@@ -49,6 +49,8 @@ public final class VariableUtils {
     public static final String FIELD_REFERRED_TYPE = "referredType";
     public static final String FIELD_EFFECTIVE_TYPE = "effectiveType";
     private static final String FIELD_CONSTRAINT = "constraint";
+    private static final String FIELD_FLAT_VALUE = "flatValue";
+    private static final String METHOD_GET_VALUE = "getValue";
     private static final String METHOD_STR_VALUE = "stringValue";
     private static final String METHOD_EXP_STR_VALUE = "expressionStringValue";
     public static final String UNKNOWN_VALUE = "unknown";
@@ -151,6 +153,11 @@ public final class VariableUtils {
             if (!(stringValue instanceof ObjectReference stringRef)) {
                 return UNKNOWN_VALUE;
             }
+            if (stringRef.referenceType().name().equals(JVMValueType.ROPE_STRING.getString())) {
+                // Only the flattened value of a concatenated string can be read without invoking the remote VM.
+                return getFieldValue(stringRef, FIELD_FLAT_VALUE).map(VariableUtils::getStringFrom)
+                        .orElse(UNKNOWN_VALUE);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -166,6 +173,27 @@ public final class VariableUtils {
         }
     }
 
+    /**
+     * Returns the actual string value from ballerina jvm types for strings. A string built by concatenation is flattened
+     * in the remote VM if it has not been flattened yet.
+     *
+     * @param context     variable debug context.
+     * @param stringValue JDI value of the string instance
+     * @return actual string.
+     */
+    public static String getStringFrom(SuspendedContext context, Value stringValue) {
+        try {
+            if (stringValue instanceof ObjectReference stringRef
+                    && stringRef.referenceType().name().equals(JVMValueType.ROPE_STRING.getString())
+                    && getFieldValue(stringRef, FIELD_FLAT_VALUE).isEmpty()) {
+                return getStringFrom(invokeRemoteVMMethod(context, stringRef, METHOD_GET_VALUE, null));
+            }
+            return getStringFrom(stringValue);
+        } catch (DebugVariableException e) {
+            return UNKNOWN_VALUE;
+        }
+    }
+
     /**
      * Invokes "stringValue()" method of the given ballerina jvm variable instance and returns the result as a string.
      *
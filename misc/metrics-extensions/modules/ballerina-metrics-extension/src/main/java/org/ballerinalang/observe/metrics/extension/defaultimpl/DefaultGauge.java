@@ -23,11 +23,15 @@ import io.ballerina.runtime.observability.metrics.MetricId;
 import io.ballerina.runtime.observability.metrics.Snapshot;
 import io.ballerina.runtime.observability.metrics.StatisticConfig;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An implementation of {@link Gauge}.
+ * <p>
+ * The gauge is lock-free. The current value is kept as the raw bits of a double in an {@link AtomicLong}, and the
+ * recorded values are written to {@link RollingHistogram}s, which are backed by thread-safe HdrHistogram recorders.
  *
  * @since 0.980.0
  */
@@ -38,7 +42,7 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     private final LongAdder count = new LongAdder();
     private final DoubleAdder sum = new DoubleAdder();
-    private final DoubleAdder value = new DoubleAdder();
+    private final AtomicLong value = new AtomicLong(Double.doubleToRawLongBits(0));
     private final RollingHistogram[] rollingHistograms;
 
     private DefaultGauge(MetricId id, Clock clock, StatisticConfig... statisticConfigs) {
@@ -68,34 +72,33 @@ public class DefaultGauge extends AbstractMetric implements Gauge {
 
     @Override
     public void increment(double amount) {
-        synchronized (this) {
-            value.add(amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(amount));
     }
 
     @Override
     public void decrement(double amount) {
-        synchronized (this) {
-            value.add(-amount);
-            updateHistogram(value.sum());
-        }
+        updateHistogram(addAndGet(-amount));
     }
 
     @Override
     public void setValue(double value) {
-        synchronized (this) {
-            this.value.reset();
-            this.value.add(value);
-            updateHistogram(value);
-        }
+        this.value.set(Double.doubleToRawLongBits(value));
+        updateHistogram(value);
     }
 
     @Override
     public double getValue() {
-        synchronized (this) {
-            return value.sum();
-        }
+        return Double.longBitsToDouble(value.get());
+    }
+
+    private double addAndGet(double amount) {
+        long currentBits;
+        double newValue;
+        do {
+            currentBits = value.get();
+            newValue = Double.longBitsToDouble(currentBits) + amount;
+        } while (!value.compareAndSet(currentBits, Double.doubleToRawLongBits(newValue)));
+        return newValue;
     }
 
     @Override
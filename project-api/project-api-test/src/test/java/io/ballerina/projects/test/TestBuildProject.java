@@ -355,6 +355,37 @@ public class TestBuildProject extends BaseTest {
         Assert.assertEquals(platformLibraries.size(), 5);
     }
 
+    @Test(description = "tests generating the code of the modules of a package concurrently")
+    public void testParallelCodeGen() {
+        Path projectPath = tempResourceDir.resolve("parallel_codegen_project");
+        BuildOptions buildOptions = BuildOptions.builder().setCodegenParallelism(4).build();
+
+        // 1) Initialize the project instance
+        BuildProject project = loadBuildProject(projectPath, buildOptions);
+        Assert.assertEquals(project.buildOptions().codegenParallelism(), 4);
+        // 2) Load the package
+        Package currentPackage = project.currentPackage();
+        Assert.assertEquals(currentPackage.moduleIds().size(), 4);
+
+        // 3) Compile the current package and generate the code of the modules which depend on each other, and of
+        // the modules which are independent of each other concurrently
+        PackageCompilation compilation = currentPackage.getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_21);
+        DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
+        Assert.assertFalse(diagnosticResult.hasErrors(), diagnosticResult.errors().toString());
+
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            PlatformLibrary library = jBallerinaBackend.codeGeneratedLibrary(currentPackage.packageId(),
+                    module.moduleName());
+            Assert.assertTrue(Files.exists(library.path()), "missing the code of module " + module.moduleName());
+        }
+
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC,
+                tempResourceDir.resolve("parallel_codegen.jar"));
+        Assert.assertTrue(emitResult.successful());
+    }
+
     @Test(description = "Tests compiling a build project with no langlib files " +
             "included in the jar file collection for executing the test")
     public void testBuildProjectWithNoLangLibFilesIncluded() {
@@ -1328,6 +1359,102 @@ public class TestBuildProject extends BaseTest {
                 .contains("missing required parameter 'c'"));
     }
 
+    @Test
+    public void testEditFunctionBodyOfDependantModuleDocument() {
+        Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
+        String addedFunctionStr = """
+                public function joinStrings(string a, string b) returns string {
+                \treturn a + b;
+                }
+
+                public function concatStrings(string a, string b) returns string {
+                \treturn a + b;
+                }
+                """;
+        String updatedBodyStr = """
+                public function joinStrings(string a, string b) returns string {
+                \treturn a + 1;
+                }
+
+                public function concatStrings(string a, string b) returns string {
+                \treturn a + b;
+                }
+                """;
+        String movedFunctionStr = """
+                public function joinStrings(string a, string b) returns string {
+                \tstring c = a + b;
+                \treturn c;
+                }
+
+                public function concatStrings(string a, string b) returns string {
+                \treturn a + b;
+                }
+                """;
+        String updatedSignatureStr = """
+                public function concatStrings(string a, string b, string c) returns string {
+                \treturn a + b;
+                }
+                """;
+
+        BuildProject project = loadBuildProject(projectPath);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 0);
+        Assert.assertEquals(definitionLineOfConcatStrings(project), 0);
+
+        // 1) Add a function before the one used by another module, which should recompile the dependant module
+        Module module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        DocumentId documentId = module.documentIds().stream().findFirst().get();
+        module.document(documentId).modify().withContent(addedFunctionStr).apply();
+
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().diagnosticCount(), 0);
+        Assert.assertEquals(definitionLineOfConcatStrings(project), 4);
+
+        // 2) Edit only the body of the first function, keeping the lines of the declarations. The module is
+        // recompiled, while the references of the dependant module remain valid.
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(updatedBodyStr).apply();
+
+        DiagnosticResult diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnosticCount(), 1);
+        Assert.assertEquals(diagnosticResult.diagnostics().stream().findAny().get().location().lineRange().fileName(),
+                Path.of("modules").resolve("util").resolve("util.bal").toString());
+        Assert.assertEquals(definitionLineOfConcatStrings(project), 4);
+
+        // 3) Edit the body of the first function, which moves the second function to other lines. The references of
+        // the dependant module should point to the new location.
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(movedFunctionStr).apply();
+
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().diagnosticCount(), 0);
+        Assert.assertEquals(definitionLineOfConcatStrings(project), 5);
+
+        // 4) Edit the function signature, which should recompile the dependant module
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(updatedSignatureStr).apply();
+
+        diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnosticCount(), 1);
+        Assert.assertEquals(diagnosticResult.diagnostics().stream().findAny().get().location().lineRange().fileName(),
+                "main.bal");
+        Assert.assertTrue(diagnosticResult.diagnostics().stream().findAny().get().message()
+                .contains("missing required parameter 'c'"));
+    }
+
+    /**
+     * Returns the line of the definition of {@code util:concatStrings}, as seen from its reference in the default
+     * module.
+     */
+    private static int definitionLineOfConcatStrings(BuildProject project) {
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(defaultModule.moduleId());
+        Document mainDocument = defaultModule.document(defaultModule.documentIds().iterator().next());
+        Optional<Symbol> symbol = semanticModel.symbol(mainDocument, LinePosition.from(3, 25));
+        Assert.assertTrue(symbol.isPresent());
+        Assert.assertEquals(symbol.get().getName().orElseThrow(), "concatStrings");
+        return symbol.get().getLocation().orElseThrow().lineRange().startLine().line();
+    }
+
     @Test
     public void testRemoveDependantModuleDocument() {
         Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
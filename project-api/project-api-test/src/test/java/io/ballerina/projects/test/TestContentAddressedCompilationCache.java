@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.directory.BuildProject;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+
+/**
+ * Tests building projects with the content-addressed compilation cache shared across builds.
+ * <p>
+ * The cache directory is set with the {@code ballerina.compilation.cache.dir} system property of the test task.
+ *
+ * @since 2201.11.0
+ */
+public class TestContentAddressedCompilationCache {
+
+    private static final Path RESOURCE_DIRECTORY = Path.of("src/test/resources/");
+    private static final String CACHE_DIR_PROPERTY = "ballerina.compilation.cache.dir";
+    private static final String COMPLETION_MARKER = ".complete";
+
+    private Path tempDir;
+    private Path projectPath;
+    private Path cacheDirPath;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+        Assert.assertNotNull(cacheDir, "the '" + CACHE_DIR_PROPERTY + "' system property is not set");
+        cacheDirPath = Path.of(cacheDir);
+        tempDir = Files.createTempDirectory("content-addressed-cache-test");
+        projectPath = tempDir.resolve("content_addressed_cache_project");
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("content_addressed_cache_project").toFile(),
+                projectPath.toFile());
+        writeJar(projectPath.resolve("libs").resolve("native.jar"), "native-v1");
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(tempDir.toFile());
+    }
+
+    @Test(description = "tests loading the modules from the cache in a build with another target directory, and " +
+            "compiling them again once a native dependency is changed")
+    public void testWarmCacheBuild() throws IOException {
+        // 1) Build with a cold cache, which compiles the modules and adds them to the cache
+        Set<Path> newEntries = cacheEntries();
+        build("cold");
+        newEntries = difference(cacheEntries(), newEntries);
+        Assert.assertEquals(newEntries.size(), 2, "expected an entry for each module: " + newEntries);
+
+        // Replace the cached libraries, so that the libraries restored from the cache can be told apart from the
+        // generated ones
+        for (Path entryPath : newEntries) {
+            try (Stream<Path> libraryPaths = Files.list(entryPath.resolve(JvmTarget.JAVA_21.code()))) {
+                for (Path libraryPath : libraryPaths.toList()) {
+                    writeJar(libraryPath, "cached");
+                }
+            }
+        }
+        byte[] cachedLibrary = Files.readAllBytes(writeJar(tempDir.resolve("cached.jar"), "cached"));
+
+        // 2) Build again with an empty target directory, which loads all the modules from the cache
+        Set<Path> entries = cacheEntries();
+        Set<Path> warmBuildLibraries = build("warm");
+        Assert.assertEquals(cacheEntries(), entries);
+        for (Path libraryPath : warmBuildLibraries) {
+            Assert.assertEquals(Files.readAllBytes(libraryPath), cachedLibrary,
+                    "not loaded from the cache: " + libraryPath);
+        }
+
+        // 3) Change the native dependency, which changes the hashes of all the modules
+        writeJar(projectPath.resolve("libs").resolve("native.jar"), "native-v2");
+        Set<Path> changedBuildLibraries = build("changed");
+        Assert.assertEquals(difference(cacheEntries(), entries).size(), 2);
+        for (Path libraryPath : changedBuildLibraries) {
+            Assert.assertNotEquals(Files.readAllBytes(libraryPath), cachedLibrary,
+                    "loaded from the cache: " + libraryPath);
+        }
+    }
+
+    /**
+     * Builds the project with the given target directory and returns the paths of the code generated for its
+     * modules.
+     */
+    private Set<Path> build(String targetDirName) {
+        BuildOptions buildOptions = BuildOptions.builder()
+                .setEnableCache(true)
+                .targetDir(tempDir.resolve(targetDirName).toString())
+                .build();
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        Package currentPackage = project.currentPackage();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(currentPackage.getCompilation(),
+                JvmTarget.JAVA_21);
+        DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
+        Assert.assertFalse(diagnosticResult.hasErrors(), TestUtils.getDiagnosticsAsString(diagnosticResult));
+
+        Set<Path> libraryPaths = new HashSet<>();
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            Path libraryPath = jBallerinaBackend.codeGeneratedLibrary(currentPackage.packageId(),
+                    module.moduleName()).path();
+            Assert.assertTrue(Files.exists(libraryPath), "missing the code of module " + module.moduleName());
+            libraryPaths.add(libraryPath);
+        }
+        return libraryPaths;
+    }
+
+    private Set<Path> cacheEntries() throws IOException {
+        if (!Files.isDirectory(cacheDirPath)) {
+            return new HashSet<>();
+        }
+        try (Stream<Path> markerPaths = Files.find(cacheDirPath, 3,
+                (path, attributes) -> path.getFileName().toString().equals(COMPLETION_MARKER))) {
+            return markerPaths.map(Path::getParent).collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<Path> difference(Set<Path> entries, Set<Path> otherEntries) {
+        Set<Path> difference = new HashSet<>(entries);
+        difference.removeAll(otherEntries);
+        return difference;
+    }
+
+    private static Path writeJar(Path jarPath, String entryName) throws IOException {
+        Files.createDirectories(jarPath.getParent());
+        try (OutputStream outputStream = Files.newOutputStream(jarPath);
+             JarOutputStream jarOutputStream = new JarOutputStream(outputStream)) {
+            // The time of the entry is fixed, so that jars with the same entry have the same content
+            ZipEntry entry = new ZipEntry(entryName);
+            entry.setTime(0);
+            jarOutputStream.putNextEntry(entry);
+            jarOutputStream.closeEntry();
+        }
+        return jarPath;
+    }
+}
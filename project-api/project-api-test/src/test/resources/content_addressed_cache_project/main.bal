@@ -0,0 +1,5 @@
+import content_cache.util;
+
+public function main() {
+    string _ = util:greet("cache");
+}
@@ -0,0 +1,11 @@
+import parallel_codegen.geometry;
+import parallel_codegen.units;
+
+public function main() {
+    geometry:Shape[] shapes = [geometry:square(2.0), geometry:circle(1.5)];
+    float total = 0.0;
+    foreach geometry:Shape shape in shapes {
+        total += geometry:area(shape);
+    }
+    string _ = units:format(total, units:SQUARE_METRE);
+}
@@ -0,0 +1,27 @@
+import parallel_codegen.shapes;
+import parallel_codegen.units;
+
+public type Shape shapes:Square|shapes:Circle;
+
+final shapes:Counter 'shape\-count = new;
+
+public function square(float side) returns shapes:Square {
+    _ = 'shape\-count.'increment\-by(1);
+    return {'side\-length: side};
+}
+
+public function circle(float radius) returns shapes:Circle {
+    _ = 'shape\-count.'increment\-by(1);
+    return {'radius\$value: radius};
+}
+
+public function area(Shape shape) returns float {
+    if shape is shapes:Square {
+        return shape.'side\-length * shape.'side\-length;
+    }
+    return 3.14159 * shape.'radius\$value * shape.'radius\$value;
+}
+
+public function describe(Shape shape) returns string {
+    return units:format(area(shape), units:SQUARE_METRE);
+}
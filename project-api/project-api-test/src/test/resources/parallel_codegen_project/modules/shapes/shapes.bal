@@ -0,0 +1,20 @@
+public type Square record {|
+    "square" kind = "square";
+    float 'side\-length;
+|};
+
+public type Circle record {|
+    "circle" kind = "circle";
+    float 'radius\$value;
+|};
+
+public isolated class Counter {
+    private int 'count\#value = 0;
+
+    public isolated function 'increment\-by(int value) returns int {
+        lock {
+            self.'count\#value += value;
+            return self.'count\#value;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+public const SQUARE_METRE = "m\u{00B2}";
+
+public type Unit SQUARE_METRE|"cm\u{00B2}";
+
+public function format(float value, Unit unit) returns string {
+    return value.toString() + " " + unit;
+}
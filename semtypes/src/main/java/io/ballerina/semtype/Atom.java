@@ -23,4 +23,11 @@ package io.ballerina.semtype;
  * @since 2.0.0
  */
 public interface Atom {
+
+    /**
+     * Returns the index of the atom in the table of atoms of its kind.
+     *
+     * @return index of the atom
+     */
+    long index();
 }
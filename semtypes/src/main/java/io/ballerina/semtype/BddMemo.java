@@ -26,7 +26,21 @@ public class BddMemo {
     Bdd bddNode;
     MemoStatus isEmpty;
 
+    BddMemo(Bdd bddNode) {
+        this.bddNode = bddNode;
+        this.isEmpty = MemoStatus.NOT_SET;
+    }
+
     enum MemoStatus {
-        NOT_SET, TRUE, FALSE
+        // No result is known, e.g. a result which depended on an assumption which turned out to be wrong
+        NOT_SET,
+        // The BDD is being checked, and no result is known yet
+        PROVISIONAL,
+        // The BDD was reached again while it was being checked
+        LOOP,
+        // The BDD is empty, since it is inhabited only by infinite values
+        CYCLIC,
+        TRUE,
+        FALSE
     }
 }
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+/**
+ * Represents a linked list of the atoms of a conjunction, i.e. the atoms along a path of a BDD.
+ *
+ * @since 2201.11.0
+ */
+public final class Conjunction {
+
+    public final Atom atom;
+    public final Conjunction next;
+
+    private Conjunction(Atom atom, Conjunction next) {
+        this.atom = atom;
+        this.next = next;
+    }
+
+    public static Conjunction and(Atom atom, Conjunction next) {
+        return new Conjunction(atom, next);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.subtypedata.AllOrNothingSubtype;
+import io.ballerina.semtype.typeops.BooleanOps;
+import io.ballerina.semtype.typeops.FloatOps;
+import io.ballerina.semtype.typeops.FunctionOps;
+import io.ballerina.semtype.typeops.IntOps;
+import io.ballerina.semtype.typeops.ListTypeRWOps;
+import io.ballerina.semtype.typeops.ListTypeRoOps;
+import io.ballerina.semtype.typeops.MappingRWOps;
+import io.ballerina.semtype.typeops.MappingRoOps;
+import io.ballerina.semtype.typeops.StringOps;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contain functions found in core.bal file.
+ * <p>
+ * A semtype is either a {@link UniformTypeBitSet} of the uniform types it contains completely, or a
+ * {@link ComplexSemType} which also has the proper subtypes of the uniform types it contains partially.
+ *
+ * @since 2201.11.0
+ */
+public final class Core {
+
+    private static final UniformTypeOps[] OPS = new UniformTypeOps[UniformTypeCode.UT_COUNT];
+
+    static {
+        OPS[UniformTypeCode.UT_BOOLEAN] = new BooleanOps();
+        OPS[UniformTypeCode.UT_INT] = new IntOps();
+        OPS[UniformTypeCode.UT_FLOAT] = new FloatOps();
+        OPS[UniformTypeCode.UT_STRING] = new StringOps();
+        OPS[UniformTypeCode.UT_LIST_RO] = new ListTypeRoOps();
+        OPS[UniformTypeCode.UT_LIST_RW] = new ListTypeRWOps();
+        OPS[UniformTypeCode.UT_MAPPING_RO] = new MappingRoOps();
+        OPS[UniformTypeCode.UT_MAPPING_RW] = new MappingRWOps();
+        OPS[UniformTypeCode.UT_FUNCTION] = new FunctionOps();
+    }
+
+    private Core() {
+    }
+
+    public static SemType union(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet b1 && t2 instanceof UniformTypeBitSet b2) {
+            return new UniformTypeBitSet(b1.bitset | b2.bitset);
+        }
+        return combine(t1, t2, (code, d1, d2) -> {
+            if (isAll(d1) || isAll(d2)) {
+                return AllOrNothingSubtype.createAll();
+            } else if (isNothing(d1)) {
+                return d2;
+            } else if (isNothing(d2)) {
+                return d1;
+            }
+            return OPS[code].union(d1, d2);
+        });
+    }
+
+    public static SemType intersect(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet b1 && t2 instanceof UniformTypeBitSet b2) {
+            return new UniformTypeBitSet(b1.bitset & b2.bitset);
+        }
+        return combine(t1, t2, (code, d1, d2) -> {
+            if (isNothing(d1) || isNothing(d2)) {
+                return AllOrNothingSubtype.createNothing();
+            } else if (isAll(d1)) {
+                return d2;
+            } else if (isAll(d2)) {
+                return d1;
+            }
+            return OPS[code].intersect(d1, d2);
+        });
+    }
+
+    public static SemType diff(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet b1 && t2 instanceof UniformTypeBitSet b2) {
+            return new UniformTypeBitSet(b1.bitset & ~b2.bitset);
+        }
+        return combine(t1, t2, (code, d1, d2) -> {
+            if (isNothing(d1) || isAll(d2)) {
+                return AllOrNothingSubtype.createNothing();
+            } else if (isNothing(d2)) {
+                return d1;
+            } else if (isAll(d1)) {
+                return OPS[code].complement(d2);
+            }
+            return OPS[code].diff(d1, d2);
+        });
+    }
+
+    public static SemType complement(SemType t) {
+        return diff(PredefinedType.TOP, t);
+    }
+
+    /**
+     * Checks whether the given type is never, without checking whether its proper subtypes are empty.
+     *
+     * @param t type to check
+     * @return true if the type is the never type
+     */
+    public static boolean isNever(SemType t) {
+        return t instanceof UniformTypeBitSet b && b.bitset == 0;
+    }
+
+    public static boolean isEmpty(TypeCheckContext tc, SemType t) {
+        if (t instanceof UniformTypeBitSet b) {
+            return b.bitset == 0;
+        }
+        ComplexSemType complexSemType = (ComplexSemType) t;
+        if (complexSemType.all.bitset != 0) {
+            return false;
+        }
+        int some = complexSemType.some.bitset;
+        int index = 0;
+        for (int code = 0; code < UniformTypeCode.UT_COUNT; code++) {
+            if ((some & (1 << code)) != 0) {
+                if (!OPS[code].isEmpty(tc, complexSemType.subtypeDataList[index++])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSubtype(TypeCheckContext tc, SemType t1, SemType t2) {
+        return isEmpty(tc, diff(t1, t2));
+    }
+
+    /**
+     * Returns the subtype data of the given uniform type in the given type.
+     *
+     * @param t    type
+     * @param code code of the uniform type
+     * @return subtype data of the uniform type
+     */
+    public static SubtypeData subtypeData(SemType t, int code) {
+        int bit = 1 << code;
+        if ((allBits(t) & bit) != 0) {
+            return AllOrNothingSubtype.createAll();
+        }
+        int some = someBits(t);
+        if ((some & bit) == 0) {
+            return AllOrNothingSubtype.createNothing();
+        }
+        return ((ComplexSemType) t).subtypeDataList[Integer.bitCount(some & (bit - 1))];
+    }
+
+    private static SemType combine(SemType t1, SemType t2, SubtypeOperation operation) {
+        int codes = allBits(t1) | someBits(t1) | allBits(t2) | someBits(t2);
+        int all = 0;
+        List<UniformSubtype> subtypes = new ArrayList<>();
+        for (int code = 0; code < UniformTypeCode.UT_COUNT; code++) {
+            if ((codes & (1 << code)) == 0) {
+                continue;
+            }
+            SubtypeData data = operation.apply(code, subtypeData(t1, code), subtypeData(t2, code));
+            if (isAll(data)) {
+                all |= 1 << code;
+            } else if (!isNothing(data)) {
+                subtypes.add(new UniformSubtype(code, data));
+            }
+        }
+        if (subtypes.isEmpty()) {
+            return new UniformTypeBitSet(all);
+        }
+        return ComplexSemType.createComplexSemType(all, subtypes.toArray(new UniformSubtype[0]));
+    }
+
+    private static int allBits(SemType t) {
+        return t instanceof UniformTypeBitSet b ? b.bitset : ((ComplexSemType) t).all.bitset;
+    }
+
+    private static int someBits(SemType t) {
+        return t instanceof UniformTypeBitSet ? 0 : ((ComplexSemType) t).some.bitset;
+    }
+
+    private static boolean isAll(SubtypeData data) {
+        return data instanceof AllOrNothingSubtype allOrNothing && allOrNothing.isAllSubtype();
+    }
+
+    private static boolean isNothing(SubtypeData data) {
+        return data instanceof AllOrNothingSubtype allOrNothing && allOrNothing.isNothingSubtype();
+    }
+
+    /**
+     * Operation on the subtype data of a uniform type.
+     */
+    @FunctionalInterface
+    private interface SubtypeOperation {
+
+        SubtypeData apply(int code, SubtypeData d1, SubtypeData d2);
+    }
+}
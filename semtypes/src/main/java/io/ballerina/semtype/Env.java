@@ -22,6 +22,9 @@ import java.util.HashMap;
 
 /**
  * Env node.
+ * <p>
+ * Holds the atoms of the types created in the environment. Atomic types are interned, so that the same atom is
+ * used for equal atomic types.
  *
  * @since 2.0.0
  */
@@ -42,5 +45,35 @@ public class Env {
         this.recFunctionAtoms = new ArrayList<>();
     }
 
+    public TypeAtom mappingAtom(MappingAtomicType atomicType) {
+        return typeAtom(atomicType);
+    }
+
+    /**
+     * Reserves an atom for a recursive mapping type, whose atomic type is set once the type is defined.
+     *
+     * @return atom of the recursive mapping type
+     */
+    public RecAtom recMappingAtom() {
+        int index = recMappingAtoms.size();
+        recMappingAtoms.add(null);
+        return RecAtom.createRecAtom(index);
+    }
+
+    public void setRecMappingAtomType(RecAtom ra, MappingAtomicType atomicType) {
+        recMappingAtoms.set(ra.index, atomicType);
+    }
+
+    public MappingAtomicType getRecMappingAtomType(RecAtom ra) {
+        return recMappingAtoms.get(ra.index);
+    }
 
+    private TypeAtom typeAtom(AtomicType atomicType) {
+        TypeAtom typeAtom = atomTable.get(atomicType);
+        if (typeAtom == null) {
+            typeAtom = TypeAtom.createTypeAtom(atomTable.size(), atomicType);
+            atomTable.put(atomicType, typeAtom);
+        }
+        return typeAtom;
+    }
 }
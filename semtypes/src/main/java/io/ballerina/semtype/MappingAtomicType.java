@@ -17,10 +17,37 @@
  */
 package io.ballerina.semtype;
 
+import java.util.Arrays;
+
 /**
  * MappingAtomicType node.
+ * <p>
+ * Represents a mapping with the given fields, where the names are sorted, and the type of the rest of the fields.
  *
  * @since 2.0.0
  */
 public class MappingAtomicType implements AtomicType {
+    public final String[] names;
+    public final SemType[] types;
+    public final SemType rest;
+
+    public static final MappingAtomicType MAPPING_SUBTYPE_TOP =
+            new MappingAtomicType(new String[0], new SemType[0], PredefinedType.TOP);
+
+    public MappingAtomicType(String[] names, SemType[] types, SemType rest) {
+        this.names = names;
+        this.types = types;
+        this.rest = rest;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof MappingAtomicType other && Arrays.equals(this.names, other.names) &&
+                Arrays.equals(this.types, other.types) && this.rest.equals(other.rest);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(names) + Arrays.hashCode(types)) + rest.hashCode();
+    }
 }
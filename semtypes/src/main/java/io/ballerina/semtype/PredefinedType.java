@@ -50,6 +50,8 @@ public final class PredefinedType {
             uniformTypeUnion((1 << UniformTypeCode.UT_XML_RO) | (1 << UniformTypeCode.UT_XML_RW));
     public static final UniformTypeBitSet STREAM = uniformType(UniformTypeCode.UT_STREAM);
     public static final UniformTypeBitSet FUTURE = uniformType(UniformTypeCode.UT_FUTURE);
+    // matches the absence of a field of a mapping, which is not contained in TOP
+    public static final UniformTypeBitSet UNDEF = uniformType(UniformTypeCode.UT_UNDEF);
 
     // this is SubtypeData|error
     public static final UniformTypeBitSet TOP = uniformTypeUnion(UniformTypeCode.UT_MASK);
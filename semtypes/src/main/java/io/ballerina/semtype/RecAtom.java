@@ -32,4 +32,9 @@ public class RecAtom implements Atom {
     public static RecAtom createRecAtom(int index) {
         return new RecAtom(index);
     }
+
+    @Override
+    public long index() {
+        return index;
+    }
 }
@@ -17,42 +17,101 @@
  */
 package io.ballerina.semtype;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
 /**
  * TypeCheckContext node.
+ * <p>
+ * Holds the memoized results of the emptiness checks of the BDDs, so that the context should be reused for the type
+ * checks done in the same environment.
  *
  * @since 2.0.0
  */
 public class TypeCheckContext {
     private final Env env;
-    // todo: Normal hash tables should do here
-    //    BddMemoTable listMemo = table [];
-    //    BddMemoTable mappingMemo = table [];
-    //    BddMemoTable functionMemo = table [];
+    private final Map<Bdd, BddMemo> mappingMemo = new HashMap<>();
+    // Memos of the BDDs being checked and of the BDDs found empty while they were being checked, in the order they
+    // were checked. Their results may depend on the assumption that a BDD reached through a cycle is empty.
+    private final List<BddMemo> memoStack = new ArrayList<>();
 
     public TypeCheckContext(Env env) {
         this.env = env;
     }
 
+    public Env getEnv() {
+        return env;
+    }
+
+    public MappingAtomicType mappingAtomType(Atom atom) {
+        if (atom instanceof RecAtom recAtom) {
+            return env.getRecMappingAtomType(recAtom);
+        }
+        return (MappingAtomicType) ((TypeAtom) atom).atomicType;
+    }
 
-//    function listAtomType(Atom atom) returns ListAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecListAtomType(atom);
-//        }
-//        else {
-//            return <ListAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function mappingAtomType(Atom atom) returns MappingAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecMappingAtomType(atom);
-//        }
-//        else {
-//            return <MappingAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function functionAtomType(Atom atom) returns FunctionAtomicType {
-//        return self.env.getRecFunctionAtomType(<RecAtom>atom);
-//    }
+    /**
+     * Checks whether the given mapping BDD is empty, reusing the result of a previous check of the same BDD.
+     *
+     * @param bdd     mapping BDD
+     * @param isEmpty function checking the emptiness of the BDD
+     * @return true if the BDD is empty
+     */
+    public boolean isMappingEmpty(Bdd bdd, Predicate<Bdd> isEmpty) {
+        return isEmptyMemoized(mappingMemo, bdd, isEmpty);
+    }
+
+    private boolean isEmptyMemoized(Map<Bdd, BddMemo> memoTable, Bdd bdd, Predicate<Bdd> isEmpty) {
+        BddMemo memo = memoTable.get(bdd);
+        if (memo == null) {
+            memo = new BddMemo(bdd);
+            memoTable.put(bdd, memo);
+        } else {
+            switch (memo.isEmpty) {
+                case TRUE:
+                case CYCLIC:
+                    return true;
+                case FALSE:
+                    return false;
+                case PROVISIONAL:
+                case LOOP:
+                    // The BDD is being checked, hence we've got a loop. A value of a recursive type is finite,
+                    // so the type is empty unless a path which does not recurse is inhabited.
+                    memo.isEmpty = BddMemo.MemoStatus.LOOP;
+                    return true;
+                default:
+                    // NOT_SET, so the BDD is checked again
+                    break;
+            }
+        }
+        memo.isEmpty = BddMemo.MemoStatus.PROVISIONAL;
+        int initStackDepth = memoStack.size();
+        memoStack.add(memo);
+        boolean result = isEmpty.test(bdd);
+        boolean isLoop = memo.isEmpty == BddMemo.MemoStatus.LOOP;
+        if (!result || initStackDepth == 0) {
+            // The results of the BDDs checked after this one are final once this one is. If this BDD is not empty,
+            // the results which assumed it is empty are wrong, hence they are cleared to be checked again.
+            for (int i = initStackDepth + 1; i < memoStack.size(); i++) {
+                BddMemo nested = memoStack.get(i);
+                if (nested.isEmpty == BddMemo.MemoStatus.PROVISIONAL || nested.isEmpty == BddMemo.MemoStatus.LOOP ||
+                        nested.isEmpty == BddMemo.MemoStatus.CYCLIC) {
+                    nested.isEmpty = result ? BddMemo.MemoStatus.TRUE : BddMemo.MemoStatus.NOT_SET;
+                }
+            }
+            memoStack.subList(initStackDepth, memoStack.size()).clear();
+            if (isLoop && result) {
+                // The BDD is empty only because the values which recurse through it are infinite
+                memo.isEmpty = BddMemo.MemoStatus.CYCLIC;
+            } else {
+                memo.isEmpty = result ? BddMemo.MemoStatus.TRUE : BddMemo.MemoStatus.FALSE;
+            }
+        }
+        // Otherwise the BDD is empty, which may rely on the assumption that a BDD still being checked is empty.
+        // It stays provisional on the stack until that BDD is resolved.
+        return result;
+    }
 }
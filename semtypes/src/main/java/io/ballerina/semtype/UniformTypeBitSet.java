@@ -28,4 +28,18 @@ public class UniformTypeBitSet implements SemType {
     public UniformTypeBitSet(int bitset) {
         this.bitset = bitset;
     }
+
+    public int getBitset() {
+        return bitset;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof UniformTypeBitSet other && this.bitset == other.bitset;
+    }
+
+    @Override
+    public int hashCode() {
+        return bitset;
+    }
 }
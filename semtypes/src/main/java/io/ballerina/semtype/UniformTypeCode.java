@@ -47,6 +47,9 @@ public final class UniformTypeCode {
     public static final int UT_TYPEDESC = 0x0D;
     public static final int UT_HANDLE = 0x0E;
 
+    // Not a uniform type; represents the absence of a field in the type of a field of a mapping
+    public static final int UT_UNDEF = 0x0F;
+
     // Inherently mutable
     public static final int UT_FUTURE = 0x10;
     public static final int UT_STREAM = 0x11;
@@ -60,10 +63,10 @@ public final class UniformTypeCode {
 
     // Helper bit fields (does not represent uniform type tag)
     static final int UT_COUNT = UT_OBJECT_RW + 1;
-    static final int UT_MASK = (1 << UT_COUNT) - 1;
+    static final int UT_MASK = ((1 << UT_COUNT) - 1) & ~(1 << UT_UNDEF);
 
     static final int UT_COUNT_RO = 0x10;
-    static final int UT_READONLY = (1 << UT_COUNT_RO) - 1;
+    static final int UT_READONLY = ((1 << UT_COUNT_RO) - 1) & ~(1 << UT_UNDEF);
 
     static final int UT_RW_MASK = UT_MASK ^ ~UT_READONLY;
 
@@ -17,18 +17,86 @@
  */
 package io.ballerina.semtype.definition;
 
+import io.ballerina.semtype.Atom;
+import io.ballerina.semtype.Core;
 import io.ballerina.semtype.Definition;
 import io.ballerina.semtype.Env;
+import io.ballerina.semtype.MappingAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.RecAtom;
 import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.UniformTypeCode;
+import io.ballerina.semtype.typeops.BddCommonOps;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Represent mapping type desc.
+ * <p>
+ * The semtype of a recursive mapping type can be obtained using {@link #getSemType(Env)} before the mapping type is
+ * defined. Only the mutable half of the mapping uniform type is represented for now.
  *
  * @since 2.0.0
  */
 public class MappingDefinition implements Definition {
+
+    private RecAtom rec = null;
+    private SemType semType = null;
+
     @Override
     public SemType getSemType(Env env) {
-        throw new AssertionError();
+        if (semType == null) {
+            rec = env.recMappingAtom();
+            semType = createSemType(rec);
+        }
+        return semType;
+    }
+
+    /**
+     * Defines the mapping type with the given fields and the type of the rest of the fields.
+     *
+     * @param env    type environment
+     * @param fields fields of the mapping
+     * @param rest   type of the rest of the fields, which is never for a closed mapping
+     * @return semtype of the mapping
+     */
+    public SemType define(Env env, List<Field> fields, SemType rest) {
+        List<Field> sortedFields = new ArrayList<>(fields);
+        sortedFields.sort(Comparator.comparing(Field::name));
+        String[] names = new String[sortedFields.size()];
+        SemType[] types = new SemType[sortedFields.size()];
+        for (int i = 0; i < sortedFields.size(); i++) {
+            names[i] = sortedFields.get(i).name();
+            types[i] = sortedFields.get(i).type();
+        }
+        MappingAtomicType atomicType = new MappingAtomicType(names, types, rest);
+        Atom atom;
+        if (rec != null) {
+            atom = rec;
+            env.setRecMappingAtomType(rec, atomicType);
+        } else {
+            atom = env.mappingAtom(atomicType);
+        }
+        semType = createSemType(atom);
+        return semType;
+    }
+
+    private static SemType createSemType(Atom atom) {
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_MAPPING_RW, BddCommonOps.bddAtom(atom));
+    }
+
+    /**
+     * Represent a field of a mapping type. The type of an optional field contains {@link PredefinedType#UNDEF}.
+     *
+     * @param name name of the field
+     * @param type type of the field
+     */
+    public record Field(String name, SemType type) {
+
+        public static Field optionalField(String name, SemType type) {
+            return new Field(name, Core.union(type, PredefinedType.UNDEF));
+        }
     }
 }
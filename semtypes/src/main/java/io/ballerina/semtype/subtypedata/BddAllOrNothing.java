@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.subtypedata;
+
+import io.ballerina.semtype.Bdd;
+
+/**
+ * A Bdd which is either always true or always false.
+ * This is the Java representation of the `boolean` found in `Bdd` type in Ballerina impl.
+ *
+ * @since 2201.11.0
+ */
+public final class BddAllOrNothing implements Bdd {
+
+    private static final BddAllOrNothing ALL = new BddAllOrNothing(true);
+    private static final BddAllOrNothing NOTHING = new BddAllOrNothing(false);
+
+    private final boolean isAll;
+
+    private BddAllOrNothing(boolean isAll) {
+        this.isAll = isAll;
+    }
+
+    public static BddAllOrNothing bddAll() {
+        return ALL;
+    }
+
+    public static BddAllOrNothing bddNothing() {
+        return NOTHING;
+    }
+
+    public boolean isAll() {
+        return this.isAll;
+    }
+
+    public BddAllOrNothing complement() {
+        return isAll ? NOTHING : ALL;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BddAllOrNothing other && this.isAll == other.isAll;
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(isAll);
+    }
+}
@@ -20,14 +20,62 @@ package io.ballerina.semtype.subtypedata;
 import io.ballerina.semtype.Atom;
 import io.ballerina.semtype.Bdd;
 
+import java.util.Objects;
+
 /**
  * Bdd node.
+ * <p>
+ * Nodes are immutable and are compared structurally, where the atoms are compared by identity as they are interned
+ * by the type environment.
  *
  * @since 2.0.0
  */
 public class BddNode implements Bdd {
-    Atom atom;
-    BddNode left;
-    BddNode middle;
-    BddNode right;
+    private final Atom atom;
+    private final Bdd left;
+    private final Bdd middle;
+    private final Bdd right;
+    private final int hash;
+
+    private BddNode(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        this.atom = atom;
+        this.left = left;
+        this.middle = middle;
+        this.right = right;
+        this.hash = Objects.hash(System.identityHashCode(atom), left, middle, right);
+    }
+
+    public static BddNode create(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        return new BddNode(atom, left, middle, right);
+    }
+
+    public Atom atom() {
+        return atom;
+    }
+
+    public Bdd left() {
+        return left;
+    }
+
+    public Bdd middle() {
+        return middle;
+    }
+
+    public Bdd right() {
+        return right;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof BddNode other && this.hash == other.hash && this.atom == other.atom &&
+                this.left.equals(other.left) && this.middle.equals(other.middle) && this.right.equals(other.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
 }
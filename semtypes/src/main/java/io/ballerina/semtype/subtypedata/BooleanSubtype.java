@@ -17,13 +17,51 @@
  */
 package io.ballerina.semtype.subtypedata;
 
+import io.ballerina.semtype.PredefinedType;
 import io.ballerina.semtype.ProperSubtypeData;
+import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.UniformTypeCode;
 
 /**
  * Represent BooleanSubtype.
+ * <p>
+ * A proper subtype of boolean contains exactly one of the two boolean values.
  *
  * @since 2.0.0
  */
 public class BooleanSubtype implements ProperSubtypeData {
 
+    private static final BooleanSubtype TRUE = new BooleanSubtype(true);
+    private static final BooleanSubtype FALSE = new BooleanSubtype(false);
+
+    private final boolean value;
+
+    private BooleanSubtype(boolean value) {
+        this.value = value;
+    }
+
+    public static BooleanSubtype from(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    public static SemType booleanConst(boolean value) {
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_BOOLEAN, from(value));
+    }
+
+    public boolean getValue() {
+        return value;
+    }
+
+    public SubtypeData union(BooleanSubtype other) {
+        return this.value == other.value ? this : AllOrNothingSubtype.createAll();
+    }
+
+    public SubtypeData intersect(BooleanSubtype other) {
+        return this.value == other.value ? this : AllOrNothingSubtype.createNothing();
+    }
+
+    public SubtypeData complement() {
+        return from(!value);
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.subtypedata;
+
+import io.ballerina.semtype.ProperSubtypeData;
+import io.ballerina.semtype.SubtypeData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A subtype of a uniform type with infinitely many values, represented by a finite set of values which are either
+ * the only values allowed or the only values excluded by the subtype.
+ *
+ * @param <T> type of the values
+ * @since 2201.11.0
+ */
+public abstract class EnumerableSubtype<T extends Comparable<T>> implements ProperSubtypeData {
+
+    final boolean allowed;
+    // Sorted in ascending order without duplicates
+    final List<T> values;
+
+    EnumerableSubtype(boolean allowed, List<T> values) {
+        this.allowed = allowed;
+        this.values = values;
+    }
+
+    public boolean isAllowed() {
+        return allowed;
+    }
+
+    public List<T> getValues() {
+        return values;
+    }
+
+    abstract SubtypeData create(boolean allowed, List<T> values);
+
+    /**
+     * Returns the union of this subtype and the given subtype.
+     *
+     * @param other subtype of the same uniform type
+     * @return union of the subtypes
+     */
+    public SubtypeData union(EnumerableSubtype<T> other) {
+        if (this.allowed) {
+            if (other.allowed) {
+                return create(true, union(this.values, other.values));
+            }
+            return create(false, diff(other.values, this.values));
+        }
+        if (other.allowed) {
+            return create(false, diff(this.values, other.values));
+        }
+        return create(false, intersect(this.values, other.values));
+    }
+
+    /**
+     * Returns the intersection of this subtype and the given subtype.
+     *
+     * @param other subtype of the same uniform type
+     * @return intersection of the subtypes
+     */
+    public SubtypeData intersect(EnumerableSubtype<T> other) {
+        if (this.allowed) {
+            if (other.allowed) {
+                return create(true, intersect(this.values, other.values));
+            }
+            return create(true, diff(this.values, other.values));
+        }
+        if (other.allowed) {
+            return create(true, diff(other.values, this.values));
+        }
+        return create(false, union(this.values, other.values));
+    }
+
+    public SubtypeData complement() {
+        return create(!allowed, values);
+    }
+
+    static <T> SubtypeData normalize(boolean allowed, List<T> values, SubtypeData subtype) {
+        if (values.isEmpty()) {
+            return allowed ? AllOrNothingSubtype.createNothing() : AllOrNothingSubtype.createAll();
+        }
+        return subtype;
+    }
+
+    static <T extends Comparable<T>> List<T> union(List<T> v1, List<T> v2) {
+        List<T> result = new ArrayList<>(v1.size() + v2.size());
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < v1.size() && i2 < v2.size()) {
+            int cmp = v1.get(i1).compareTo(v2.get(i2));
+            if (cmp < 0) {
+                result.add(v1.get(i1++));
+            } else if (cmp > 0) {
+                result.add(v2.get(i2++));
+            } else {
+                result.add(v1.get(i1++));
+                i2++;
+            }
+        }
+        result.addAll(v1.subList(i1, v1.size()));
+        result.addAll(v2.subList(i2, v2.size()));
+        return result;
+    }
+
+    static <T extends Comparable<T>> List<T> intersect(List<T> v1, List<T> v2) {
+        List<T> result = new ArrayList<>();
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < v1.size() && i2 < v2.size()) {
+            int cmp = v1.get(i1).compareTo(v2.get(i2));
+            if (cmp < 0) {
+                i1++;
+            } else if (cmp > 0) {
+                i2++;
+            } else {
+                result.add(v1.get(i1++));
+                i2++;
+            }
+        }
+        return result;
+    }
+
+    static <T extends Comparable<T>> List<T> diff(List<T> v1, List<T> v2) {
+        List<T> result = new ArrayList<>();
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < v1.size()) {
+            int cmp = i2 < v2.size() ? v1.get(i1).compareTo(v2.get(i2)) : -1;
+            if (cmp < 0) {
+                result.add(v1.get(i1++));
+            } else if (cmp > 0) {
+                i2++;
+            } else {
+                i1++;
+                i2++;
+            }
+        }
+        return result;
+    }
+
+    static <T extends Comparable<T>> List<T> sortedValues(List<T> values) {
+        List<T> sorted = new ArrayList<>(values);
+        sorted.sort(null);
+        List<T> result = new ArrayList<>(sorted.size());
+        for (T value : sorted) {
+            if (result.isEmpty() || result.get(result.size() - 1).compareTo(value) != 0) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+}
@@ -17,13 +17,44 @@
  */
 package io.ballerina.semtype.subtypedata;
 
-import io.ballerina.semtype.ProperSubtypeData;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.UniformTypeCode;
+
+import java.util.List;
 
 /**
  * Represent FloatSubtype.
+ * <p>
+ * The subtype is a finite set of float values, which are either the only values allowed or the only values excluded.
  *
  * @since 2.0.0
  */
-public class FloatSubtype implements ProperSubtypeData {
+public class FloatSubtype extends EnumerableSubtype<Double> {
+
+    private FloatSubtype(boolean allowed, List<Double> values) {
+        super(allowed, values);
+    }
+
+    /**
+     * Creates the subtype allowing or excluding the given values.
+     *
+     * @param allowed whether the values are allowed or excluded
+     * @param values  values of the subtype
+     * @return float subtype
+     */
+    public static SubtypeData createFloatSubtype(boolean allowed, List<Double> values) {
+        List<Double> sortedValues = sortedValues(values);
+        return normalize(allowed, sortedValues, new FloatSubtype(allowed, sortedValues));
+    }
+
+    public static SemType floatConst(double value) {
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_FLOAT, new FloatSubtype(true, List.of(value)));
+    }
 
+    @Override
+    SubtypeData create(boolean allowed, List<Double> values) {
+        return normalize(allowed, values, new FloatSubtype(allowed, values));
+    }
 }
@@ -23,7 +23,9 @@ import io.ballerina.semtype.SemType;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.UniformTypeCode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -116,6 +118,90 @@ public class IntSubtype implements ProperSubtypeData {
         return AllOrNothingSubtype.createAll();
     }
 
+    /**
+     * Creates the subtype containing the integers in the given ranges.
+     *
+     * @param ranges ranges of integers sorted in ascending order, which neither overlap nor are adjacent
+     * @return int subtype
+     */
+    static SubtypeData normalize(List<Range> ranges) {
+        if (ranges.isEmpty()) {
+            return AllOrNothingSubtype.createNothing();
+        }
+        if (ranges.size() == 1 && ranges.get(0).min == Long.MIN_VALUE && ranges.get(0).max == Long.MAX_VALUE) {
+            return AllOrNothingSubtype.createAll();
+        }
+        return new IntSubtype(ranges.toArray(new Range[0]));
+    }
+
+    public SubtypeData union(IntSubtype other) {
+        List<Range> result = new ArrayList<>();
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < this.ranges.length || i2 < other.ranges.length) {
+            Range next;
+            if (i2 == other.ranges.length ||
+                    (i1 < this.ranges.length && this.ranges[i1].min <= other.ranges[i2].min)) {
+                next = this.ranges[i1++];
+            } else {
+                next = other.ranges[i2++];
+            }
+            if (result.isEmpty()) {
+                result.add(next);
+                continue;
+            }
+            Range last = result.get(result.size() - 1);
+            // Merge the overlapping and the adjacent ranges
+            if (last.max == Long.MAX_VALUE || next.min <= last.max + 1) {
+                result.set(result.size() - 1, new Range(last.min, Math.max(last.max, next.max)));
+            } else {
+                result.add(next);
+            }
+        }
+        return normalize(result);
+    }
+
+    public SubtypeData intersect(IntSubtype other) {
+        List<Range> result = new ArrayList<>();
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < this.ranges.length && i2 < other.ranges.length) {
+            Range r1 = this.ranges[i1];
+            Range r2 = other.ranges[i2];
+            long min = Math.max(r1.min, r2.min);
+            long max = Math.min(r1.max, r2.max);
+            if (min <= max) {
+                result.add(new Range(min, max));
+            }
+            if (r1.max < r2.max) {
+                i1++;
+            } else {
+                i2++;
+            }
+        }
+        return normalize(result);
+    }
+
+    public SubtypeData complement() {
+        List<Range> result = new ArrayList<>();
+        long min = Long.MIN_VALUE;
+        boolean done = false;
+        for (Range range : ranges) {
+            if (range.min > min) {
+                result.add(new Range(min, range.min - 1));
+            }
+            if (range.max == Long.MAX_VALUE) {
+                done = true;
+                break;
+            }
+            min = range.max + 1;
+        }
+        if (!done) {
+            result.add(new Range(min, Long.MAX_VALUE));
+        }
+        return normalize(result);
+    }
+
     public Optional<Long> intSubtypeSingleValue(SubtypeData d) {
         if (d instanceof AllOrNothingSubtype) {
             return Optional.empty();
@@ -17,13 +17,44 @@
  */
 package io.ballerina.semtype.subtypedata;
 
-import io.ballerina.semtype.ProperSubtypeData;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.UniformTypeCode;
+
+import java.util.List;
 
 /**
  * Represent StringSubtype.
+ * <p>
+ * The subtype is a finite set of string values, which are either the only values allowed or the only values excluded.
  *
  * @since 2.0.0
  */
-public class StringSubtype implements ProperSubtypeData {
+public class StringSubtype extends EnumerableSubtype<String> {
+
+    private StringSubtype(boolean allowed, List<String> values) {
+        super(allowed, values);
+    }
+
+    /**
+     * Creates the subtype allowing or excluding the given values.
+     *
+     * @param allowed whether the values are allowed or excluded
+     * @param values  values of the subtype
+     * @return string subtype
+     */
+    public static SubtypeData createStringSubtype(boolean allowed, List<String> values) {
+        List<String> sortedValues = sortedValues(values);
+        return normalize(allowed, sortedValues, new StringSubtype(allowed, sortedValues));
+    }
+
+    public static SemType stringConst(String value) {
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_STRING, new StringSubtype(true, List.of(value)));
+    }
 
+    @Override
+    SubtypeData create(boolean allowed, List<String> values) {
+        return normalize(allowed, values, new StringSubtype(allowed, values));
+    }
 }
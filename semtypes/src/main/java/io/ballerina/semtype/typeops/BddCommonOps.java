@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.typeops;
+
+import io.ballerina.semtype.Atom;
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Conjunction;
+import io.ballerina.semtype.RecAtom;
+import io.ballerina.semtype.TypeCheckContext;
+import io.ballerina.semtype.subtypedata.BddAllOrNothing;
+import io.ballerina.semtype.subtypedata.BddNode;
+
+/**
+ * Operations on BDDs. A BDD node represents (atom & left) | middle | (!atom & right).
+ *
+ * @since 2201.11.0
+ */
+public final class BddCommonOps {
+
+    private BddCommonOps() {
+    }
+
+    public static Bdd bddAtom(Atom atom) {
+        return BddNode.create(atom, BddAllOrNothing.bddAll(), BddAllOrNothing.bddNothing(),
+                BddAllOrNothing.bddNothing());
+    }
+
+    public static Bdd bddUnion(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return b1;
+        }
+        if (b1 instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.isAll() ? b1 : b2;
+        }
+        if (b2 instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.isAll() ? b2 : b1;
+        }
+        BddNode n1 = (BddNode) b1;
+        BddNode n2 = (BddNode) b2;
+        long cmp = atomCmp(n1.atom(), n2.atom());
+        if (cmp < 0) {
+            return bddCreate(n1.atom(), n1.left(), bddUnion(n1.middle(), b2), n1.right());
+        } else if (cmp > 0) {
+            return bddCreate(n2.atom(), n2.left(), bddUnion(b1, n2.middle()), n2.right());
+        }
+        return bddCreate(n1.atom(), bddUnion(n1.left(), n2.left()), bddUnion(n1.middle(), n2.middle()),
+                bddUnion(n1.right(), n2.right()));
+    }
+
+    public static Bdd bddIntersect(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return b1;
+        }
+        if (b1 instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.isAll() ? b2 : b1;
+        }
+        if (b2 instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.isAll() ? b1 : b2;
+        }
+        BddNode n1 = (BddNode) b1;
+        BddNode n2 = (BddNode) b2;
+        long cmp = atomCmp(n1.atom(), n2.atom());
+        if (cmp < 0) {
+            return bddCreate(n1.atom(), bddIntersect(n1.left(), b2), bddIntersect(n1.middle(), b2),
+                    bddIntersect(n1.right(), b2));
+        } else if (cmp > 0) {
+            return bddCreate(n2.atom(), bddIntersect(b1, n2.left()), bddIntersect(b1, n2.middle()),
+                    bddIntersect(b1, n2.right()));
+        }
+        return bddCreate(n1.atom(),
+                bddIntersect(bddUnion(n1.left(), n1.middle()), bddUnion(n2.left(), n2.middle())),
+                BddAllOrNothing.bddNothing(),
+                bddIntersect(bddUnion(n1.right(), n1.middle()), bddUnion(n2.right(), n2.middle())));
+    }
+
+    public static Bdd bddDiff(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return BddAllOrNothing.bddNothing();
+        }
+        if (b2 instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.isAll() ? BddAllOrNothing.bddNothing() : b1;
+        }
+        if (b1 instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.isAll() ? bddComplement(b2) : b1;
+        }
+        BddNode n1 = (BddNode) b1;
+        BddNode n2 = (BddNode) b2;
+        long cmp = atomCmp(n1.atom(), n2.atom());
+        if (cmp < 0) {
+            return bddCreate(n1.atom(), bddDiff(bddUnion(n1.left(), n1.middle()), b2), BddAllOrNothing.bddNothing(),
+                    bddDiff(bddUnion(n1.right(), n1.middle()), b2));
+        } else if (cmp > 0) {
+            return bddCreate(n2.atom(), bddDiff(b1, bddUnion(n2.left(), n2.middle())), BddAllOrNothing.bddNothing(),
+                    bddDiff(b1, bddUnion(n2.right(), n2.middle())));
+        }
+        return bddCreate(n1.atom(),
+                bddDiff(bddUnion(n1.left(), n1.middle()), bddUnion(n2.left(), n2.middle())),
+                BddAllOrNothing.bddNothing(),
+                bddDiff(bddUnion(n1.right(), n1.middle()), bddUnion(n2.right(), n2.middle())));
+    }
+
+    public static Bdd bddComplement(Bdd b) {
+        if (b instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.complement();
+        }
+        BddNode n = (BddNode) b;
+        Bdd nothing = BddAllOrNothing.bddNothing();
+        if (n.right().equals(nothing)) {
+            return bddCreate(n.atom(), nothing, bddComplement(bddUnion(n.left(), n.middle())),
+                    bddComplement(n.middle()));
+        } else if (n.left().equals(nothing)) {
+            return bddCreate(n.atom(), bddComplement(n.middle()), bddComplement(bddUnion(n.right(), n.middle())),
+                    nothing);
+        } else if (n.middle().equals(nothing)) {
+            return bddCreate(n.atom(), bddComplement(n.left()), bddComplement(bddUnion(n.left(), n.right())),
+                    bddComplement(n.right()));
+        }
+        return bddCreate(n.atom(), bddComplement(bddUnion(n.left(), n.middle())), nothing,
+                bddComplement(bddUnion(n.right(), n.middle())));
+    }
+
+    /**
+     * Checks whether the predicate holds for every path of the BDD which leads to true.
+     *
+     * @param tc        type check context
+     * @param b         BDD to check
+     * @param pos       atoms which are positive in the path so far
+     * @param neg       atoms which are negative in the path so far
+     * @param predicate predicate to check for each path
+     * @return true if the predicate holds for every path
+     */
+    public static boolean bddEvery(TypeCheckContext tc, Bdd b, Conjunction pos, Conjunction neg,
+                                   BddPredicate predicate) {
+        if (b instanceof BddAllOrNothing allOrNothing) {
+            return !allOrNothing.isAll() || predicate.apply(tc, pos, neg);
+        }
+        BddNode n = (BddNode) b;
+        return bddEvery(tc, n.left(), Conjunction.and(n.atom(), pos), neg, predicate)
+                && bddEvery(tc, n.middle(), pos, neg, predicate)
+                && bddEvery(tc, n.right(), pos, Conjunction.and(n.atom(), neg), predicate);
+    }
+
+    private static Bdd bddCreate(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        if (middle instanceof BddAllOrNothing allOrNothing && allOrNothing.isAll()) {
+            return middle;
+        }
+        if (left.equals(right)) {
+            return bddUnion(left, middle);
+        }
+        return BddNode.create(atom, left, middle, right);
+    }
+
+    // Recursive atoms are ordered before the type atoms
+    private static long atomCmp(Atom a1, Atom a2) {
+        if (a1 instanceof RecAtom) {
+            if (a2 instanceof RecAtom) {
+                return a1.index() - a2.index();
+            }
+            return -1;
+        } else if (a2 instanceof RecAtom) {
+            return 1;
+        }
+        return a1.index() - a2.index();
+    }
+
+    /**
+     * Predicate on the atoms of a path of a BDD.
+     */
+    @FunctionalInterface
+    public interface BddPredicate {
+
+        boolean apply(TypeCheckContext tc, Conjunction pos, Conjunction neg);
+    }
+}
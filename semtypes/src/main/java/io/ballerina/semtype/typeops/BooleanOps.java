@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.typeops;
+
+import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.TypeCheckContext;
+import io.ballerina.semtype.UniformTypeOps;
+import io.ballerina.semtype.subtypedata.BooleanSubtype;
+
+/**
+ * Boolean specific methods operate on SubtypeData.
+ *
+ * @since 2201.11.0
+ */
+public class BooleanOps implements UniformTypeOps {
+
+    @Override
+    public SubtypeData union(SubtypeData t1, SubtypeData t2) {
+        return ((BooleanSubtype) t1).union((BooleanSubtype) t2);
+    }
+
+    @Override
+    public SubtypeData intersect(SubtypeData t1, SubtypeData t2) {
+        return ((BooleanSubtype) t1).intersect((BooleanSubtype) t2);
+    }
+
+    @Override
+    public SubtypeData diff(SubtypeData t1, SubtypeData t2) {
+        return intersect(t1, complement(t2));
+    }
+
+    @Override
+    public SubtypeData complement(SubtypeData t) {
+        return ((BooleanSubtype) t).complement();
+    }
+
+    @Override
+    public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
+        // A proper subtype of boolean contains one of the boolean values
+        return false;
+    }
+}
@@ -17,32 +17,43 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
 import io.ballerina.semtype.CommonUniformTypeOps;
 import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.subtypedata.AllOrNothingSubtype;
+import io.ballerina.semtype.subtypedata.BddAllOrNothing;
 
 /**
- * Common methods operate on SubtypeData.
+ * Common methods operate on SubtypeData which are represented by BDDs.
  *
  * @since 2.0.0
  */
 public abstract class CommonOps implements CommonUniformTypeOps {
+
     @Override
     public SubtypeData union(SubtypeData t1, SubtypeData t2) {
-        throw new AssertionError();
+        return toSubtypeData(BddCommonOps.bddUnion((Bdd) t1, (Bdd) t2));
     }
 
     @Override
     public SubtypeData intersect(SubtypeData t1, SubtypeData t2) {
-        throw new AssertionError();
+        return toSubtypeData(BddCommonOps.bddIntersect((Bdd) t1, (Bdd) t2));
     }
 
     @Override
     public SubtypeData diff(SubtypeData t1, SubtypeData t2) {
-        throw new AssertionError();
+        return toSubtypeData(BddCommonOps.bddDiff((Bdd) t1, (Bdd) t2));
     }
 
     @Override
     public SubtypeData complement(SubtypeData t) {
-        throw new AssertionError();
+        return toSubtypeData(BddCommonOps.bddComplement((Bdd) t));
+    }
+
+    private static SubtypeData toSubtypeData(Bdd bdd) {
+        if (bdd instanceof BddAllOrNothing allOrNothing) {
+            return allOrNothing.isAll() ? AllOrNothingSubtype.createAll() : AllOrNothingSubtype.createNothing();
+        }
+        return bdd;
     }
 }
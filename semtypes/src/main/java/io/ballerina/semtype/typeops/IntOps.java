@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.typeops;
+
+import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.TypeCheckContext;
+import io.ballerina.semtype.UniformTypeOps;
+import io.ballerina.semtype.subtypedata.AllOrNothingSubtype;
+import io.ballerina.semtype.subtypedata.IntSubtype;
+
+/**
+ * Int specific methods operate on SubtypeData.
+ *
+ * @since 2201.11.0
+ */
+public class IntOps implements UniformTypeOps {
+
+    @Override
+    public SubtypeData union(SubtypeData t1, SubtypeData t2) {
+        return ((IntSubtype) t1).union((IntSubtype) t2);
+    }
+
+    @Override
+    public SubtypeData intersect(SubtypeData t1, SubtypeData t2) {
+        return ((IntSubtype) t1).intersect((IntSubtype) t2);
+    }
+
+    @Override
+    public SubtypeData diff(SubtypeData t1, SubtypeData t2) {
+        SubtypeData complement = complement(t2);
+        if (complement instanceof AllOrNothingSubtype allOrNothing) {
+            return allOrNothing.isAllSubtype() ? t1 : complement;
+        }
+        return intersect(t1, complement);
+    }
+
+    @Override
+    public SubtypeData complement(SubtypeData t) {
+        return ((IntSubtype) t).complement();
+    }
+
+    @Override
+    public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
+        // Proper int subtypes are never empty, since empty ranges are normalized to nothing
+        return false;
+    }
+}
@@ -17,9 +17,20 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Conjunction;
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.MappingAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
+import io.ballerina.semtype.SubtypeData;
+import io.ballerina.semtype.TypeCheckContext;
 import io.ballerina.semtype.UniformTypeOps;
 
-// todo: use this to place common things between Ro and RW, if there are non; delete this.
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Common mapping related methods operate on SubtypeData.
  *
@@ -27,4 +38,137 @@ import io.ballerina.semtype.UniformTypeOps;
  */
 public abstract class MappingCommonOps extends CommonOps implements UniformTypeOps {
 
+    @Override
+    public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
+        return tc.isMappingEmpty((Bdd) t,
+                bdd -> BddCommonOps.bddEvery(tc, bdd, null, null, MappingCommonOps::mappingFormulaIsEmpty));
+    }
+
+    private static boolean mappingFormulaIsEmpty(TypeCheckContext tc, Conjunction posList, Conjunction negList) {
+        MappingAtomicType combined;
+        if (posList == null) {
+            combined = MappingAtomicType.MAPPING_SUBTYPE_TOP;
+        } else {
+            // Combine all the positive atoms using intersection
+            combined = tc.mappingAtomType(posList.atom);
+            for (Conjunction p = posList.next; p != null; p = p.next) {
+                combined = intersectMapping(combined, tc.mappingAtomType(p.atom));
+                if (combined == null) {
+                    return true;
+                }
+            }
+            for (SemType type : combined.types) {
+                if (Core.isEmpty(tc, type)) {
+                    return true;
+                }
+            }
+        }
+        return !mappingInhabited(tc, combined, negList);
+    }
+
+    private static boolean mappingInhabited(TypeCheckContext tc, MappingAtomicType pos, Conjunction negList) {
+        if (negList == null) {
+            return true;
+        }
+        MappingAtomicType neg = tc.mappingAtomType(negList.atom);
+        List<FieldPair> pairing = pairFields(pos, neg);
+        // If the negative type is disjoint with the positive type, e.g. the negative type has required fields that
+        // the positive one does not allow or the types of a field do not overlap, then this negative type has no
+        // effect, so we can move on to the next one. This avoids exploring both branches of every field of a
+        // negative type, which is exponential for unions of records discriminated by a field.
+        for (FieldPair pair : pairing) {
+            if (Core.isNever(pair.type1) || Core.isNever(pair.type2) ||
+                    Core.isEmpty(tc, Core.intersect(pair.type1, pair.type2))) {
+                return mappingInhabited(tc, pos, negList.next);
+            }
+        }
+        if (!Core.isEmpty(tc, Core.diff(pos.rest, neg.rest))) {
+            return true;
+        }
+        for (FieldPair pair : pairing) {
+            SemType d = Core.diff(pair.type1, pair.type2);
+            if (Core.isEmpty(tc, d)) {
+                continue;
+            }
+            MappingAtomicType mt;
+            if (pair.index1 < 0) {
+                // The type of the field of the positive type comes from its rest type
+                mt = insertField(pos, pair.name, d);
+            } else {
+                SemType[] posTypes = Arrays.copyOf(pos.types, pos.types.length);
+                posTypes[pair.index1] = d;
+                mt = new MappingAtomicType(pos.names, posTypes, pos.rest);
+            }
+            if (mappingInhabited(tc, mt, negList.next)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MappingAtomicType intersectMapping(MappingAtomicType m1, MappingAtomicType m2) {
+        List<FieldPair> pairing = pairFields(m1, m2);
+        String[] names = new String[pairing.size()];
+        SemType[] types = new SemType[pairing.size()];
+        for (int i = 0; i < pairing.size(); i++) {
+            FieldPair pair = pairing.get(i);
+            SemType t = Core.intersect(pair.type1, pair.type2);
+            if (Core.isNever(t)) {
+                return null;
+            }
+            names[i] = pair.name;
+            types[i] = t;
+        }
+        return new MappingAtomicType(names, types, Core.intersect(m1.rest, m2.rest));
+    }
+
+    private static MappingAtomicType insertField(MappingAtomicType m, String name, SemType t) {
+        int index = -Arrays.binarySearch(m.names, name) - 1;
+        String[] names = new String[m.names.length + 1];
+        SemType[] types = new SemType[m.types.length + 1];
+        System.arraycopy(m.names, 0, names, 0, index);
+        System.arraycopy(m.types, 0, types, 0, index);
+        names[index] = name;
+        types[index] = t;
+        System.arraycopy(m.names, index, names, index + 1, m.names.length - index);
+        System.arraycopy(m.types, index, types, index + 1, m.types.length - index);
+        return new MappingAtomicType(names, types, m.rest);
+    }
+
+    // Pairs the fields of the given mappings by name
+    private static List<FieldPair> pairFields(MappingAtomicType m1, MappingAtomicType m2) {
+        List<FieldPair> pairs = new ArrayList<>(m1.names.length + m2.names.length);
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < m1.names.length || i2 < m2.names.length) {
+            int cmp;
+            if (i1 == m1.names.length) {
+                cmp = 1;
+            } else if (i2 == m2.names.length) {
+                cmp = -1;
+            } else {
+                cmp = m1.names[i1].compareTo(m2.names[i2]);
+            }
+            if (cmp < 0) {
+                pairs.add(new FieldPair(m1.names[i1], m1.types[i1], missingFieldType(m2), i1));
+                i1++;
+            } else if (cmp > 0) {
+                pairs.add(new FieldPair(m2.names[i2], missingFieldType(m1), m2.types[i2], -1));
+                i2++;
+            } else {
+                pairs.add(new FieldPair(m1.names[i1], m1.types[i1], m2.types[i2], i1));
+                i1++;
+                i2++;
+            }
+        }
+        return pairs;
+    }
+
+    // A field which is not one of the named fields of a mapping is either absent or has the rest type
+    private static SemType missingFieldType(MappingAtomicType m) {
+        return Core.union(m.rest, PredefinedType.UNDEF);
+    }
+
+    private record FieldPair(String name, SemType type1, SemType type2, int index1) {
+    }
 }
@@ -17,17 +17,10 @@
  */
 package io.ballerina.semtype.typeops;
 
-import io.ballerina.semtype.SubtypeData;
-import io.ballerina.semtype.TypeCheckContext;
-
 /**
  * Mapping read/write specific methods operate on SubtypeData.
  *
  * @since 2.0.0
  */
 public class MappingRWOps extends MappingCommonOps {
-    @Override
-    public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
-    }
 }
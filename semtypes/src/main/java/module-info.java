@@ -1,3 +1,5 @@
 module io.ballerina.semtype {
-
+    exports io.ballerina.semtype;
+    exports io.ballerina.semtype.definition;
+    exports io.ballerina.semtype.subtypedata;
 }
@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.definition.MappingDefinition;
+import io.ballerina.semtype.definition.MappingDefinition.Field;
+import io.ballerina.semtype.subtypedata.BooleanSubtype;
+import io.ballerina.semtype.subtypedata.IntSubtype;
+import io.ballerina.semtype.subtypedata.StringSubtype;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Tests the subtype relation computed by the semtype core.
+ *
+ * @since 2201.11.0
+ */
+public class SemTypeCoreTest {
+
+    private Env env;
+    private TypeCheckContext tc;
+
+    @BeforeMethod
+    public void setUp() {
+        env = new Env();
+        tc = new TypeCheckContext(env);
+    }
+
+    @Test
+    public void testSingletonSubtypes() {
+        SemType oneOrTwo = Core.union(IntSubtype.intConst(1), IntSubtype.intConst(2));
+        Assert.assertTrue(Core.isSubtype(tc, IntSubtype.intConst(1), oneOrTwo));
+        Assert.assertTrue(Core.isSubtype(tc, oneOrTwo, PredefinedType.INT));
+        Assert.assertTrue(Core.isSubtype(tc, oneOrTwo, PredefinedType.BYTE));
+        Assert.assertFalse(Core.isSubtype(tc, oneOrTwo, IntSubtype.intConst(2)));
+        Assert.assertFalse(Core.isSubtype(tc, PredefinedType.INT, oneOrTwo));
+
+        SemType ab = Core.union(StringSubtype.stringConst("a"), StringSubtype.stringConst("b"));
+        Assert.assertTrue(Core.isSubtype(tc, StringSubtype.stringConst("b"), ab));
+        Assert.assertFalse(Core.isSubtype(tc, StringSubtype.stringConst("c"), ab));
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(ab, oneOrTwo)));
+
+        SemType bool = Core.union(BooleanSubtype.booleanConst(true), BooleanSubtype.booleanConst(false));
+        Assert.assertTrue(Core.isSubtype(tc, PredefinedType.BOOLEAN, bool));
+        Assert.assertTrue(Core.isSubtype(tc, bool, PredefinedType.BOOLEAN));
+    }
+
+    @Test
+    public void testIntRanges() {
+        SemType signed8 = IntSubtype.intWidthSigned(8);
+        Assert.assertFalse(Core.isSubtype(tc, PredefinedType.BYTE, signed8));
+        Assert.assertTrue(Core.isSubtype(tc, Core.intersect(PredefinedType.BYTE, signed8),
+                IntSubtype.intWidthUnsigned(7)));
+        Assert.assertTrue(Core.isSubtype(tc, PredefinedType.INT,
+                Core.union(Core.complement(PredefinedType.BYTE), PredefinedType.BYTE)));
+        Assert.assertTrue(Core.isEmpty(tc, Core.diff(PredefinedType.BYTE, PredefinedType.INT)));
+    }
+
+    @Test
+    public void testUnionOfRecords() {
+        SemType[] kinds = new SemType[50];
+        SemType kind = PredefinedType.NEVER;
+        SemType union = PredefinedType.NEVER;
+        for (int i = 0; i < kinds.length; i++) {
+            kinds[i] = StringSubtype.stringConst("kind" + i);
+            kind = Core.union(kind, kinds[i]);
+            union = Core.union(union, closedRecord(List.of(new Field("kind", kinds[i]),
+                    new Field("value", IntSubtype.intConst(i)))));
+        }
+        SemType target = closedRecord(List.of(new Field("kind", kind), new Field("value", PredefinedType.INT)));
+        Assert.assertTrue(Core.isSubtype(tc, union, target));
+        Assert.assertFalse(Core.isSubtype(tc, target, union));
+
+        SemType member = closedRecord(List.of(new Field("kind", kinds[10]), new Field("value",
+                IntSubtype.intConst(10))));
+        Assert.assertTrue(Core.isSubtype(tc, member, union));
+        SemType nonMember = closedRecord(List.of(new Field("kind", kinds[10]), new Field("value",
+                IntSubtype.intConst(11))));
+        Assert.assertFalse(Core.isSubtype(tc, nonMember, union));
+    }
+
+    @Test
+    public void testRecordsAndMaps() {
+        SemType intMap = new MappingDefinition().define(env, List.of(), PredefinedType.INT);
+        SemType record = closedRecord(List.of(new Field("a", PredefinedType.BYTE), new Field("b",
+                PredefinedType.INT)));
+        SemType openRecord = new MappingDefinition().define(env, List.of(new Field("a", PredefinedType.INT)),
+                PredefinedType.INT);
+        Assert.assertTrue(Core.isSubtype(tc, record, intMap));
+        Assert.assertTrue(Core.isSubtype(tc, record, openRecord));
+        Assert.assertFalse(Core.isSubtype(tc, openRecord, record));
+        Assert.assertFalse(Core.isSubtype(tc, intMap, openRecord));
+        Assert.assertTrue(Core.isSubtype(tc, openRecord, intMap));
+        Assert.assertFalse(Core.isSubtype(tc, record, closedRecord(List.of(new Field("a", PredefinedType.INT)))));
+
+        SemType optionalB = closedRecord(List.of(new Field("a", PredefinedType.INT),
+                Field.optionalField("b", PredefinedType.INT)));
+        Assert.assertTrue(Core.isSubtype(tc, record, optionalB));
+        Assert.assertTrue(Core.isSubtype(tc, closedRecord(List.of(new Field("a", PredefinedType.INT))), optionalB));
+        Assert.assertFalse(Core.isSubtype(tc, optionalB, record));
+        Assert.assertTrue(Core.isSubtype(tc, optionalB, intMap));
+    }
+
+    @Test
+    public void testRecursiveRecords() {
+        // type IntList record {| int value; IntList? next; |};
+        MappingDefinition intList = new MappingDefinition();
+        SemType intListType = intList.getSemType(env);
+        intList.define(env, List.of(new Field("value", PredefinedType.INT),
+                new Field("next", Core.union(intListType, PredefinedType.NIL))), PredefinedType.NEVER);
+
+        // type ValueList record {| int|string value; ValueList? next; |};
+        MappingDefinition valueList = new MappingDefinition();
+        SemType valueListType = valueList.getSemType(env);
+        valueList.define(env, List.of(new Field("value", Core.union(PredefinedType.INT, PredefinedType.STRING)),
+                new Field("next", Core.union(valueListType, PredefinedType.NIL))), PredefinedType.NEVER);
+
+        Assert.assertTrue(Core.isSubtype(tc, intListType, valueListType));
+        Assert.assertFalse(Core.isSubtype(tc, valueListType, intListType));
+        // Memoized results of the previous checks are reused
+        Assert.assertTrue(Core.isSubtype(tc, intListType, valueListType));
+        Assert.assertFalse(Core.isSubtype(tc, valueListType, intListType));
+
+        // type Infinite record {| Infinite next; |}; has no values
+        MappingDefinition infinite = new MappingDefinition();
+        SemType infiniteType = infinite.getSemType(env);
+        infinite.define(env, List.of(new Field("next", infiniteType)), PredefinedType.NEVER);
+        Assert.assertTrue(Core.isEmpty(tc, infiniteType));
+    }
+
+    @Test
+    public void testResultsAssumingCycleIsEmptyAreDiscarded() {
+        // type Y record {| X x; |};
+        // type X record {| Y y; |}|record {| int i; |};
+        MappingDefinition y = new MappingDefinition();
+        SemType yType = y.getSemType(env);
+        SemType xType = Core.union(closedRecord(List.of(new Field("y", yType))),
+                closedRecord(List.of(new Field("i", PredefinedType.INT))));
+        y.define(env, List.of(new Field("x", xType)), PredefinedType.NEVER);
+
+        // type Z record {| X a; never b; |}; is empty. Y is found empty while checking X, assuming X is empty as X
+        // is reached again through Y, and that result must not outlive the check of X.
+        SemType zType = closedRecord(List.of(new Field("a", xType), new Field("b", PredefinedType.NEVER)));
+        Assert.assertTrue(Core.isEmpty(tc, zType));
+        Assert.assertFalse(Core.isEmpty(tc, xType));
+        Assert.assertFalse(Core.isEmpty(tc, yType));
+    }
+
+    private SemType closedRecord(List<Field> fields) {
+        return new MappingDefinition().define(env, fields, PredefinedType.NEVER);
+    }
+}
@@ -0,0 +1,67 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const HOF_INPUT_SIZE = 10000;
+
+final int[] hofInput = getHofInput();
+
+isolated function getHofInput() returns int[] {
+    int[] input = [];
+    foreach int i in 0 ..< HOF_INPUT_SIZE {
+        input.push(i);
+    }
+    return input;
+}
+
+public function benchmarkArrayHofPipeline() {
+    int sum = hofInput.map(isolated function(int value) returns int => value * 2)
+        .filter(isolated function(int value) returns boolean => value % 3 == 0)
+        .reduce(isolated function(int total, int value) returns int => total + value, 0);
+    checkHofResult(sum);
+}
+
+public function benchmarkArrayHandWrittenPipeline() {
+    int sum = 0;
+    foreach int value in hofInput {
+        int doubled = value * 2;
+        if doubled % 3 == 0 {
+            sum += doubled;
+        }
+    }
+    checkHofResult(sum);
+}
+
+public function benchmarkArrayHofForEach() {
+    int sum = 0;
+    hofInput.forEach(function(int value) {
+        sum += value;
+    });
+    checkHofResult(sum);
+}
+
+public function benchmarkArrayHandWrittenForEach() {
+    int sum = 0;
+    foreach int value in hofInput {
+        sum += value;
+    }
+    checkHofResult(sum);
+}
+
+isolated function checkHofResult(int sum) {
+    if sum <= 0 {
+        panic error("invalid result: " + sum.toString());
+    }
+}
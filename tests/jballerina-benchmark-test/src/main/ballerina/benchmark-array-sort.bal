@@ -0,0 +1,70 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const SORT_INPUT_SIZE = 10000;
+
+final int[] intSortInput = getIntSortInput();
+final float[] floatSortInput = getFloatSortInput();
+final string[] stringSortInput = getStringSortInput();
+
+isolated function getIntSortInput() returns int[] {
+    int[] input = [];
+    int seed = 42;
+    foreach int i in 0 ..< SORT_INPUT_SIZE {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        input.push(seed);
+    }
+    return input;
+}
+
+isolated function getFloatSortInput() returns float[] {
+    return from int value in getIntSortInput() select <float>value / 7.0 + 1.0;
+}
+
+isolated function getStringSortInput() returns string[] {
+    return from int value in getIntSortInput() select "item-" + value.toString();
+}
+
+public function benchmarkArraySortInt() {
+    int[] sorted = intSortInput.sort();
+    checkSortResult(sorted[0] <= sorted[SORT_INPUT_SIZE - 1]);
+}
+
+public function benchmarkArraySortIntDescending() {
+    int[] sorted = intSortInput.sort("descending");
+    checkSortResult(sorted[0] >= sorted[SORT_INPUT_SIZE - 1]);
+}
+
+public function benchmarkArraySortFloat() {
+    float[] sorted = floatSortInput.sort();
+    checkSortResult(sorted[0] <= sorted[SORT_INPUT_SIZE - 1]);
+}
+
+public function benchmarkArraySortString() {
+    string[] sorted = stringSortInput.sort();
+    checkSortResult(sorted[0] <= sorted[SORT_INPUT_SIZE - 1]);
+}
+
+public function benchmarkArraySortIntWithKey() {
+    int[] sorted = intSortInput.sort("ascending", isolated function(int value) returns int => value % 1000);
+    checkSortResult(sorted[0] % 1000 <= sorted[SORT_INPUT_SIZE - 1] % 1000);
+}
+
+isolated function checkSortResult(boolean sorted) {
+    if !sorted {
+        panic error("array is not sorted");
+    }
+}
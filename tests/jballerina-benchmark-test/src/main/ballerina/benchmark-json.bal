@@ -0,0 +1,58 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Item record {|
+    int id;
+    string name;
+    int quantity;
+    decimal price;
+|};
+
+// Roughly 1KB and 100KB of JSON text
+final string smallJsonPayload = createJsonPayload(16);
+final string largeJsonPayload = createJsonPayload(1600);
+
+isolated function createJsonPayload(int itemCount) returns string {
+    Item[] items = [];
+    foreach int i in 0 ..< itemCount {
+        items.push({id: i, name: "item-" + i.toString(), quantity: i * 3, price: 10.25});
+    }
+    return items.toJsonString();
+}
+
+public function benchmarkJsonParseSmall() {
+    checkJsonResult(checkpanic smallJsonPayload.fromJsonString(), 16);
+}
+
+public function benchmarkJsonParseLarge() {
+    checkJsonResult(checkpanic largeJsonPayload.fromJsonString(), 1600);
+}
+
+public function benchmarkJsonParseToRecordsSmall() {
+    Item[] items = checkpanic smallJsonPayload.fromJsonStringWithType();
+    checkJsonResult(items, 16);
+}
+
+public function benchmarkJsonParseToRecordsLarge() {
+    Item[] items = checkpanic largeJsonPayload.fromJsonStringWithType();
+    checkJsonResult(items, 1600);
+}
+
+isolated function checkJsonResult(anydata result, int itemCount) {
+    if result !is anydata[] || result.length() != itemCount {
+        panic error("unexpected parse result");
+    }
+}
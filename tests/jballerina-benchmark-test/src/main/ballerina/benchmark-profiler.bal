@@ -0,0 +1,40 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Every call of a Ballerina function is instrumented by the profiler, so comparing the results of this benchmark
+// with and without `bal profile` gives the overhead per profiled call.
+public function benchmarkProfiledFunctionCalls(int warmupCount, int benchmarkCount) returns int {
+    int total = callProfiledFunctions(warmupCount);
+    int startTime = nanoTime();
+    total += callProfiledFunctions(benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    if total < 0 {
+        panic error("unexpected total: " + total.toString());
+    }
+    return totalTime;
+}
+
+function callProfiledFunctions(int count) returns int {
+    int total = 0;
+    foreach int i in 0 ..< count {
+        total += square(i % 100);
+    }
+    return total;
+}
+
+function square(int value) returns int {
+    return value * value;
+}
@@ -0,0 +1,88 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const QUERY_INPUT_SIZE = 1000;
+const QUERY_DEPARTMENT_COUNT = 10;
+
+type Sale record {|
+    int id;
+    int departmentId;
+    string product;
+    int amount;
+|};
+
+type SalesDepartment record {|
+    int id;
+    string name;
+|};
+
+final Sale[] & readonly sales = createSales();
+final SalesDepartment[] & readonly salesDepartments = createSalesDepartments();
+
+isolated function createSales() returns Sale[] & readonly {
+    Sale[] result = [];
+    int seed = 7;
+    foreach int i in 0 ..< QUERY_INPUT_SIZE {
+        seed = (seed * 1103515245 + 12345) % 2147483648;
+        result.push({id: i, departmentId: i % QUERY_DEPARTMENT_COUNT, product: "product-" + (seed % 100).toString(),
+                     amount: seed % 1000});
+    }
+    return result.cloneReadOnly();
+}
+
+isolated function createSalesDepartments() returns SalesDepartment[] & readonly {
+    SalesDepartment[] result = [];
+    foreach int i in 0 ..< QUERY_DEPARTMENT_COUNT {
+        result.push({id: i, name: "department-" + i.toString()});
+    }
+    return result.cloneReadOnly();
+}
+
+public function benchmarkQueryFilterSelect() {
+    int[] amounts = from Sale sale in sales
+        where sale.amount > 500
+        let int doubled = sale.amount * 2
+        select doubled;
+    checkQueryResult(amounts.length() < QUERY_INPUT_SIZE);
+}
+
+public function benchmarkQueryJoin() {
+    string[] result = from Sale sale in sales
+        join SalesDepartment department in salesDepartments
+        on sale.departmentId equals department.id
+        select department.name;
+    checkQueryResult(result.length() == QUERY_INPUT_SIZE);
+}
+
+public function benchmarkQueryGroupBy() {
+    int[] totals = from var {departmentId, amount} in sales
+        group by departmentId
+        select sum(amount);
+    checkQueryResult(totals.length() == QUERY_DEPARTMENT_COUNT);
+}
+
+public function benchmarkQueryOrderBy() {
+    Sale[] sorted = from Sale sale in sales
+        order by sale.amount descending, sale.product
+        select sale;
+    checkQueryResult(sorted[0].amount >= sorted[QUERY_INPUT_SIZE - 1].amount);
+}
+
+isolated function checkQueryResult(boolean valid) {
+    if !valid {
+        panic error("unexpected query result");
+    }
+}
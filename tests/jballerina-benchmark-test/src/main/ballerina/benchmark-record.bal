@@ -0,0 +1,59 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const RECORD_COUNT = 1000;
+
+type Employee record {|
+    int id;
+    string name;
+    float salary;
+    boolean active;
+|};
+
+final Employee[] employees = createEmployees();
+
+isolated function createEmployees() returns Employee[] {
+    Employee[] result = [];
+    foreach int i in 0 ..< RECORD_COUNT {
+        result.push({id: i, name: "employee", salary: <float>i * 1.5, active: i % 2 == 0});
+    }
+    return result;
+}
+
+public function benchmarkRecordCreation() {
+    Employee[] created = createEmployees();
+    if created.length() != RECORD_COUNT {
+        panic error("unexpected number of records: " + created.length().toString());
+    }
+}
+
+public function benchmarkRecordFieldAccess() {
+    int ids = 0;
+    float salaries = 0.0;
+    foreach Employee employee in employees {
+        ids += employee.id;
+        salaries += employee.salary;
+    }
+    if ids != RECORD_COUNT * (RECORD_COUNT - 1) / 2 || salaries <= 0.0 {
+        panic error("unexpected field values");
+    }
+}
+
+public function benchmarkRecordFieldUpdate() {
+    foreach Employee employee in employees {
+        employee.active = !employee.active;
+    }
+}
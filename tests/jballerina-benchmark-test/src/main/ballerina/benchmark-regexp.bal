@@ -0,0 +1,51 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+final string:RegExp emailPattern = re `[A-Za-z0-9._]+@[A-Za-z0-9]+\.[a-z]{2,}`;
+final string:RegExp whitespacePattern = re `\s+`;
+
+const REGEXP_INPUT = "Contact john.doe@example.com or jane_doe@example.org for details";
+
+public function benchmarkRegExpFind() {
+    if emailPattern.find(REGEXP_INPUT) is () {
+        panic error("no match found");
+    }
+}
+
+public function benchmarkRegExpFindAll() {
+    if emailPattern.findAll(REGEXP_INPUT).length() != 2 {
+        panic error("unexpected number of matches");
+    }
+}
+
+public function benchmarkRegExpIsFullMatch() {
+    if !emailPattern.isFullMatch("john.doe@example.com") {
+        panic error("no full match found");
+    }
+}
+
+public function benchmarkRegExpReplaceAll() {
+    string result = whitespacePattern.replaceAll("a  regular   expression    benchmark", " ");
+    if result != "a regular expression benchmark" {
+        panic error("unexpected result: " + result);
+    }
+}
+
+public function benchmarkRegExpSplit() {
+    if whitespacePattern.split(REGEXP_INPUT).length() != 6 {
+        panic error("unexpected number of parts");
+    }
+}
@@ -0,0 +1,44 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+class Accumulator {
+    int total = 0;
+
+    function add(int value, int step = 1) returns int {
+        self.total += value * step;
+        return self.total;
+    }
+}
+
+final Accumulator accumulator = new;
+
+public function benchmarkRuntimeCallMethodByName() {
+    callMethodByName(accumulator);
+}
+
+public function benchmarkRuntimeCallResolvedMethod() {
+    callResolvedMethod(accumulator);
+}
+
+function callMethodByName(Accumulator accumulator) = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.RuntimeCalls"
+} external;
+
+function callResolvedMethod(Accumulator accumulator) = @java:Method {
+    'class: "org.ballerinalang.benchmark.nativeimpl.RuntimeCalls"
+} external;
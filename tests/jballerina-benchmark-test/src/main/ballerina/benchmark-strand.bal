@@ -0,0 +1,51 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const STRAND_COUNT = 100;
+
+public function benchmarkStartNonIsolatedFunction() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures.push(start increment(i));
+    }
+    checkStrandResults(futures);
+}
+
+public function benchmarkStartIsolatedFunction() {
+    future<int>[] futures = [];
+    foreach int i in 0 ..< STRAND_COUNT {
+        futures.push(start isolatedIncrement(i));
+    }
+    checkStrandResults(futures);
+}
+
+function increment(int value) returns int {
+    return value + 1;
+}
+
+isolated function isolatedIncrement(int value) returns int {
+    return value + 1;
+}
+
+function checkStrandResults(future<int>[] futures) {
+    int total = 0;
+    foreach future<int> f in futures {
+        total += checkpanic wait f;
+    }
+    if total != STRAND_COUNT * (STRAND_COUNT + 1) / 2 {
+        panic error("unexpected total: " + total.toString());
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Account record {|
+    readonly int id;
+    readonly string code;
+    decimal balance;
+|};
+
+type AccountTable table<Account> key(id);
+type AccountCodeTable table<Account> key(code);
+type AccountCompositeKeyTable table<Account> key(id, code);
+
+public function benchmarkTableIntKeyPut(int warmupCount, int benchmarkCount) returns int {
+    _ = createAccountTable(warmupCount);
+    int startTime = nanoTime();
+    AccountTable accounts = createAccountTable(benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    checkTableLength(accounts.length(), benchmarkCount);
+    return totalTime;
+}
+
+public function benchmarkTableIntKeyGet(int warmupCount, int benchmarkCount) returns int {
+    AccountTable accounts = createAccountTable(warmupCount);
+    foreach int i in 0 ..< warmupCount {
+        _ = accounts.get(i);
+    }
+    accounts = createAccountTable(benchmarkCount);
+    int startTime = nanoTime();
+    foreach int i in 0 ..< benchmarkCount {
+        _ = accounts.get(i);
+    }
+    return nanoTime() - startTime;
+}
+
+public function benchmarkTableStringKeyGet(int warmupCount, int benchmarkCount) returns int {
+    AccountCodeTable accounts = createAccountCodeTable(warmupCount);
+    foreach int i in 0 ..< warmupCount {
+        _ = accounts.hasKey("account-" + i.toString());
+    }
+    accounts = createAccountCodeTable(benchmarkCount);
+    string[] codes = from int i in 0 ..< benchmarkCount select "account-" + i.toString();
+    int startTime = nanoTime();
+    foreach string code in codes {
+        _ = accounts.get(code);
+    }
+    return nanoTime() - startTime;
+}
+
+public function benchmarkTableCompositeKeyPut(int warmupCount, int benchmarkCount) returns int {
+    _ = createAccountCompositeKeyTable(warmupCount);
+    int startTime = nanoTime();
+    AccountCompositeKeyTable accounts = createAccountCompositeKeyTable(benchmarkCount);
+    int totalTime = nanoTime() - startTime;
+    checkTableLength(accounts.length(), benchmarkCount);
+    return totalTime;
+}
+
+function createAccountTable(int count) returns AccountTable {
+    AccountTable accounts = table [];
+    foreach int i in 0 ..< count {
+        accounts.put({id: i, code: "account-" + i.toString(), balance: 100});
+    }
+    return accounts;
+}
+
+function createAccountCodeTable(int count) returns AccountCodeTable {
+    AccountCodeTable accounts = table [];
+    foreach int i in 0 ..< count {
+        accounts.put({id: i, code: "account-" + i.toString(), balance: 100});
+    }
+    return accounts;
+}
+
+function createAccountCompositeKeyTable(int count) returns AccountCompositeKeyTable {
+    AccountCompositeKeyTable accounts = table [];
+    foreach int i in 0 ..< count {
+        accounts.put({id: i, code: "account-" + i.toString(), balance: 100});
+    }
+    return accounts;
+}
+
+function checkTableLength(int length, int expectedLength) {
+    if length != expectedLength {
+        panic error("unexpected table length: " + length.toString());
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Circle record {|
+    "circle" kind;
+    float radius;
+|};
+
+type Square record {|
+    "square" kind;
+    float side;
+|};
+
+type Rectangle record {|
+    "rectangle" kind;
+    float width;
+    float height;
+|};
+
+type Triangle record {|
+    "triangle" kind;
+    float base;
+    float height;
+|};
+
+type Ellipse record {|
+    "ellipse" kind;
+    float major;
+    float minor;
+|};
+
+type Polygon record {|
+    "polygon" kind;
+    float[] sides;
+|};
+
+type Shape Circle|Square|Rectangle|Triangle|Ellipse|Polygon;
+
+Shape[] shapes = [
+    {kind: "circle", radius: 1.0},
+    {kind: "square", side: 2.0},
+    {kind: "rectangle", width: 2.0, height: 3.0},
+    {kind: "triangle", base: 3.0, height: 4.0},
+    {kind: "ellipse", major: 4.0, minor: 2.0},
+    {kind: "polygon", sides: [1.0, 2.0, 3.0, 4.0, 5.0]}
+];
+
+public function benchmarkIsCheckOnRecordUnion() {
+    int count = 0;
+    foreach Shape shape in shapes {
+        if shape is Circle {
+            count += 1;
+        } else if shape is Square {
+            count += 2;
+        } else if shape is Rectangle {
+            count += 3;
+        } else if shape is Triangle {
+            count += 4;
+        } else if shape is Ellipse {
+            count += 5;
+        } else {
+            count += 6;
+        }
+    }
+}
+
+public function benchmarkCastToRecordUnion() {
+    foreach Shape shape in shapes {
+        any value = shape;
+        Shape result = <Shape>value;
+    }
+}
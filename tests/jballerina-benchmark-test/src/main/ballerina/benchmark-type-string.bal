@@ -25,6 +25,16 @@ public function benchmarkStringConcat() {
     string s3 = s2 + s2;
 }
 
+public function benchmarkStringConcatLoop() {
+    string s = "";
+    foreach int i in 0 ..< 2000 {
+        s += "item";
+    }
+    if s.length() != 8000 {
+        panic error("unexpected length: " + s.length().toString());
+    }
+}
+
 public function benchmarkStringHasPrefix() {
     string name = "randomPerson";
     string prefix = "Mr";
@@ -0,0 +1,63 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public function benchmarkWorkerMessagePassing() {
+    worker producer returns error? {
+        1 -> consumer;
+        2 -> consumer;
+        3 -> consumer;
+        4 -> consumer;
+        int total = <- consumer;
+        if total != 10 {
+            return error("unexpected total: " + total.toString());
+        }
+    }
+
+    worker consumer returns error? {
+        int a = <- producer;
+        int b = <- producer;
+        int c = <- producer;
+        int d = <- producer;
+        a + b + c + d -> producer;
+    }
+
+    error? result = wait producer;
+    if result is error {
+        panic result;
+    }
+}
+
+public function benchmarkWorkerAsyncSend() {
+    worker producer {
+        "a" ->> consumer;
+        "b" ->> consumer;
+        "c" ->> consumer;
+        "d" ->> consumer;
+    }
+
+    worker consumer returns string {
+        string a = <- producer;
+        string b = <- producer;
+        string c = <- producer;
+        string d = <- producer;
+        return a + b + c + d;
+    }
+
+    string result = wait consumer;
+    if result != "abcd" {
+        panic error("unexpected result: " + result);
+    }
+}
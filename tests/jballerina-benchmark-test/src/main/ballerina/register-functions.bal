@@ -36,6 +36,11 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkTableIntKeyPut", benchmarkTableIntKeyPut);
+    addSingleExecFunction("benchmarkTableIntKeyGet", benchmarkTableIntKeyGet);
+    addSingleExecFunction("benchmarkTableStringKeyGet", benchmarkTableStringKeyGet);
+    addSingleExecFunction("benchmarkTableCompositeKeyPut", benchmarkTableCompositeKeyPut);
+    addSingleExecFunction("benchmarkProfiledFunctionCalls", benchmarkProfiledFunctionCalls);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +60,7 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkStringConcatLoop", benchmarkStringConcatLoop);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
@@ -63,4 +69,39 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkFloatSubtractionWithReturn", benchmarkFloatSubtractionWithReturn);
     addMultiExecFunction("benchmarkFloatDivision", benchmarkFloatDivision);
     addMultiExecFunction("benchmarkFloatDivisionWithReturn", benchmarkFloatDivisionWithReturn);
+    addMultiExecFunction("benchmarkIsCheckOnRecordUnion", benchmarkIsCheckOnRecordUnion);
+    addMultiExecFunction("benchmarkCastToRecordUnion", benchmarkCastToRecordUnion);
+    addMultiExecFunction("benchmarkRuntimeCallMethodByName", benchmarkRuntimeCallMethodByName);
+    addMultiExecFunction("benchmarkRuntimeCallResolvedMethod", benchmarkRuntimeCallResolvedMethod);
+    addMultiExecFunction("benchmarkArrayHofPipeline", benchmarkArrayHofPipeline);
+    addMultiExecFunction("benchmarkArrayHandWrittenPipeline", benchmarkArrayHandWrittenPipeline);
+    addMultiExecFunction("benchmarkArrayHofForEach", benchmarkArrayHofForEach);
+    addMultiExecFunction("benchmarkArrayHandWrittenForEach", benchmarkArrayHandWrittenForEach);
+    addMultiExecFunction("benchmarkRegExpFind", benchmarkRegExpFind);
+    addMultiExecFunction("benchmarkRegExpFindAll", benchmarkRegExpFindAll);
+    addMultiExecFunction("benchmarkRegExpIsFullMatch", benchmarkRegExpIsFullMatch);
+    addMultiExecFunction("benchmarkRegExpReplaceAll", benchmarkRegExpReplaceAll);
+    addMultiExecFunction("benchmarkRegExpSplit", benchmarkRegExpSplit);
+    addMultiExecFunction("benchmarkArraySortInt", benchmarkArraySortInt);
+    addMultiExecFunction("benchmarkArraySortIntDescending", benchmarkArraySortIntDescending);
+    addMultiExecFunction("benchmarkArraySortFloat", benchmarkArraySortFloat);
+    addMultiExecFunction("benchmarkArraySortString", benchmarkArraySortString);
+    addMultiExecFunction("benchmarkArraySortIntWithKey", benchmarkArraySortIntWithKey);
+    addMultiExecFunction("benchmarkConcurrentTransactions", benchmarkConcurrentTransactions);
+    addMultiExecFunction("benchmarkWorkerMessagePassing", benchmarkWorkerMessagePassing);
+    addMultiExecFunction("benchmarkWorkerAsyncSend", benchmarkWorkerAsyncSend);
+    addMultiExecFunction("benchmarkStartNonIsolatedFunction", benchmarkStartNonIsolatedFunction);
+    addMultiExecFunction("benchmarkStartIsolatedFunction", benchmarkStartIsolatedFunction);
+    addMultiExecFunction("benchmarkRecordCreation", benchmarkRecordCreation);
+    addMultiExecFunction("benchmarkRecordFieldAccess", benchmarkRecordFieldAccess);
+    addMultiExecFunction("benchmarkRecordFieldUpdate", benchmarkRecordFieldUpdate);
+    addMultiExecFunction("benchmarkJsonParseSmall", benchmarkJsonParseSmall);
+    addMultiExecFunction("benchmarkJsonParseLarge", benchmarkJsonParseLarge);
+    addMultiExecFunction("benchmarkJsonParseToRecordsSmall", benchmarkJsonParseToRecordsSmall);
+    addMultiExecFunction("benchmarkJsonParseToRecordsLarge", benchmarkJsonParseToRecordsLarge);
+    addMultiExecFunction("benchmarkQueryFilterSelect", benchmarkQueryFilterSelect);
+    addMultiExecFunction("benchmarkQueryJoin", benchmarkQueryJoin);
+    addMultiExecFunction("benchmarkQueryGroupBy", benchmarkQueryGroupBy);
+    addMultiExecFunction("benchmarkQueryOrderBy", benchmarkQueryOrderBy);
+    addMultiExecFunction("benchmarkConcurrentGaugeUpdates", benchmarkConcurrentGaugeUpdates);
 }
@@ -1,5 +1,7 @@
 module io.ballerina.benchmark {
     requires io.ballerina.lang;
     requires io.ballerina.runtime;
+    requires io.ballerina.observe.metrics.extension.defaultimpl;
+    requires java.transaction.xa;
     exports org.ballerinalang.benchmark.nativeimpl;
 }
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import org.ballerinalang.observe.metrics.extension.defaultimpl.DefaultMetricProvider;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * This class holds the native functions used to benchmark concurrent gauge updates of the default metric provider.
+ *
+ * @since 2201.11.0
+ */
+public final class GaugeRecordings {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int UPDATES_PER_THREAD = 1000;
+    private static final Gauge GAUGE = Gauge.builder("benchmark_gauge").description("Benchmark Gauge")
+            .register(new MetricRegistry(new DefaultMetricProvider()));
+    // The workers are created once and reused, so that only the updates are measured in each iteration.
+    private static final CyclicBarrier START = new CyclicBarrier(THREAD_COUNT + 1);
+    private static final CyclicBarrier END = new CyclicBarrier(THREAD_COUNT + 1);
+
+    static {
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Thread worker = new Thread(GaugeRecordings::updateGauge, "gauge-benchmark-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    private GaugeRecordings() {
+    }
+
+    public static void runConcurrentGaugeUpdates() {
+        double initialValue = GAUGE.getValue();
+        try {
+            START.await();
+            END.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ErrorCreator.createError(e);
+        } catch (BrokenBarrierException e) {
+            throw ErrorCreator.createError(e);
+        }
+        double expectedValue = initialValue + THREAD_COUNT * UPDATES_PER_THREAD;
+        if (GAUGE.getValue() != expectedValue) {
+            throw ErrorCreator.createError(StringUtils.fromString("unexpected gauge value: " + GAUGE.getValue()));
+        }
+    }
+
+    private static void updateGauge() {
+        try {
+            while (true) {
+                START.await();
+                for (int j = 0; j < UPDATES_PER_THREAD; j++) {
+                    GAUGE.increment(2);
+                    GAUGE.decrement(1);
+                }
+                END.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (BrokenBarrierException e) {
+            // The benchmark is no longer running.
+        }
+    }
+}
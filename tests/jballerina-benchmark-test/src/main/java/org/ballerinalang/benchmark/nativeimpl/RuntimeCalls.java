@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.MethodInvoker;
+import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BObject;
+
+/**
+ * This class holds the native functions used to benchmark calling Ballerina methods through the runtime API.
+ *
+ * @since 2201.11.0
+ */
+public final class RuntimeCalls {
+
+    private static final int CALL_COUNT = 100;
+    private static final String METHOD_NAME = "add";
+
+    private RuntimeCalls() {
+    }
+
+    public static void callMethodByName(Environment env, BObject object) {
+        Runtime runtime = env.getRuntime();
+        for (long i = 0; i < CALL_COUNT; i++) {
+            runtime.callMethod(object, METHOD_NAME, null, i);
+        }
+    }
+
+    public static void callResolvedMethod(Environment env, BObject object) {
+        ObjectType objectType = (ObjectType) TypeUtils.getImpliedType(object.getOriginalType());
+        MethodInvoker invoker = env.getRuntime().resolveMethod(objectType, METHOD_NAME);
+        for (long i = 0; i < CALL_COUNT; i++) {
+            invoker.call(object, null, i);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.benchmark.nativeimpl;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * This class holds the native functions used to benchmark concurrent transactions in the transaction resource
+ * manager.
+ *
+ * @since 2201.11.0
+ */
+public final class TransactionRegistrations {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int TRANSACTIONS_PER_THREAD = 250;
+    private static final String TRANSACTION_BLOCK_ID = "block";
+    private static final AtomicLong nextTransactionId = new AtomicLong();
+
+    private TransactionRegistrations() {
+    }
+
+    public static void runConcurrentTransactions() {
+        TransactionResourceManager manager = TransactionResourceManager.getInstance();
+        AtomicInteger commitCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[THREAD_COUNT];
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < TRANSACTIONS_PER_THREAD; j++) {
+                    String transactionId = Long.toString(nextTransactionId.incrementAndGet());
+                    // Two participants of the same transaction
+                    manager.register(transactionId, TRANSACTION_BLOCK_ID, new NoOpTransactionContext(commitCount));
+                    manager.register(transactionId, TRANSACTION_BLOCK_ID, new NoOpTransactionContext(commitCount));
+                    manager.beginXATransaction(transactionId, TRANSACTION_BLOCK_ID, NoOpXAResource.INSTANCE);
+                    manager.notifyCommit(transactionId, TRANSACTION_BLOCK_ID);
+                    manager.cleanTransaction(transactionId, TRANSACTION_BLOCK_ID);
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        try {
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ErrorCreator.createError(e);
+        }
+        if (commitCount.get() != 2 * THREAD_COUNT * TRANSACTIONS_PER_THREAD) {
+            throw ErrorCreator.createError(StringUtils.fromString("unexpected number of commits: " + commitCount));
+        }
+    }
+
+    private static class NoOpTransactionContext implements BallerinaTransactionContext {
+
+        private final AtomicInteger commitCount;
+
+        NoOpTransactionContext(AtomicInteger commitCount) {
+            this.commitCount = commitCount;
+        }
+
+        @Override
+        public void commit() {
+            commitCount.incrementAndGet();
+        }
+
+        @Override
+        public void rollback() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return null;
+        }
+    }
+
+    private static class NoOpXAResource implements XAResource {
+
+        private static final NoOpXAResource INSTANCE = new NoOpXAResource();
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) {
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource == this;
+        }
+
+        @Override
+        public int prepare(Xid xid) {
+            return XA_OK;
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.benchmark.compiler;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.Project;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.io.PrintStream;
+
+/**
+ * Benchmarks the time taken to compile sources which stress the type checker, and to build a package with
+ * several independent modules with and without parallel code generation.
+ * <p>
+ * The number of iterations can be set with the {@code compile.warmup.iterations} and
+ * {@code compile.benchmark.iterations} system properties.
+ *
+ * @since 2201.11.0
+ */
+public class CompileTimeBenchmarkTest {
+
+    private static final PrintStream OUT = System.out;
+    private static final int WARMUP_ITERATIONS = Integer.getInteger("compile.warmup.iterations", 3);
+    private static final int BENCHMARK_ITERATIONS = Integer.getInteger("compile.benchmark.iterations", 10);
+    private static final String SOURCE_DIR = "test-src/benchmark/compile-time/";
+    private static final String SEMTYPE_CHECK_PROPERTY = "ballerina.semtype.check";
+    private static final int CODEGEN_PARALLELISM = 4;
+
+    @Test
+    public void benchmarkTypeRelations() {
+        CompileResult result = benchmark("type-relations.bal");
+        Types types = Types.getInstance(
+                result.project().projectEnvironmentContext().getService(CompilerContext.class));
+        OUT.printf("type relation cache: %d hits, %d misses, hit rate %.2f%n", types.getTypeRelationCacheHitCount(),
+                types.getTypeRelationCacheMissCount(), types.getTypeRelationCacheHitRate());
+        Assert.assertTrue(types.getTypeRelationCacheHitCount() > 0);
+    }
+
+    @Test
+    public void benchmarkSemTypeCheck() {
+        // Recursive records and a wide union of records, compiled with the structural checks and with the semtype
+        // subtype engine
+        benchmark("record-unions.bal", "disabled");
+        benchmark("record-unions.bal", "enabled");
+    }
+
+    @Test
+    public void benchmarkParallelCodeGen() {
+        // A package with four modules which only the default module depends on, so that the code of the four
+        // modules can be generated concurrently
+        benchmarkBuild("parallel-codegen", 1);
+        benchmarkBuild("parallel-codegen", CODEGEN_PARALLELISM);
+    }
+
+    private static void benchmarkBuild(String projectDir, int codegenParallelism) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            build(projectDir, codegenParallelism);
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            build(projectDir, codegenParallelism);
+        }
+        long totalTime = System.nanoTime() - startTime;
+        OUT.printf("%s (codegen parallelism %d): %d builds, %.2f ms per build%n", projectDir, codegenParallelism,
+                BENCHMARK_ITERATIONS, totalTime / (BENCHMARK_ITERATIONS * 1_000_000.0));
+    }
+
+    private static void build(String projectDir, int codegenParallelism) {
+        BuildOptions buildOptions = BuildOptions.builder().setCodegenParallelism(codegenParallelism).build();
+        Project project = BCompileUtil.loadProject(SOURCE_DIR + projectDir, buildOptions);
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(project.currentPackage().getCompilation(),
+                JvmTarget.JAVA_21);
+        DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
+        Assert.assertFalse(diagnosticResult.hasErrors(), diagnosticResult.errors().toString());
+    }
+
+    private static void benchmark(String sourceFile, String semTypeCheckMode) {
+        String previousMode = System.setProperty(SEMTYPE_CHECK_PROPERTY, semTypeCheckMode);
+        try {
+            benchmark(sourceFile);
+        } finally {
+            if (previousMode == null) {
+                System.clearProperty(SEMTYPE_CHECK_PROPERTY);
+            } else {
+                System.setProperty(SEMTYPE_CHECK_PROPERTY, previousMode);
+            }
+        }
+    }
+
+    private static CompileResult benchmark(String sourceFile) {
+        CompileResult result = null;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            result = compile(sourceFile);
+        }
+        long startTime = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            result = compile(sourceFile);
+        }
+        long totalTime = System.nanoTime() - startTime;
+        OUT.printf("%s (semtype check %s): %d compilations, %.2f ms per compilation%n", sourceFile,
+                System.getProperty(SEMTYPE_CHECK_PROPERTY, "disabled"), BENCHMARK_ITERATIONS,
+                totalTime / (BENCHMARK_ITERATIONS * 1_000_000.0));
+        Assert.assertNotNull(result);
+        return result;
+    }
+
+    private static CompileResult compile(String sourceFile) {
+        CompileResult result = BCompileUtil.compileOffline(SOURCE_DIR + sourceFile);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import parallel_codegen.orders;
+import parallel_codegen.inventory;
+import parallel_codegen.billing;
+import parallel_codegen.shipping;
+
+public function main() {
+    orders:Item0[] ordersItems = [{id: "orders", quantity: 2, price: 1.5}];
+    decimal _ = orders:total0(ordersItems);
+    string[] _ = orders:select0(ordersItems, 1);
+    inventory:Item0[] inventoryItems = [{id: "inventory", quantity: 2, price: 1.5}];
+    decimal _ = inventory:total0(inventoryItems);
+    string[] _ = inventory:select0(inventoryItems, 1);
+    billing:Item0[] billingItems = [{id: "billing", quantity: 2, price: 1.5}];
+    decimal _ = billing:total0(billingItems);
+    string[] _ = billing:select0(billingItems, 1);
+    shipping:Item0[] shippingItems = [{id: "shipping", quantity: 2, price: 1.5}];
+    decimal _ = shipping:total0(shippingItems);
+    string[] _ = shipping:select0(shippingItems, 1);
+}
@@ -0,0 +1,375 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+public type Item0 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item0? next = ();
+|};
+
+public isolated function total0(Item0[] items) returns decimal {
+    decimal total = 0;
+    foreach Item0 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select0(Item0[] items, int minQuantity) returns string[] {
+    return from Item0 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe0(Item0|error|int|string value) returns string {
+    if value is Item0 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item1 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item1? next = ();
+|};
+
+public isolated function total1(Item1[] items) returns decimal {
+    decimal total = 0;
+    foreach Item1 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select1(Item1[] items, int minQuantity) returns string[] {
+    return from Item1 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe1(Item1|error|int|string value) returns string {
+    if value is Item1 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item2 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item2? next = ();
+|};
+
+public isolated function total2(Item2[] items) returns decimal {
+    decimal total = 0;
+    foreach Item2 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select2(Item2[] items, int minQuantity) returns string[] {
+    return from Item2 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe2(Item2|error|int|string value) returns string {
+    if value is Item2 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item3 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item3? next = ();
+|};
+
+public isolated function total3(Item3[] items) returns decimal {
+    decimal total = 0;
+    foreach Item3 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select3(Item3[] items, int minQuantity) returns string[] {
+    return from Item3 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe3(Item3|error|int|string value) returns string {
+    if value is Item3 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item4 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item4? next = ();
+|};
+
+public isolated function total4(Item4[] items) returns decimal {
+    decimal total = 0;
+    foreach Item4 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select4(Item4[] items, int minQuantity) returns string[] {
+    return from Item4 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe4(Item4|error|int|string value) returns string {
+    if value is Item4 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item5 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item5? next = ();
+|};
+
+public isolated function total5(Item5[] items) returns decimal {
+    decimal total = 0;
+    foreach Item5 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select5(Item5[] items, int minQuantity) returns string[] {
+    return from Item5 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe5(Item5|error|int|string value) returns string {
+    if value is Item5 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item6 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item6? next = ();
+|};
+
+public isolated function total6(Item6[] items) returns decimal {
+    decimal total = 0;
+    foreach Item6 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select6(Item6[] items, int minQuantity) returns string[] {
+    return from Item6 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe6(Item6|error|int|string value) returns string {
+    if value is Item6 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item7 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item7? next = ();
+|};
+
+public isolated function total7(Item7[] items) returns decimal {
+    decimal total = 0;
+    foreach Item7 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select7(Item7[] items, int minQuantity) returns string[] {
+    return from Item7 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe7(Item7|error|int|string value) returns string {
+    if value is Item7 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item8 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item8? next = ();
+|};
+
+public isolated function total8(Item8[] items) returns decimal {
+    decimal total = 0;
+    foreach Item8 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select8(Item8[] items, int minQuantity) returns string[] {
+    return from Item8 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe8(Item8|error|int|string value) returns string {
+    if value is Item8 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
+
+public type Item9 record {|
+    string id;
+    int quantity;
+    decimal price;
+    map<string> tags = {};
+    Item9? next = ();
+|};
+
+public isolated function total9(Item9[] items) returns decimal {
+    decimal total = 0;
+    foreach Item9 item in items {
+        total += item.price * item.quantity;
+    }
+    return total;
+}
+
+public isolated function select9(Item9[] items, int minQuantity) returns string[] {
+    return from Item9 item in items
+        where item.quantity >= minQuantity
+        order by item.price descending
+        select item.id;
+}
+
+public isolated function describe9(Item9|error|int|string value) returns string {
+    if value is Item9 {
+        return value.id;
+    }
+    if value is error {
+        return value.message();
+    }
+    if value is int {
+        return value.toString();
+    }
+    return value;
+}
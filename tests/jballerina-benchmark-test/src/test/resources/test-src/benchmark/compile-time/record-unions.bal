@@ -0,0 +1,532 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Shape0 record {|
+    "shape0" kind;
+    int id;
+    float size;
+    Shape0? next;
+|};
+
+type Shape1 record {|
+    "shape1" kind;
+    int id;
+    float size;
+    Shape1? next;
+|};
+
+type Shape2 record {|
+    "shape2" kind;
+    int id;
+    float size;
+    Shape2? next;
+|};
+
+type Shape3 record {|
+    "shape3" kind;
+    int id;
+    float size;
+    Shape3? next;
+|};
+
+type Shape4 record {|
+    "shape4" kind;
+    int id;
+    float size;
+    Shape4? next;
+|};
+
+type Shape5 record {|
+    "shape5" kind;
+    int id;
+    float size;
+    Shape5? next;
+|};
+
+type Shape6 record {|
+    "shape6" kind;
+    int id;
+    float size;
+    Shape6? next;
+|};
+
+type Shape7 record {|
+    "shape7" kind;
+    int id;
+    float size;
+    Shape7? next;
+|};
+
+type Shape8 record {|
+    "shape8" kind;
+    int id;
+    float size;
+    Shape8? next;
+|};
+
+type Shape9 record {|
+    "shape9" kind;
+    int id;
+    float size;
+    Shape9? next;
+|};
+
+type Shape10 record {|
+    "shape10" kind;
+    int id;
+    float size;
+    Shape10? next;
+|};
+
+type Shape11 record {|
+    "shape11" kind;
+    int id;
+    float size;
+    Shape11? next;
+|};
+
+type Shape12 record {|
+    "shape12" kind;
+    int id;
+    float size;
+    Shape12? next;
+|};
+
+type Shape13 record {|
+    "shape13" kind;
+    int id;
+    float size;
+    Shape13? next;
+|};
+
+type Shape14 record {|
+    "shape14" kind;
+    int id;
+    float size;
+    Shape14? next;
+|};
+
+type Shape15 record {|
+    "shape15" kind;
+    int id;
+    float size;
+    Shape15? next;
+|};
+
+type Shape16 record {|
+    "shape16" kind;
+    int id;
+    float size;
+    Shape16? next;
+|};
+
+type Shape17 record {|
+    "shape17" kind;
+    int id;
+    float size;
+    Shape17? next;
+|};
+
+type Shape18 record {|
+    "shape18" kind;
+    int id;
+    float size;
+    Shape18? next;
+|};
+
+type Shape19 record {|
+    "shape19" kind;
+    int id;
+    float size;
+    Shape19? next;
+|};
+
+type Shape20 record {|
+    "shape20" kind;
+    int id;
+    float size;
+    Shape20? next;
+|};
+
+type Shape21 record {|
+    "shape21" kind;
+    int id;
+    float size;
+    Shape21? next;
+|};
+
+type Shape22 record {|
+    "shape22" kind;
+    int id;
+    float size;
+    Shape22? next;
+|};
+
+type Shape23 record {|
+    "shape23" kind;
+    int id;
+    float size;
+    Shape23? next;
+|};
+
+type Shape24 record {|
+    "shape24" kind;
+    int id;
+    float size;
+    Shape24? next;
+|};
+
+type Shape25 record {|
+    "shape25" kind;
+    int id;
+    float size;
+    Shape25? next;
+|};
+
+type Shape26 record {|
+    "shape26" kind;
+    int id;
+    float size;
+    Shape26? next;
+|};
+
+type Shape27 record {|
+    "shape27" kind;
+    int id;
+    float size;
+    Shape27? next;
+|};
+
+type Shape28 record {|
+    "shape28" kind;
+    int id;
+    float size;
+    Shape28? next;
+|};
+
+type Shape29 record {|
+    "shape29" kind;
+    int id;
+    float size;
+    Shape29? next;
+|};
+
+type Shape Shape0|Shape1|Shape2|Shape3|Shape4|Shape5|Shape6|Shape7|Shape8|Shape9|Shape10|Shape11|Shape12|Shape13|Shape14|Shape15|Shape16|Shape17|Shape18|Shape19|Shape20|Shape21|Shape22|Shape23|Shape24|Shape25|Shape26|Shape27|Shape28|Shape29;
+
+type Container record {|
+    Shape shape;
+    Container? parent;
+|};
+
+function wrap0(Shape0 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape0? next = shape.next;
+    if next is Shape0 {
+        return wrap0(next, container);
+    }
+    return container;
+}
+
+function wrap1(Shape1 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape1? next = shape.next;
+    if next is Shape1 {
+        return wrap1(next, container);
+    }
+    return container;
+}
+
+function wrap2(Shape2 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape2? next = shape.next;
+    if next is Shape2 {
+        return wrap2(next, container);
+    }
+    return container;
+}
+
+function wrap3(Shape3 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape3? next = shape.next;
+    if next is Shape3 {
+        return wrap3(next, container);
+    }
+    return container;
+}
+
+function wrap4(Shape4 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape4? next = shape.next;
+    if next is Shape4 {
+        return wrap4(next, container);
+    }
+    return container;
+}
+
+function wrap5(Shape5 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape5? next = shape.next;
+    if next is Shape5 {
+        return wrap5(next, container);
+    }
+    return container;
+}
+
+function wrap6(Shape6 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape6? next = shape.next;
+    if next is Shape6 {
+        return wrap6(next, container);
+    }
+    return container;
+}
+
+function wrap7(Shape7 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape7? next = shape.next;
+    if next is Shape7 {
+        return wrap7(next, container);
+    }
+    return container;
+}
+
+function wrap8(Shape8 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape8? next = shape.next;
+    if next is Shape8 {
+        return wrap8(next, container);
+    }
+    return container;
+}
+
+function wrap9(Shape9 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape9? next = shape.next;
+    if next is Shape9 {
+        return wrap9(next, container);
+    }
+    return container;
+}
+
+function wrap10(Shape10 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape10? next = shape.next;
+    if next is Shape10 {
+        return wrap10(next, container);
+    }
+    return container;
+}
+
+function wrap11(Shape11 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape11? next = shape.next;
+    if next is Shape11 {
+        return wrap11(next, container);
+    }
+    return container;
+}
+
+function wrap12(Shape12 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape12? next = shape.next;
+    if next is Shape12 {
+        return wrap12(next, container);
+    }
+    return container;
+}
+
+function wrap13(Shape13 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape13? next = shape.next;
+    if next is Shape13 {
+        return wrap13(next, container);
+    }
+    return container;
+}
+
+function wrap14(Shape14 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape14? next = shape.next;
+    if next is Shape14 {
+        return wrap14(next, container);
+    }
+    return container;
+}
+
+function wrap15(Shape15 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape15? next = shape.next;
+    if next is Shape15 {
+        return wrap15(next, container);
+    }
+    return container;
+}
+
+function wrap16(Shape16 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape16? next = shape.next;
+    if next is Shape16 {
+        return wrap16(next, container);
+    }
+    return container;
+}
+
+function wrap17(Shape17 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape17? next = shape.next;
+    if next is Shape17 {
+        return wrap17(next, container);
+    }
+    return container;
+}
+
+function wrap18(Shape18 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape18? next = shape.next;
+    if next is Shape18 {
+        return wrap18(next, container);
+    }
+    return container;
+}
+
+function wrap19(Shape19 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape19? next = shape.next;
+    if next is Shape19 {
+        return wrap19(next, container);
+    }
+    return container;
+}
+
+function wrap20(Shape20 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape20? next = shape.next;
+    if next is Shape20 {
+        return wrap20(next, container);
+    }
+    return container;
+}
+
+function wrap21(Shape21 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape21? next = shape.next;
+    if next is Shape21 {
+        return wrap21(next, container);
+    }
+    return container;
+}
+
+function wrap22(Shape22 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape22? next = shape.next;
+    if next is Shape22 {
+        return wrap22(next, container);
+    }
+    return container;
+}
+
+function wrap23(Shape23 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape23? next = shape.next;
+    if next is Shape23 {
+        return wrap23(next, container);
+    }
+    return container;
+}
+
+function wrap24(Shape24 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape24? next = shape.next;
+    if next is Shape24 {
+        return wrap24(next, container);
+    }
+    return container;
+}
+
+function wrap25(Shape25 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape25? next = shape.next;
+    if next is Shape25 {
+        return wrap25(next, container);
+    }
+    return container;
+}
+
+function wrap26(Shape26 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape26? next = shape.next;
+    if next is Shape26 {
+        return wrap26(next, container);
+    }
+    return container;
+}
+
+function wrap27(Shape27 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape27? next = shape.next;
+    if next is Shape27 {
+        return wrap27(next, container);
+    }
+    return container;
+}
+
+function wrap28(Shape28 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape28? next = shape.next;
+    if next is Shape28 {
+        return wrap28(next, container);
+    }
+    return container;
+}
+
+function wrap29(Shape29 shape, Container? parent) returns Container {
+    Shape member = shape;
+    Container container = {shape: member, parent};
+    Shape29? next = shape.next;
+    if next is Shape29 {
+        return wrap29(next, container);
+    }
+    return container;
+}
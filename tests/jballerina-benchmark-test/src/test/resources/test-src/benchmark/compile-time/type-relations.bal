@@ -0,0 +1,824 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Address record {|
+    string street;
+    string city;
+    string country;
+    int? zip;
+|};
+
+type Person record {|
+    string name;
+    int age;
+    Address address;
+    string[] emails;
+|};
+
+type Employee record {|
+    *Person;
+    int id;
+    decimal salary;
+    Employee? manager;
+|};
+
+type Customer record {|
+    *Person;
+    string customerId;
+    map<string> preferences;
+|};
+
+type Entity Employee|Customer|Address;
+
+type Event record {|
+    string kind;
+    Entity subject;
+    json payload;
+|};
+
+function toPerson(Employee|Customer entity) returns Person {
+    return {name: entity.name, age: entity.age, address: entity.address, emails: entity.emails};
+}
+
+function describe(Entity entity) returns string {
+    if entity is Employee {
+        return entity.name;
+    }
+    if entity is Customer {
+        return entity.customerId;
+    }
+    return entity.city;
+}
+
+function process0(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process1(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process2(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process3(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process4(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process5(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process6(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process7(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process8(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process9(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process10(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process11(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process12(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process13(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process14(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process15(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process16(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process17(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process18(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process19(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process20(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process21(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process22(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process23(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process24(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process25(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process26(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process27(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process28(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process29(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process30(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process31(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process32(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process33(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process34(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process35(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process36(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process37(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process38(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
+
+function process39(Event[] events) returns Person[] {
+    Person[] people = [];
+    foreach Event event in events {
+        Entity subject = event.subject;
+        if subject is Employee|Customer {
+            Person person = toPerson(subject);
+            people.push(person);
+        }
+        string description = describe(subject);
+        json payload = {kind: event.kind, description};
+        anydata|error value = payload.cloneWithType();
+        if value is map<anydata> {
+            Event copy = {kind: event.kind, subject, payload: value.toJson()};
+            events.push(copy);
+        }
+    }
+    return people;
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.debugger.test.adapter.variables;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.ballerinalang.debugger.test.BaseTestCase;
+import org.ballerinalang.debugger.test.utils.BallerinaTestDebugPoint;
+import org.ballerinalang.debugger.test.utils.DebugTestRunner;
+import org.ballerinalang.debugger.test.utils.DebugUtils;
+import org.ballerinalang.test.context.BallerinaTestException;
+import org.eclipse.lsp4j.debug.StoppedEventArguments;
+import org.eclipse.lsp4j.debug.Variable;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+
+/**
+ * Test class for the visibility of string variables built by concatenation.
+ */
+public class StringVariableTest extends BaseTestCase {
+
+    DebugTestRunner debugTestRunner;
+
+    @Override
+    @BeforeClass
+    public void setup() {
+        String testProjectName = "basic-project";
+        String testSingleFileName = "string_variables.bal";
+        debugTestRunner = new DebugTestRunner(testProjectName, testSingleFileName, false);
+    }
+
+    @Test(description = "Variable visibility test for strings built by concatenating to large strings")
+    public void concatenatedStringVisibilityTest() throws BallerinaTestException {
+        debugTestRunner.addBreakPoint(new BallerinaTestDebugPoint(debugTestRunner.testEntryFilePath, 24));
+        debugTestRunner.initDebugSession(DebugUtils.DebuggeeExecutionKind.RUN);
+        Pair<BallerinaTestDebugPoint, StoppedEventArguments> debugHitInfo = debugTestRunner.waitForDebugHit(25000);
+        Map<String, Variable> localVariables = debugTestRunner.fetchVariables(debugHitInfo.getRight(),
+                DebugTestRunner.VariableScope.LOCAL);
+
+        String text = "a".repeat(1100);
+        // flattened by the substring call
+        debugTestRunner.assertVariable(localVariables, "text", "\"" + text + "\"", "string");
+        debugTestRunner.assertVariable(localVariables, "prefix", "\"aaaa\"", "string");
+        // not flattened before being fetched by the debugger
+        debugTestRunner.assertVariable(localVariables, "concatenated", "\"" + text + "end\"", "string");
+    }
+
+    @Override
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        debugTestRunner.terminateDebugSession();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.test;
+
+import org.ballerinalang.model.symbols.SymbolKind;
+import org.ballerinalang.model.symbols.SymbolOrigin;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.SemTypeResolver;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeDefinitionSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static io.ballerina.test.utils.Constants.DISABLED_FILE;
+import static io.ballerina.test.utils.Constants.FAILING_FILE;
+import static io.ballerina.test.utils.Constants.SUBTYPE_SYMBOL;
+
+/**
+ * Compares the assignability checks of {@link Types} with the subtype checks of the semantic type engine.
+ * <p>
+ * The structural checks are sound but not complete, hence every relation found by them must also be found by the
+ * semantic type engine, while the semantic type engine may find relations which the structural checks do not.
+ *
+ * @since 2201.11.0
+ */
+public class SemTypeDifferentialTest {
+
+    private final Types types = Types.getInstance(new CompilerContext());
+
+    @DataProvider(name = "filePathProvider")
+    public Object[] filePathProvider() {
+        File dir = Path.of("src/test/resources/test-src").toFile();
+        List<String> files = new ArrayList<>();
+        for (File file : Objects.requireNonNull(dir.listFiles())) {
+            String fileName = file.getName();
+            if (fileName.endsWith(FAILING_FILE) || fileName.endsWith(DISABLED_FILE)) {
+                continue;
+            }
+            files.add(file.getAbsolutePath());
+        }
+        return files.toArray();
+    }
+
+    @Test(dataProvider = "filePathProvider")
+    public void testSemTypeRelationsAgreeWithTypes(String filePath) {
+        List<BTypeDefinitionSymbol> typeDefinitions = typeDefinitions(filePath);
+        SemTypeResolver semTypeResolver = new SemTypeResolver();
+        List<String> missingRelations = new ArrayList<>();
+        for (BTypeDefinitionSymbol source : typeDefinitions) {
+            for (BTypeDefinitionSymbol target : typeDefinitions) {
+                Optional<Boolean> semTypeResult = semTypeResolver.isSubtype(source.type, target.type);
+                if (semTypeResult.isPresent() && !semTypeResult.get() &&
+                        types.isAssignable(source.type, target.type)) {
+                    missingRelations.add(relation(source, target));
+                }
+            }
+        }
+        Assert.assertTrue(missingRelations.isEmpty(), "relations not found by the semtype engine: " +
+                missingRelations);
+    }
+
+    @Test
+    public void testSemTypeRelationsOfRecordUnions() {
+        List<BTypeDefinitionSymbol> typeDefinitions =
+                typeDefinitions(Path.of("src/test/resources/test-src/record-union1.bal").toString());
+        SemTypeResolver semTypeResolver = new SemTypeResolver();
+        List<String> relations = new ArrayList<>();
+        for (BTypeDefinitionSymbol source : typeDefinitions) {
+            for (BTypeDefinitionSymbol target : typeDefinitions) {
+                Optional<Boolean> semTypeResult = semTypeResolver.isSubtype(source.type, target.type);
+                Assert.assertTrue(semTypeResult.isPresent(), "unsupported types: " + relation(source, target));
+                if (source != target && semTypeResult.get()) {
+                    relations.add(relation(source, target));
+                }
+            }
+        }
+        // A record with a union typed discriminator is a subtype of the union of the records with each of the
+        // discriminator values, which the structural checks do not detect.
+        Assert.assertTrue(relations.contains("RK" + SUBTYPE_SYMBOL + "U"));
+        Assert.assertTrue(relations.contains("U" + SUBTYPE_SYMBOL + "RK"));
+        Assert.assertFalse(types.isAssignable(typeDefinition(typeDefinitions, "RK").type,
+                typeDefinition(typeDefinitions, "U").type));
+        Assert.assertEquals(relations.size(), 13);
+    }
+
+    private static List<BTypeDefinitionSymbol> typeDefinitions(String filePath) {
+        CompileResult compileResult = BCompileUtil.compile(filePath);
+        BLangPackage bLangPackage = (BLangPackage) compileResult.getAST();
+        List<BTypeDefinitionSymbol> typeDefinitions = new ArrayList<>();
+        for (Scope.ScopeEntry value : bLangPackage.symbol.scope.entries.values()) {
+            BSymbol bSymbol = value.symbol;
+            if (bSymbol.kind == SymbolKind.TYPE_DEF && bSymbol.origin == SymbolOrigin.SOURCE) {
+                typeDefinitions.add((BTypeDefinitionSymbol) bSymbol);
+            }
+        }
+        return typeDefinitions;
+    }
+
+    private static BTypeDefinitionSymbol typeDefinition(List<BTypeDefinitionSymbol> typeDefinitions, String name) {
+        for (BTypeDefinitionSymbol typeDefinition : typeDefinitions) {
+            if (typeDefinition.name.getValue().equals(name)) {
+                return typeDefinition;
+            }
+        }
+        throw new IllegalArgumentException("type definition not found: " + name);
+    }
+
+    private static String relation(BTypeDefinitionSymbol source, BTypeDefinitionSymbol target) {
+        return source.name.getValue() + SUBTYPE_SYMBOL + target.name.getValue();
+    }
+}
@@ -0,0 +1,37 @@
+// R1<:U
+// R2<:U
+// R1<:RK
+// R2<:RK
+// U<:RK
+// R1<:M
+// R2<:M
+// U<:M
+// RK<:M
+// B<:I
+// B<:BY
+// BY<:I
+
+type R1 record {|
+    "a" kind;
+    int value;
+|};
+
+type R2 record {|
+    "b" kind;
+    int value;
+|};
+
+type U R1|R2;
+
+type RK record {|
+    "a"|"b" kind;
+    int value;
+|};
+
+type M map<int|string>;
+
+type B 1|2;
+
+type BY byte;
+
+type I int;
@@ -19,12 +19,16 @@
 package org.ballerinalang.nativeimpl.jvm.runtime.api.tests;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.FunctionInvoker;
+import io.ballerina.runtime.api.MethodInvoker;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.MethodType;
 import io.ballerina.runtime.api.types.ObjectType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BNever;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.types.BObjectType;
 import io.ballerina.runtime.internal.types.BServiceType;
@@ -72,6 +76,27 @@ public final class Async {
         return startNonIsolatedWorker(env, obj, "getFieldValWithDefaultValSpecialCharsAsync");
     }
 
+    public static long resolvedGetFieldValWithRequiredArg(Environment env, BObject obj, long num) {
+        MethodInvoker invoker = env.getRuntime().resolveMethod(
+                (ObjectType) TypeUtils.getImpliedType(obj.getOriginalType()), "getFieldValWithRequiredArg");
+        invoker.call(obj, new StrandMetadata(false, null), num);
+        return (long) invoker.call(obj, new StrandMetadata(true, null), num);
+    }
+
+    public static long resolvedGetFieldValWithMultipleOptionalArgs(Environment env, BObject obj, long a) {
+        MethodInvoker invoker = env.getRuntime().resolveMethod(
+                (ObjectType) TypeUtils.getImpliedType(obj.getOriginalType()), "getFieldValWithMultipleOptionalArgs");
+        // The default values of the parameters are computed on each call, based on the provided arguments
+        long withDefaultVals = (long) invoker.call(obj, null);
+        long withProvidedVal = (long) invoker.call(obj, null, a, BNever.getValue(), BNever.getValue());
+        return withDefaultVals + withProvidedVal;
+    }
+
+    public static long resolvedAddWithDefaultVal(Environment env, long a) {
+        FunctionInvoker invoker = env.getRuntime().resolveFunction(env.getCurrentModule(), "addWithDefaultVal");
+        return (long) invoker.call(null, a);
+    }
+
     public static long getA(Environment env, BObject obj) {
         return startIsolatedWorker(env, obj, "getA");
     }
@@ -97,8 +97,27 @@ public class ObjectMethodsCallClass {
         name: "getFieldValWithDefaultValSpecialCharsAsync",
         'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
     } external;
+
+    public function callResolvedGetFieldValWithRequiredArg(int num) returns int = @java:Method {
+        name: "resolvedGetFieldValWithRequiredArg",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
+
+    public function callResolvedGetFieldValWithMultipleOptionalArgs(int a) returns int = @java:Method {
+        name: "resolvedGetFieldValWithMultipleOptionalArgs",
+        'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+    } external;
 }
 
+public function addWithDefaultVal(int a, int b = a + 1) returns int {
+    return a + b;
+}
+
+function callResolvedAddWithDefaultVal(int a) returns int = @java:Method {
+    name: "resolvedAddWithDefaultVal",
+    'class: "org.ballerinalang.nativeimpl.jvm.runtime.api.tests.Async"
+} external;
+
 public isolated class IsolatedClass {
 
     public final int a = 1;
@@ -317,6 +336,9 @@ public function main() {
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithProvidedOptionalArgVal("not a field"), -1);
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithDefaultValSpecialChars(), 12);
     test:assertEquals(objectMethodsCallClass.callGetFieldValWithDefaultValSpecialCharsAsync(), 12);
+    test:assertEquals(objectMethodsCallClass.callResolvedGetFieldValWithRequiredArg(5), 25);
+    test:assertEquals(objectMethodsCallClass.callResolvedGetFieldValWithMultipleOptionalArgs(2), 20);
+    test:assertEquals(callResolvedAddWithDefaultVal(3), 7);
 
     IsolatedClass isolatedClass = new ();
     test:assertEquals(isolatedClass.callGetA(), 1);